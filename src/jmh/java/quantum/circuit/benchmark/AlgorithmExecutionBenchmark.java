@@ -0,0 +1,52 @@
+package quantum.circuit.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import quantum.circuit.algorithm.AlgorithmType;
+import quantum.circuit.domain.circuit.QubitIndex;
+import quantum.circuit.domain.circuit.QuantumCircuit;
+import quantum.circuit.domain.state.QuantumState;
+
+/**
+ * 내장 알고리즘 회로의 QuantumCircuit.execute() 비용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AlgorithmExecutionBenchmark {
+
+    private static final QubitIndex FIRST_QUBIT = new QubitIndex(0);
+
+    @Param({"BELL_STATE", "GHZ_STATE", "QFT", "GROVER", "DEUTSCH_JOZSA"})
+    private String algorithm;
+
+    private QuantumCircuit circuit;
+
+    @Setup
+    public void setUp() {
+        AlgorithmType type = AlgorithmType.valueOf(algorithm);
+        circuit = type.create().build(type.getRequiredQubits());
+    }
+
+    @Benchmark
+    public double execute() {
+        try (QuantumState state = circuit.execute()) {
+            return state.getProbabilityOfOne(FIRST_QUBIT).getValue();
+        }
+    }
+}
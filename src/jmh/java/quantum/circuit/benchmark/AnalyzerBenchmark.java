@@ -0,0 +1,64 @@
+package quantum.circuit.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import quantum.circuit.analyzer.AnalysisReport;
+import quantum.circuit.analyzer.CircuitAnalyzer;
+import quantum.circuit.domain.circuit.QuantumCircuit;
+
+/**
+ * CircuitAnalyzer.performAnalysis 비용
+ * analyze는 매번 새 분석기로 순회 비용을, analyzeMemoized는 같은 분석기로 기억된 결과를 찾는 비용을 잰다.
+ * analyzeMemoizedConcurrently는 여러 스레드가 한 분석기의 동기화된 기억 맵을 함께 조회하는 비용을 잰다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AnalyzerBenchmark {
+
+    private static final int QUBIT_COUNT = 16;
+
+    @Param({"100", "10000"})
+    private int layerCount;
+
+    private QuantumCircuit circuit;
+    private CircuitAnalyzer sharedAnalyzer;
+
+    @Setup
+    public void setUp() {
+        circuit = BenchmarkCircuits.layered(QUBIT_COUNT, layerCount);
+        sharedAnalyzer = new CircuitAnalyzer();
+    }
+
+    @Benchmark
+    public AnalysisReport analyze() {
+        return new CircuitAnalyzer().performAnalysis(circuit);
+    }
+
+    @Benchmark
+    public AnalysisReport analyzeMemoized() {
+        return sharedAnalyzer.performAnalysis(circuit);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public AnalysisReport analyzeMemoizedConcurrently() {
+        return sharedAnalyzer.performAnalysis(circuit);
+    }
+}
@@ -0,0 +1,66 @@
+package quantum.circuit.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import quantum.circuit.domain.circuit.CircuitStep;
+import quantum.circuit.domain.circuit.QubitIndex;
+import quantum.circuit.domain.circuit.QuantumCircuit;
+import quantum.circuit.domain.circuit.QuantumCircuitBuilder;
+import quantum.circuit.domain.gate.CNOTGate;
+import quantum.circuit.domain.gate.HadamardGate;
+import quantum.circuit.domain.gate.PauliXGate;
+import quantum.circuit.domain.gate.PauliZGate;
+import quantum.circuit.domain.gate.QuantumGate;
+
+/**
+ * JMH 벤치마크용 회로 생성기
+ * 층 하나는 단일 큐비트 게이트 Step 두 개와 CNOT Step 하나로 이루어지므로
+ * 상쇄, 융합, 압축 최적화가 모두 할 일이 있는 회로가 만들어진다. 같은 seed는 항상 같은 회로를 만든다.
+ */
+final class BenchmarkCircuits {
+
+    static final long DEFAULT_SEED = 42L;
+
+    private BenchmarkCircuits() {
+    }
+
+    static QuantumCircuit layered(int qubitCount, int layerCount) {
+        Random random = new Random(DEFAULT_SEED);
+        QuantumCircuitBuilder builder = new QuantumCircuitBuilder().withQubits(qubitCount);
+        for (int layer = 0; layer < layerCount; layer++) {
+            builder.addStep(singleQubitStep(qubitCount, random));
+            builder.addStep(singleQubitStep(qubitCount, random));
+            if (qubitCount > 1) {
+                builder.addStep(cnotStep(qubitCount, layer % 2));
+            }
+        }
+        return builder.build();
+    }
+
+    private static CircuitStep singleQubitStep(int qubitCount, Random random) {
+        List<QuantumGate> gates = new ArrayList<>(qubitCount);
+        for (int qubit = 0; qubit < qubitCount; qubit++) {
+            QubitIndex target = new QubitIndex(qubit);
+            gates.add(switch (random.nextInt(3)) {
+                case 0 -> new HadamardGate(target);
+                case 1 -> new PauliXGate(target);
+                default -> new PauliZGate(target);
+            });
+        }
+        return new CircuitStep(gates);
+    }
+
+    /**
+     * 인접한 큐비트 쌍에 CNOT을 건다. 층마다 쌍의 시작 위치를 바꿔 얽힘이 회로 전체로 퍼지게 한다.
+     */
+    private static CircuitStep cnotStep(int qubitCount, int offset) {
+        int start = qubitCount > 2 ? offset : 0;
+        List<QuantumGate> gates = new ArrayList<>();
+        for (int control = start; control + 1 < qubitCount; control += 2) {
+            gates.add(new CNOTGate(new QubitIndex(control), new QubitIndex(control + 1)));
+        }
+        return new CircuitStep(gates);
+    }
+}
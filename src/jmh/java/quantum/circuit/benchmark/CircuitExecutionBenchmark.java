@@ -0,0 +1,68 @@
+package quantum.circuit.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import quantum.circuit.domain.circuit.CompiledCircuit;
+import quantum.circuit.domain.circuit.QubitIndex;
+import quantum.circuit.domain.circuit.QuantumCircuit;
+import quantum.circuit.domain.state.QuantumState;
+
+/**
+ * 큐비트 수와 Executor별 QuantumCircuit.execute()와 컴파일된 프로그램 실행 비용
+ * Executor는 시스템 프로퍼티 quantum.executor로 고르며, 파라미터 조합마다 별도 fork에서 실행되므로 서로 섞이지 않는다.
+ * preview 백엔드(STATE_VECTOR_SIMD, OFF_HEAP)는 ./gradlew jmh -PpreviewBackends로 실행할 때 파라미터에 추가된다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CircuitExecutionBenchmark {
+
+    private static final String EXECUTOR_PROPERTY = "quantum.executor";
+    private static final int LAYER_COUNT = 10;
+    private static final QubitIndex FIRST_QUBIT = new QubitIndex(0);
+
+    @Param({"8", "12", "16", "20"})
+    private int qubitCount;
+
+    @Param({"STATE_VECTOR", "SPARSE"})
+    private String executor;
+
+    private QuantumCircuit circuit;
+    private CompiledCircuit program;
+
+    @Setup
+    public void setUp() {
+        System.setProperty(EXECUTOR_PROPERTY, executor);
+        circuit = BenchmarkCircuits.layered(qubitCount, LAYER_COUNT);
+        program = circuit.compile();
+    }
+
+    @Benchmark
+    public double execute() {
+        try (QuantumState state = circuit.execute()) {
+            return state.getProbabilityOfOne(FIRST_QUBIT).getValue();
+        }
+    }
+
+    @Benchmark
+    public double executeCompiled() {
+        try (QuantumState state = program.execute()) {
+            return state.getProbabilityOfOne(FIRST_QUBIT).getValue();
+        }
+    }
+}
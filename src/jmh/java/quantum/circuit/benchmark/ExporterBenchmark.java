@@ -0,0 +1,71 @@
+package quantum.circuit.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import quantum.circuit.domain.circuit.QuantumCircuit;
+import quantum.circuit.domain.state.QuantumState;
+import quantum.circuit.exporter.CircuitResultExporter;
+
+/**
+ * CircuitResultExporter의 최종 상태 출력과 단계별 출력 비용 (임시 파일에 쓴다)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ExporterBenchmark {
+
+    private static final int LAYER_COUNT = 5;
+    private static final String CIRCUIT_NAME = "Benchmark";
+
+    @Param({"4", "10", "16"})
+    private int qubitCount;
+
+    @Param({"false", "true"})
+    private boolean gzip;
+
+    private QuantumCircuit circuit;
+    private QuantumState state;
+    private Path output;
+
+    @Setup
+    public void setUp() throws IOException {
+        circuit = BenchmarkCircuits.layered(qubitCount, LAYER_COUNT);
+        state = circuit.execute();
+        output = Files.createTempFile("quantum-benchmark", ".json");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        state.close();
+        Files.deleteIfExists(output);
+    }
+
+    @Benchmark
+    public void exportToJson() {
+        CircuitResultExporter.exportToJson(circuit, state, CIRCUIT_NAME, output.toString(), gzip);
+    }
+
+    @Benchmark
+    public void exportStepByStep() {
+        CircuitResultExporter.exportStepByStep(circuit, CIRCUIT_NAME, output.toString(), gzip);
+    }
+}
@@ -0,0 +1,73 @@
+package quantum.circuit.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import quantum.circuit.domain.circuit.QuantumCircuit;
+import quantum.circuit.optimizer.CircuitOptimizer;
+import quantum.circuit.optimizer.GateFusionOptimizer;
+import quantum.circuit.optimizer.IdentityGateRemover;
+import quantum.circuit.optimizer.LayerCompactionOptimizer;
+import quantum.circuit.optimizer.OptimizationPipeline;
+import quantum.circuit.optimizer.RedundantGateRemover;
+
+/**
+ * 각 CircuitOptimizer와 최적화 모드 파이프라인의 회로 크기별 비용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class OptimizerBenchmark {
+
+    private static final int QUBIT_COUNT = 16;
+
+    @Param({"REDUNDANT_GATE_REMOVER", "IDENTITY_GATE_REMOVER", "GATE_FUSION", "LAYER_COMPACTION", "PIPELINE"})
+    private String optimizerName;
+
+    @Param({"100", "1000"})
+    private int layerCount;
+
+    private CircuitOptimizer optimizer;
+    private QuantumCircuit circuit;
+
+    @Setup
+    public void setUp() {
+        optimizer = createOptimizer(optimizerName);
+        circuit = BenchmarkCircuits.layered(QUBIT_COUNT, layerCount);
+    }
+
+    private static CircuitOptimizer createOptimizer(String name) {
+        return switch (name) {
+            case "REDUNDANT_GATE_REMOVER" -> new RedundantGateRemover();
+            case "IDENTITY_GATE_REMOVER" -> new IdentityGateRemover();
+            case "GATE_FUSION" -> new GateFusionOptimizer();
+            case "LAYER_COMPACTION" -> new LayerCompactionOptimizer();
+            case "PIPELINE" -> new OptimizationPipeline(List.of(
+                    new RedundantGateRemover(),
+                    new IdentityGateRemover(),
+                    new LayerCompactionOptimizer()
+            ));
+            default -> throw new IllegalArgumentException("[ERROR] 알 수 없는 최적화입니다: " + name);
+        };
+    }
+
+    @Benchmark
+    public QuantumCircuit optimize() {
+        return optimizer.optimize(circuit);
+    }
+}
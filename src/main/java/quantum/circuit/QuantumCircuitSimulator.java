@@ -2,6 +2,7 @@ package quantum.circuit;
 
 import java.util.List;
 
+import quantum.circuit.cache.CircuitResultCache;
 import quantum.circuit.domain.circuit.CircuitStep;
 import quantum.circuit.domain.circuit.QuantumCircuit;
 import quantum.circuit.domain.circuit.QuantumCircuitBuilder;
@@ -32,8 +33,9 @@ public class QuantumCircuitSimulator {
         OutputView.printCircuit(circuit);
         OutputView.printNewLine();
 
-        QuantumState state = circuit.execute();
-        OutputView.printState(state);
+        try (QuantumState state = CircuitResultCache.shared().execute(circuit)) {
+            OutputView.printState(state);
+        }
         OutputView.printSeparator();
     }
 }
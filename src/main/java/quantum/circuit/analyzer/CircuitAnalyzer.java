@@ -1,17 +1,38 @@
 package quantum.circuit.analyzer;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import quantum.circuit.analyzer.metric.CircuitDepthMetric;
 import quantum.circuit.analyzer.metric.CircuitMetric;
 import quantum.circuit.analyzer.metric.ComplexityMetric;
 import quantum.circuit.analyzer.metric.EntanglementMetric;
 import quantum.circuit.analyzer.metric.GateCountMetric;
+import quantum.circuit.analyzer.metric.MetricAccumulator;
+import quantum.circuit.domain.circuit.CircuitStep;
 import quantum.circuit.domain.circuit.QuantumCircuit;
+import quantum.circuit.domain.gate.QuantumGate;
 
+/**
+ * 등록된 모든 메트릭을 회로 한 번의 순회로 계산한다.
+ * QuantumCircuit은 생성 후 바뀌지 않으므로 분석 결과를 회로 인스턴스별로 기억해 두고,
+ * 회로가 더 이상 참조되지 않으면 결과도 함께 GC된다.
+ * 정적 analyze()의 공유 분석기는 동시 벤치마크 스레드에서도 호출되므로 기억 맵은 synchronizedMap으로 감싼다.
+ * 순회는 잠금 밖에서 하므로 같은 회로를 동시에 처음 분석하면 결과가 두 번 계산될 수 있지만 값은 같다.
+ */
 public class CircuitAnalyzer {
 
+    private static final int NOT_REGISTERED = -1;
+    private static final CircuitAnalyzer DEFAULT_ANALYZER = new CircuitAnalyzer();
+
     private final List<CircuitMetric> metrics;
+    private final int depthIndex;
+    private final int gateCountIndex;
+    private final int complexityIndex;
+    private final int entanglementIndex;
+    private final Map<QuantumCircuit, AnalysisReport> reports = Collections.synchronizedMap(new WeakHashMap<>());
 
     public CircuitAnalyzer() {
         this(createDefaultMetrics());
@@ -19,6 +40,10 @@ public class CircuitAnalyzer {
 
     public CircuitAnalyzer(List<CircuitMetric> metrics) {
         this.metrics = List.copyOf(metrics);
+        this.depthIndex = indexOf(CircuitDepthMetric.class);
+        this.gateCountIndex = indexOf(GateCountMetric.class);
+        this.complexityIndex = indexOf(ComplexityMetric.class);
+        this.entanglementIndex = indexOf(EntanglementMetric.class);
     }
 
     private static List<CircuitMetric> createDefaultMetrics() {
@@ -30,25 +55,63 @@ public class CircuitAnalyzer {
         );
     }
 
-    public AnalysisReport performAnalysis(QuantumCircuit circuit) {
-        int depth = calculateMetric(circuit, CircuitDepthMetric.class);
-        int gateCount = calculateMetric(circuit, GateCountMetric.class);
-        int complexity = calculateMetric(circuit, ComplexityMetric.class);
-        int entanglement = calculateMetric(circuit, EntanglementMetric.class);
+    private int indexOf(Class<? extends CircuitMetric> metricClass) {
+        for (int i = 0; i < metrics.size(); i++) {
+            if (metricClass.isInstance(metrics.get(i))) {
+                return i;
+            }
+        }
+        return NOT_REGISTERED;
+    }
 
-        return new AnalysisReport(depth, gateCount, complexity, entanglement);
+    public AnalysisReport performAnalysis(QuantumCircuit circuit) {
+        AnalysisReport cached = reports.get(circuit);
+        if (cached != null) {
+            return cached;
+        }
+        AnalysisReport report = traverse(circuit);
+        reports.put(circuit, report);
+        return report;
     }
 
+    /**
+     * 기본 메트릭으로 분석하며, 같은 회로의 결과는 재사용한다.
+     */
     public static AnalysisReport analyze(QuantumCircuit circuit) {
-        return new CircuitAnalyzer().performAnalysis(circuit);
+        return DEFAULT_ANALYZER.performAnalysis(circuit);
+    }
+
+    private AnalysisReport traverse(QuantumCircuit circuit) {
+        List<MetricAccumulator> accumulators = metrics.stream()
+                .map(metric -> metric.createAccumulator(circuit))
+                .toList();
+        for (CircuitStep step : circuit.getSteps()) {
+            for (MetricAccumulator accumulator : accumulators) {
+                accumulator.visitStep(step);
+            }
+            for (QuantumGate gate : step.getGates()) {
+                for (MetricAccumulator accumulator : accumulators) {
+                    accumulator.visitGate(gate);
+                }
+            }
+        }
+
+        int[] results = accumulators.stream()
+                .mapToInt(MetricAccumulator::getResult)
+                .toArray();
+        return new AnalysisReport(
+                resultAt(results, depthIndex),
+                resultAt(results, gateCountIndex),
+                resultAt(results, complexityIndex),
+                resultAt(results, entanglementIndex)
+        );
     }
 
-    private int calculateMetric(QuantumCircuit circuit, Class<? extends CircuitMetric> metricClass) {
-        return metrics.stream()
-                .filter(metricClass::isInstance)
-                .findFirst()
-                .map(metric -> metric.calculate(circuit))
-                .orElse(0);
+    private int resultAt(int[] results, int index) {
+        if (index == NOT_REGISTERED) {
+            return 0;
+        }
+        return results[index];
     }
 
     public int getMetricCount() {
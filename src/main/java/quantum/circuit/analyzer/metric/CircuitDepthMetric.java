@@ -1,5 +1,6 @@
 package quantum.circuit.analyzer.metric;
 
+import quantum.circuit.domain.circuit.CircuitStep;
 import quantum.circuit.domain.circuit.QuantumCircuit;
 
 public class CircuitDepthMetric implements CircuitMetric {
@@ -11,6 +12,23 @@ public class CircuitDepthMetric implements CircuitMetric {
         return circuit.getDepth();
     }
 
+    @Override
+    public MetricAccumulator createAccumulator(QuantumCircuit circuit) {
+        return new MetricAccumulator() {
+            private int depth;
+
+            @Override
+            public void visitStep(CircuitStep step) {
+                depth++;
+            }
+
+            @Override
+            public int getResult() {
+                return depth;
+            }
+        };
+    }
+
     @Override
     public String getMetricName() {
         return METRIC_NAME;
@@ -7,4 +7,12 @@ public interface CircuitMetric {
     int calculate(QuantumCircuit circuit);
 
     String getMetricName();
+
+    /**
+     * 여러 메트릭을 한 번의 순회로 함께 계산할 때 쓰는 누산기
+     * 기본 구현은 순회를 무시하고 calculate 결과를 그대로 돌려준다.
+     */
+    default MetricAccumulator createAccumulator(QuantumCircuit circuit) {
+        return () -> calculate(circuit);
+    }
 }
@@ -18,6 +18,23 @@ public class ComplexityMetric implements CircuitMetric {
                 .sum();
     }
 
+    @Override
+    public MetricAccumulator createAccumulator(QuantumCircuit circuit) {
+        return new MetricAccumulator() {
+            private int complexity;
+
+            @Override
+            public void visitGate(QuantumGate gate) {
+                complexity += getGateWeight(gate);
+            }
+
+            @Override
+            public int getResult() {
+                return complexity;
+            }
+        };
+    }
+
     private int getGateWeight(QuantumGate gate) {
         if (gate instanceof CNOTGate) {
             return TWO_QUBIT_GATE_WEIGHT;
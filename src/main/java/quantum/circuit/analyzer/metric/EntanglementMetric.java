@@ -2,6 +2,7 @@ package quantum.circuit.analyzer.metric;
 
 import quantum.circuit.domain.circuit.QuantumCircuit;
 import quantum.circuit.domain.gate.CNOTGate;
+import quantum.circuit.domain.gate.QuantumGate;
 
 public class EntanglementMetric implements CircuitMetric {
 
@@ -15,6 +16,25 @@ public class EntanglementMetric implements CircuitMetric {
                 .count();
     }
 
+    @Override
+    public MetricAccumulator createAccumulator(QuantumCircuit circuit) {
+        return new MetricAccumulator() {
+            private int entanglingGates;
+
+            @Override
+            public void visitGate(QuantumGate gate) {
+                if (gate instanceof CNOTGate) {
+                    entanglingGates++;
+                }
+            }
+
+            @Override
+            public int getResult() {
+                return entanglingGates;
+            }
+        };
+    }
+
     @Override
     public String getMetricName() {
         return METRIC_NAME;
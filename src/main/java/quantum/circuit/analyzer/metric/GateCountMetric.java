@@ -1,6 +1,7 @@
 package quantum.circuit.analyzer.metric;
 
 import quantum.circuit.domain.circuit.QuantumCircuit;
+import quantum.circuit.domain.gate.QuantumGate;
 
 public class GateCountMetric implements CircuitMetric {
 
@@ -11,6 +12,23 @@ public class GateCountMetric implements CircuitMetric {
         return circuit.getTotalGateCount();
     }
 
+    @Override
+    public MetricAccumulator createAccumulator(QuantumCircuit circuit) {
+        return new MetricAccumulator() {
+            private int gateCount;
+
+            @Override
+            public void visitGate(QuantumGate gate) {
+                gateCount++;
+            }
+
+            @Override
+            public int getResult() {
+                return gateCount;
+            }
+        };
+    }
+
     @Override
     public String getMetricName() {
         return METRIC_NAME;
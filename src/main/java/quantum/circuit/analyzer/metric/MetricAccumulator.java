@@ -0,0 +1,20 @@
+package quantum.circuit.analyzer.metric;
+
+import quantum.circuit.domain.circuit.CircuitStep;
+import quantum.circuit.domain.gate.QuantumGate;
+
+/**
+ * 회로를 한 번 순회하며 메트릭 값을 누적하는 visitor
+ * 분석기는 Step마다 visitStep을, 그 Step의 게이트마다 visitGate를 호출한 뒤 getResult로 값을 읽는다.
+ */
+@FunctionalInterface
+public interface MetricAccumulator {
+
+    default void visitStep(CircuitStep step) {
+    }
+
+    default void visitGate(QuantumGate gate) {
+    }
+
+    int getResult();
+}
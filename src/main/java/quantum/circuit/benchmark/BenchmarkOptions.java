@@ -0,0 +1,111 @@
+package quantum.circuit.benchmark;
+
+import java.util.Objects;
+import java.util.function.ToDoubleFunction;
+
+import quantum.circuit.domain.circuit.QubitIndex;
+import quantum.circuit.domain.state.QuantumState;
+
+/**
+ * 실행 벤치마크 설정
+ * 워밍업 반복은 JIT 컴파일을 위해 실행만 하고 버리며, 측정 반복마다 회로 실행과 조회 작업을 함께 잰다.
+ * 조회 작업의 반환값은 합산해 두어 JIT가 실행을 제거하지 못하게 한다.
+ *
+ * @param isolation      회로끼리의 실행 격리 방식
+ * @param threadCount    CONCURRENT일 때 사용할 플랫폼 스레드 풀 크기 (기본값: 가용 프로세서 수)
+ * @param trackResources 측정 구간의 할당량, CPU 시간, GC, 최대 힙 사용량을 기록할지 여부
+ */
+public record BenchmarkOptions(
+        int warmupIterations,
+        int measurementIterations,
+        ToDoubleFunction<QuantumState> workload,
+        IsolationMode isolation,
+        int threadCount,
+        boolean trackResources
+) {
+
+    private static final String ERROR_NEGATIVE_WARMUP = "[ERROR] 워밍업 반복 횟수는 0 이상이어야 합니다.";
+    private static final String ERROR_INVALID_MEASUREMENT = "[ERROR] 측정 반복 횟수는 1 이상이어야 합니다.";
+    private static final String ERROR_NULL_WORKLOAD = "[ERROR] 조회 작업은 null일 수 없습니다.";
+    private static final String ERROR_NULL_ISOLATION = "[ERROR] 격리 방식은 null일 수 없습니다.";
+    private static final String ERROR_INVALID_THREAD_COUNT = "[ERROR] 플랫폼 스레드 수는 1 이상이어야 합니다.";
+    private static final int DEFAULT_WARMUP_ITERATIONS = 5;
+    private static final int DEFAULT_MEASUREMENT_ITERATIONS = 20;
+
+    public BenchmarkOptions {
+        if (warmupIterations < 0) {
+            throw new IllegalArgumentException(ERROR_NEGATIVE_WARMUP);
+        }
+        if (measurementIterations < 1) {
+            throw new IllegalArgumentException(ERROR_INVALID_MEASUREMENT);
+        }
+        if (Objects.isNull(workload)) {
+            throw new IllegalArgumentException(ERROR_NULL_WORKLOAD);
+        }
+        if (Objects.isNull(isolation)) {
+            throw new IllegalArgumentException(ERROR_NULL_ISOLATION);
+        }
+        if (threadCount < 1) {
+            throw new IllegalArgumentException(ERROR_INVALID_THREAD_COUNT);
+        }
+    }
+
+    public BenchmarkOptions(int warmupIterations, int measurementIterations, ToDoubleFunction<QuantumState> workload) {
+        this(warmupIterations, measurementIterations, workload, IsolationMode.SERIAL,
+                Runtime.getRuntime().availableProcessors(), true);
+    }
+
+    public BenchmarkOptions(int warmupIterations, int measurementIterations) {
+        this(warmupIterations, measurementIterations, BenchmarkOptions::queryAllQubits);
+    }
+
+    public static BenchmarkOptions defaults() {
+        return new BenchmarkOptions(DEFAULT_WARMUP_ITERATIONS, DEFAULT_MEASUREMENT_ITERATIONS);
+    }
+
+    public BenchmarkOptions withWorkload(ToDoubleFunction<QuantumState> workload) {
+        return new BenchmarkOptions(
+                warmupIterations, measurementIterations, workload, isolation, threadCount, trackResources);
+    }
+
+    /**
+     * 자원 사용량을 기록하지 않는다.
+     */
+    public BenchmarkOptions withoutResourceTracking() {
+        return new BenchmarkOptions(warmupIterations, measurementIterations, workload, isolation, threadCount, false);
+    }
+
+    /**
+     * 가용 프로세서 수만큼의 플랫폼 스레드 풀에서 동시에 실행
+     */
+    public BenchmarkOptions concurrent() {
+        return concurrentOnPlatformThreads(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * 크기가 threadCount인 플랫폼 스레드 풀에서 동시에 실행
+     * 시뮬레이션은 CPU 작업이므로 코어 수 이하로 잡으면 회로별 측정값의 흔들림이 줄어든다.
+     */
+    public BenchmarkOptions concurrentOnPlatformThreads(int threadCount) {
+        return new BenchmarkOptions(warmupIterations, measurementIterations, workload,
+                IsolationMode.CONCURRENT, threadCount, trackResources);
+    }
+
+    /**
+     * 최대 힙 사용량은 JVM 전체의 메모리 풀 값이므로 회로를 하나씩 실행할 때만 회로별 값이 된다.
+     */
+    public boolean tracksPeakHeap() {
+        return trackResources && isolation == IsolationMode.SERIAL;
+    }
+
+    /**
+     * 기본 조회 작업: 모든 큐비트의 |1⟩ 확률
+     */
+    private static double queryAllQubits(QuantumState state) {
+        double sum = 0.0;
+        for (int qubit = 0; qubit < state.getQubitCount(); qubit++) {
+            sum += state.getProbabilityOfOne(new QubitIndex(qubit)).getValue();
+        }
+        return sum;
+    }
+}
@@ -6,7 +6,14 @@ import java.util.Map;
 public class BenchmarkReport {
 
     private static final String REPORT_HEADER = "=== 벤치마크 결과 ===";
-    private static final String REPORT_FORMAT = "%-20s | 게이트: %3d | 깊이: %3d | 시간: %10d ns";
+    private static final String REPORT_FORMAT =
+            "%-20s | 게이트: %3d | 깊이: %3d | 시간(p50): %10d ns | p99: %10d ns | 처리량: %10.1f회/s";
+    private static final String RESOURCE_FORMAT = " | 할당: %12s | CPU: %16s | GC: %10s | 최대 힙(JVM): %10s";
+    private static final String PER_RUN_SUFFIX = "/회";
+    private static final String GC_FORMAT = "%d회 %d ms";
+    private static final String NOT_AVAILABLE = "N/A";
+    private static final String[] BYTE_UNITS = {"B", "KB", "MB", "GB", "TB"};
+    private static final int BYTES_PER_UNIT = 1024;
 
     private final Map<String, PerformanceMetrics> results;
 
@@ -26,6 +33,9 @@ public class BenchmarkReport {
         return results.size();
     }
 
+    /**
+     * 실행 시간 중앙값(p50)이 가장 작은 회로
+     */
     public String getFastestCircuit() {
         return results.entrySet().stream()
                 .min(Comparator.comparingLong(e -> e.getValue().executionTime()))
@@ -56,10 +66,59 @@ public class BenchmarkReport {
                     name,
                     metrics.gateCount(),
                     metrics.depth(),
-                    metrics.executionTime()
-            )).append("\n");
+                    metrics.executionTime(),
+                    metrics.p99Time(),
+                    metrics.throughput()
+            ));
+            sb.append(formatResources(metrics.resources())).append("\n");
         }
 
         return sb.toString();
     }
+
+    private static String formatResources(ResourceUsage resources) {
+        return String.format(RESOURCE_FORMAT,
+                perRun(formatBytes(resources.allocatedBytes())),
+                perRun(formatNanos(resources.cpuTime())),
+                formatGc(resources),
+                formatBytes(resources.peakHeapBytes())
+        );
+    }
+
+    private static String perRun(String value) {
+        if (NOT_AVAILABLE.equals(value)) {
+            return value;
+        }
+        return value + PER_RUN_SUFFIX;
+    }
+
+    private static String formatNanos(long nanos) {
+        if (nanos == ResourceUsage.UNAVAILABLE) {
+            return NOT_AVAILABLE;
+        }
+        return nanos + " ns";
+    }
+
+    private static String formatGc(ResourceUsage resources) {
+        if (resources.gcCount() == ResourceUsage.UNAVAILABLE) {
+            return NOT_AVAILABLE;
+        }
+        return String.format(GC_FORMAT, resources.gcCount(), resources.gcTimeMillis());
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes == ResourceUsage.UNAVAILABLE) {
+            return NOT_AVAILABLE;
+        }
+        double value = bytes;
+        int unit = 0;
+        while (value >= BYTES_PER_UNIT && unit < BYTE_UNITS.length - 1) {
+            value /= BYTES_PER_UNIT;
+            unit++;
+        }
+        if (unit == 0) {
+            return bytes + " " + BYTE_UNITS[unit];
+        }
+        return String.format("%.1f %s", value, BYTE_UNITS[unit]);
+    }
 }
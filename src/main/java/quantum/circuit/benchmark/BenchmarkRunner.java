@@ -2,55 +2,152 @@ package quantum.circuit.benchmark;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.DoubleAdder;
 
-import quantum.circuit.analyzer.CircuitDepth;
-import quantum.circuit.analyzer.GateCount;
+import quantum.circuit.analyzer.AnalysisReport;
+import quantum.circuit.analyzer.CircuitAnalyzer;
 import quantum.circuit.domain.circuit.QuantumCircuit;
+import quantum.circuit.domain.state.QuantumState;
 
+/**
+ * 회로를 실제로 실행해 성능을 측정한다.
+ * 회로마다 워밍업 후 측정 반복을 돌며, 한 번의 측정은 QuantumCircuit.execute()와 조회 작업을 합친 시간이다.
+ * 결과 캐시를 거치지 않으므로 같은 회로를 반복해도 매번 시뮬레이션한다.
+ * CONCURRENT 모드에서는 크기가 정해진 플랫폼 스레드 풀에서 서로 다른 회로를 동시에 측정하며,
+ * 모니터 이벤트는 한 번에 하나씩 전달한다.
+ * 측정 반복 구간의 할당량, CPU 시간, GC, 최대 힙 사용량도 함께 기록한다. (최대 힙은 SERIAL 모드에서만)
+ */
 public class BenchmarkRunner {
 
+    private static final String ERROR_INTERRUPTED = "[ERROR] 벤치마크 실행이 중단되었습니다.";
+    private static final String THREAD_NAME_PREFIX = "benchmark-";
+
     private final List<PerformanceMonitor> monitors;
+    private final BenchmarkOptions options;
+    private final Object monitorLock = new Object();
+    private final DoubleAdder sink = new DoubleAdder();
 
     public BenchmarkRunner(List<PerformanceMonitor> monitors) {
+        this(monitors, BenchmarkOptions.defaults());
+    }
+
+    public BenchmarkRunner(List<PerformanceMonitor> monitors, BenchmarkOptions options) {
         this.monitors = List.copyOf(monitors);
+        this.options = options;
     }
 
     public BenchmarkReport runBenchmark(Map<String, QuantumCircuit> circuits) {
-        Map<String, PerformanceMetrics> results = new java.util.HashMap<>();
+        Map<String, PerformanceMetrics> results = new ConcurrentHashMap<>();
 
-        for (Map.Entry<String, QuantumCircuit> entry : circuits.entrySet()) {
-            String name = entry.getKey();
-            QuantumCircuit circuit = entry.getValue();
+        if (options.isolation() == IsolationMode.CONCURRENT) {
+            runConcurrently(circuits, results);
+        } else {
+            circuits.forEach((name, circuit) -> results.put(name, benchmark(name, circuit)));
+        }
+
+        return new BenchmarkReport(results);
+    }
 
-            notifyStart(name);
-            PerformanceMetrics metrics = measurePerformance(circuit);
-            notifyComplete(name, metrics);
+    /**
+     * 끝난 순서대로 결과를 확인하므로, 하나라도 실패하면 곧바로 나머지 작업을 취소하고 원래 예외를 던진다.
+     * 이미 실행 중인 회로는 다음 반복을 시작하기 전에 인터럽트를 확인하고 멈춘다.
+     */
+    private void runConcurrently(Map<String, QuantumCircuit> circuits, Map<String, PerformanceMetrics> results) {
+        try (ExecutorService executor = Executors.newFixedThreadPool(
+                options.threadCount(), Thread.ofPlatform().name(THREAD_NAME_PREFIX, 0).factory())) {
+            CompletionService<PerformanceMetrics> completion = new ExecutorCompletionService<>(executor);
+            circuits.forEach((name, circuit) ->
+                    completion.submit(() -> results.put(name, benchmark(name, circuit))));
+            try {
+                for (int i = 0; i < circuits.size(); i++) {
+                    completion.take().get();
+                }
+            } catch (ExecutionException e) {
+                executor.shutdownNow();
+                throw propagate(e.getCause());
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ERROR_INTERRUPTED, e);
+            }
+        }
+    }
 
-            results.put(name, metrics);
+    private static RuntimeException propagate(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
         }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
 
-        return new BenchmarkReport(results);
+    private PerformanceMetrics benchmark(String name, QuantumCircuit circuit) {
+        notifyStart(name);
+        PerformanceMetrics metrics = measurePerformance(circuit);
+        notifyComplete(name, metrics);
+        return metrics;
     }
 
     private PerformanceMetrics measurePerformance(QuantumCircuit circuit) {
-        long startTime = System.nanoTime();
-        int gateCount = GateCount.calculate(circuit);
-        int depth = CircuitDepth.calculate(circuit);
-        long endTime = System.nanoTime();
-        long executionTime = endTime - startTime;
+        AnalysisReport analysis = CircuitAnalyzer.analyze(circuit);
+
+        for (int i = 0; i < options.warmupIterations(); i++) {
+            measureOnce(circuit);
+        }
+        long[] samples = new long[options.measurementIterations()];
+        if (!options.trackResources()) {
+            measureSamples(circuit, samples);
+            return PerformanceMetrics.of(analysis.gateCount(), analysis.depth(), samples, ResourceUsage.notMeasured());
+        }
+        ResourceTracker tracker = ResourceTracker.start(options.tracksPeakHeap());
+        measureSamples(circuit, samples);
+        ResourceUsage resources = tracker.stop(samples.length);
+
+        return PerformanceMetrics.of(analysis.gateCount(), analysis.depth(), samples, resources);
+    }
 
-        return new PerformanceMetrics(gateCount, depth, executionTime);
+    private void measureSamples(QuantumCircuit circuit, long[] samples) {
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = measureOnce(circuit);
+        }
+    }
+
+    /**
+     * 상태 해제(close)는 측정 구간에 넣지 않는다.
+     * 동시 실행이 취소되어 인터럽트된 스레드는 다음 반복을 실행하지 않는다.
+     */
+    private long measureOnce(QuantumCircuit circuit) {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new IllegalStateException(ERROR_INTERRUPTED);
+        }
+        long startTime = System.nanoTime();
+        try (QuantumState state = circuit.execute()) {
+            sink.add(options.workload().applyAsDouble(state));
+            return System.nanoTime() - startTime;
+        }
     }
 
     private void notifyStart(String circuitName) {
-        for (PerformanceMonitor monitor : monitors) {
-            monitor.onBenchmarkStart(circuitName);
+        synchronized (monitorLock) {
+            for (PerformanceMonitor monitor : monitors) {
+                monitor.onBenchmarkStart(circuitName);
+            }
         }
     }
 
     private void notifyComplete(String circuitName, PerformanceMetrics metrics) {
-        for (PerformanceMonitor monitor : monitors) {
-            monitor.onBenchmarkComplete(circuitName, metrics);
+        synchronized (monitorLock) {
+            for (PerformanceMonitor monitor : monitors) {
+                monitor.onBenchmarkComplete(circuitName, metrics);
+            }
         }
     }
 }
@@ -1,25 +1,25 @@
 package quantum.circuit.benchmark;
 
-import quantum.circuit.analyzer.CircuitDepth;
-import quantum.circuit.analyzer.GateCount;
+import quantum.circuit.analyzer.AnalysisReport;
+import quantum.circuit.analyzer.CircuitAnalyzer;
 import quantum.circuit.domain.circuit.QuantumCircuit;
 
 public class ComparisonReport {
 
-    private final QuantumCircuit original;
-    private final QuantumCircuit optimized;
+    private final AnalysisReport original;
+    private final AnalysisReport optimized;
 
     public ComparisonReport(QuantumCircuit original, QuantumCircuit optimized) {
-        this.original = original;
-        this.optimized = optimized;
+        this.original = CircuitAnalyzer.analyze(original);
+        this.optimized = CircuitAnalyzer.analyze(optimized);
     }
 
     public int getOriginalGateCount() {
-        return GateCount.calculate(original);
+        return original.gateCount();
     }
 
     public int getOptimizedGateCount() {
-        return GateCount.calculate(optimized);
+        return optimized.gateCount();
     }
 
     public double getGateReduction() {
@@ -27,11 +27,11 @@ public class ComparisonReport {
     }
 
     public int getOriginalDepth() {
-        return CircuitDepth.calculate(original);
+        return original.depth();
     }
 
     public int getOptimizedDepth() {
-        return CircuitDepth.calculate(optimized);
+        return optimized.depth();
     }
 
     public double getDepthReduction() {
@@ -0,0 +1,12 @@
+package quantum.circuit.benchmark;
+
+/**
+ * 여러 회로를 벤치마크할 때 회로끼리 실행을 격리하는 방식
+ */
+public enum IsolationMode {
+
+    // 한 번에 한 회로만 실행하므로 측정값이 서로 간섭하지 않는다
+    SERIAL,
+    // 독립적인 회로를 동시에 실행한다. 전체 소요 시간은 줄지만 CPU와 메모리 대역폭을 나눠 쓰므로 회로별 지연 시간은 늘 수 있다
+    CONCURRENT
+}
@@ -1,5 +1,83 @@
 package quantum.circuit.benchmark;
 
-public record PerformanceMetrics(int gateCount, int depth, long executionTime) {
+import java.util.Arrays;
 
+/**
+ * 회로 하나의 벤치마크 결과
+ * executionTime은 측정 반복의 중앙값(p50)이며, 시간 단위는 모두 나노초다.
+ * resources는 측정 반복 동안의 할당량, CPU 시간, GC, 최대 힙 사용량이다.
+ */
+public record PerformanceMetrics(
+        int gateCount,
+        int depth,
+        long executionTime,
+        long minTime,
+        double meanTime,
+        long p99Time,
+        long maxTime,
+        int iterations,
+        ResourceUsage resources
+) {
+
+    private static final String ERROR_EMPTY_SAMPLES = "[ERROR] 측정 결과가 최소 1개 이상 필요합니다.";
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final double P50 = 0.50;
+    private static final double P99 = 0.99;
+
+    /**
+     * 한 번 측정한 결과
+     */
+    public PerformanceMetrics(int gateCount, int depth, long executionTime) {
+        this(gateCount, depth, executionTime, executionTime, executionTime, executionTime, executionTime, 1,
+                ResourceUsage.notMeasured());
+    }
+
+    /**
+     * 반복 측정한 시간들로 최소, 평균, 백분위, 최대를 계산
+     */
+    public static PerformanceMetrics of(int gateCount, int depth, long[] samples) {
+        return of(gateCount, depth, samples, ResourceUsage.notMeasured());
+    }
+
+    public static PerformanceMetrics of(int gateCount, int depth, long[] samples, ResourceUsage resources) {
+        if (samples.length == 0) {
+            throw new IllegalArgumentException(ERROR_EMPTY_SAMPLES);
+        }
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        double mean = Arrays.stream(sorted).average().orElseThrow();
+        return new PerformanceMetrics(
+                gateCount,
+                depth,
+                percentile(sorted, P50),
+                sorted[0],
+                mean,
+                percentile(sorted, P99),
+                sorted[sorted.length - 1],
+                sorted.length,
+                resources
+        );
+    }
+
+    /**
+     * nearest-rank 방식 백분위: 정렬된 값 중 ceil(p · n)번째
+     */
+    private static long percentile(long[] sorted, double fraction) {
+        int rank = (int) Math.ceil(fraction * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    public long p50Time() {
+        return executionTime;
+    }
+
+    /**
+     * 평균 실행 시간 기준 초당 실행 횟수
+     */
+    public double throughput() {
+        if (meanTime <= 0) {
+            return 0.0;
+        }
+        return NANOS_PER_SECOND / meanTime;
+    }
 }
@@ -1,5 +1,10 @@
 package quantum.circuit.benchmark;
 
+/**
+ * 벤치마크 이벤트 수신자
+ * BenchmarkRunner는 CONCURRENT 모드에서도 이벤트를 한 번에 하나씩 전달하므로 콜백끼리는 동시에 호출되지 않는다.
+ * 다만 호출 스레드는 이벤트마다 다를 수 있으므로, 수집한 결과를 다른 스레드에서 읽는다면 스레드 안전한 자료구조에 보관한다.
+ */
 public interface PerformanceMonitor {
 
     void onBenchmarkStart(String circuitName);
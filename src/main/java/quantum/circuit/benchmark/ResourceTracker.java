@@ -0,0 +1,101 @@
+package quantum.circuit.benchmark;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+
+/**
+ * 측정 구간 시작 시점의 자원 카운터를 기억해 두었다가 종료 시점과의 차이로 ResourceUsage를 만든다.
+ * 할당량과 CPU 시간은 현재 스레드 카운터를 쓰므로 start와 stop은 같은 스레드에서 호출해야 한다.
+ * 병렬 게이트 커널이 ForkJoinPool 워커에서 쓴 CPU 시간과 할당량은 포함되지 않는다.
+ * 최대 힙 사용량은 JVM 전체 메모리 풀의 최댓값을 초기화해 재므로, 다른 측정과 겹치지 않을 때만 기록한다.
+ */
+final class ResourceTracker {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final List<GarbageCollectorMXBean> COLLECTORS = ManagementFactory.getGarbageCollectorMXBeans();
+    private static final List<MemoryPoolMXBean> HEAP_POOLS = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .toList();
+
+    private final long startAllocatedBytes;
+    private final long startCpuTime;
+    private final long startGcCount;
+    private final long startGcTimeMillis;
+    private final boolean tracksPeakHeap;
+
+    private ResourceTracker(boolean tracksPeakHeap) {
+        this.tracksPeakHeap = tracksPeakHeap;
+        if (tracksPeakHeap) {
+            HEAP_POOLS.forEach(MemoryPoolMXBean::resetPeakUsage);
+        }
+        this.startGcCount = totalGcCount();
+        this.startGcTimeMillis = totalGcTimeMillis();
+        this.startCpuTime = currentThreadCpuTime();
+        this.startAllocatedBytes = currentThreadAllocatedBytes();
+    }
+
+    /**
+     * @param tracksPeakHeap 최대 힙 사용량을 잴지 여부 (동시에 도는 다른 측정이 없을 때만 true)
+     */
+    static ResourceTracker start(boolean tracksPeakHeap) {
+        return new ResourceTracker(tracksPeakHeap);
+    }
+
+    ResourceUsage stop(int iterations) {
+        long allocatedBytes = currentThreadAllocatedBytes();
+        long cpuTime = currentThreadCpuTime();
+        return new ResourceUsage(
+                perIteration(startAllocatedBytes, allocatedBytes, iterations),
+                perIteration(startCpuTime, cpuTime, iterations),
+                totalGcCount() - startGcCount,
+                totalGcTimeMillis() - startGcTimeMillis,
+                tracksPeakHeap ? peakHeapBytes() : ResourceUsage.UNAVAILABLE
+        );
+    }
+
+    private static long perIteration(long start, long end, int iterations) {
+        if (start == ResourceUsage.UNAVAILABLE || end == ResourceUsage.UNAVAILABLE) {
+            return ResourceUsage.UNAVAILABLE;
+        }
+        return (end - start) / iterations;
+    }
+
+    /**
+     * 가상 스레드이거나 JVM이 스레드별 할당량 측정을 지원하지 않으면 UNAVAILABLE
+     */
+    private static long currentThreadAllocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean threads && threads.isThreadAllocatedMemoryEnabled()) {
+            return threads.getCurrentThreadAllocatedBytes();
+        }
+        return ResourceUsage.UNAVAILABLE;
+    }
+
+    private static long currentThreadCpuTime() {
+        if (!THREADS.isCurrentThreadCpuTimeSupported() || !THREADS.isThreadCpuTimeEnabled()) {
+            return ResourceUsage.UNAVAILABLE;
+        }
+        return THREADS.getCurrentThreadCpuTime();
+    }
+
+    private static long totalGcCount() {
+        return COLLECTORS.stream()
+                .mapToLong(collector -> Math.max(0, collector.getCollectionCount()))
+                .sum();
+    }
+
+    private static long totalGcTimeMillis() {
+        return COLLECTORS.stream()
+                .mapToLong(collector -> Math.max(0, collector.getCollectionTime()))
+                .sum();
+    }
+
+    private static long peakHeapBytes() {
+        return HEAP_POOLS.stream()
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum();
+    }
+}
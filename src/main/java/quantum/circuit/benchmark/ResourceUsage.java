@@ -0,0 +1,40 @@
+package quantum.circuit.benchmark;
+
+/**
+ * 측정 반복 동안 사용한 자원
+ * 할당량과 CPU 시간은 측정 스레드 기준 1회 평균이며, JVM이 지원하지 않으면 UNAVAILABLE이다.
+ * 병렬 게이트 커널의 ForkJoinPool 워커가 쓴 몫은 포함되지 않는다.
+ * GC 횟수·시간은 JVM 전체 기준이므로 동시 실행 모드에서는 다른 회로의 몫이 섞인다.
+ * 최대 힙 사용량도 JVM 전체 기준이라 회로를 하나씩 실행할 때만 기록하고, 동시 실행 모드에서는 UNAVAILABLE이다.
+ *
+ * @param allocatedBytes 1회 평균 할당 바이트
+ * @param cpuTime        1회 평균 스레드 CPU 시간 (나노초)
+ * @param gcCount        측정 구간 동안의 GC 횟수
+ * @param gcTimeMillis   측정 구간 동안의 GC 누적 시간 (밀리초)
+ * @param peakHeapBytes  측정 구간 동안 JVM 힙 메모리 풀별 최대 사용량의 합
+ */
+public record ResourceUsage(
+        long allocatedBytes,
+        long cpuTime,
+        long gcCount,
+        long gcTimeMillis,
+        long peakHeapBytes
+) {
+
+    public static final long UNAVAILABLE = -1;
+
+    private static final ResourceUsage NOT_MEASURED =
+            new ResourceUsage(UNAVAILABLE, UNAVAILABLE, UNAVAILABLE, UNAVAILABLE, UNAVAILABLE);
+
+    public static ResourceUsage notMeasured() {
+        return NOT_MEASURED;
+    }
+
+    public boolean hasAllocatedBytes() {
+        return allocatedBytes != UNAVAILABLE;
+    }
+
+    public boolean hasCpuTime() {
+        return cpuTime != UNAVAILABLE;
+    }
+}
@@ -2,7 +2,11 @@ package quantum.circuit.benchmark;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 완료된 벤치마크 결과를 모은다. 벤치마크가 도는 중에 다른 스레드에서 getResults()를 호출해도 안전하다.
+ */
 public class ResultCollector implements PerformanceMonitor {
 
     private static final String MONITOR_NAME = "Result Collector";
@@ -10,7 +14,7 @@ public class ResultCollector implements PerformanceMonitor {
     private final Map<String, PerformanceMetrics> results;
 
     public ResultCollector() {
-        this.results = new HashMap<>();
+        this.results = new ConcurrentHashMap<>();
     }
 
     @Override
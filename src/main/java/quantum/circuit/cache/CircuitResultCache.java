@@ -0,0 +1,184 @@
+package quantum.circuit.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import quantum.circuit.domain.circuit.QuantumCircuit;
+import quantum.circuit.domain.state.QuantumState;
+import quantum.circuit.infrastructure.executor.ProbabilitySnapshotExecutor;
+
+/**
+ * 회로 실행 결과(확률 배열)를 회로의 표준 표기로 찾는 LRU 캐시
+ * 항목 수와 바이트 합계 중 하나라도 한도를 넘으면 가장 오래 쓰이지 않은 항목부터 버린다.
+ * 한 항목이 바이트 한도보다 크거나 확률 배열로 내보낼 수 없는 회로는 캐시하지 않고 매번 실행한다.
+ * 같은 구조의 회로를 반복 실행할 때 두 번째부터는 시뮬레이션 없이 결과를 돌려준다.
+ */
+public class CircuitResultCache {
+
+    private static final String MAX_ENTRIES_PROPERTY = "quantum.cache.max.entries";
+    private static final String MAX_BYTES_PROPERTY = "quantum.cache.max.bytes";
+    private static final int DEFAULT_MAX_ENTRIES = 256;
+    private static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+    private static final int MAX_CACHED_QUBITS = 30;
+    private static final int BYTES_PER_PROBABILITY = Double.BYTES;
+    private static final int BYTES_PER_KEY_CHAR = Character.BYTES;
+    private static final String ERROR_INVALID_MAX_ENTRIES = "[ERROR] 캐시 항목 수 한도는 1 이상이어야 합니다.";
+    private static final String ERROR_INVALID_MAX_BYTES = "[ERROR] 캐시 바이트 한도는 1 이상이어야 합니다.";
+    private static final CircuitResultCache SHARED = new CircuitResultCache(
+            longFromSystemProperty(MAX_ENTRIES_PROPERTY, DEFAULT_MAX_ENTRIES),
+            longFromSystemProperty(MAX_BYTES_PROPERTY, DEFAULT_MAX_BYTES)
+    );
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final LinkedHashMap<String, double[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long byteSize;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    public CircuitResultCache(long maxEntries, long maxBytes) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException(ERROR_INVALID_MAX_ENTRIES);
+        }
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException(ERROR_INVALID_MAX_BYTES);
+        }
+        this.maxEntries = (int) Math.min(Integer.MAX_VALUE, maxEntries);
+        this.maxBytes = maxBytes;
+    }
+
+    private static long longFromSystemProperty(String property, long defaultValue) {
+        String configured = System.getProperty(property);
+        if (configured == null || configured.isBlank()) {
+            return defaultValue;
+        }
+        return Long.parseLong(configured.strip());
+    }
+
+    /**
+     * 애플리케이션 전체가 공유하는 캐시
+     * 한도는 시스템 프로퍼티 quantum.cache.max.entries(기본값: 256), quantum.cache.max.bytes(기본값: 64MB)로 설정
+     */
+    public static CircuitResultCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * 회로를 실행한 결과 상태를 반환 (반환된 상태는 호출자가 닫는다)
+     * 캐시된 결과는 확률만 담은 읽기 전용 상태이므로, 이후 게이트를 더 적용할 상태가 필요하면 circuit.execute()를 사용한다.
+     */
+    public QuantumState execute(QuantumCircuit circuit) {
+        if (!isCacheable(circuit)) {
+            synchronized (this) {
+                missCount++;
+            }
+            return circuit.execute();
+        }
+        double[] probabilities = lookup(circuit);
+        return QuantumState.initialize(
+                circuit.getQubitCount(),
+                new ProbabilitySnapshotExecutor(probabilities, circuit.isEmpty())
+        );
+    }
+
+    /**
+     * 회로 실행 결과의 확률 배열 (호출자가 수정해도 캐시에는 영향이 없다)
+     */
+    public double[] getProbabilityArray(QuantumCircuit circuit) {
+        if (!isCacheable(circuit)) {
+            synchronized (this) {
+                missCount++;
+            }
+            return executeProbabilities(circuit);
+        }
+        return lookup(circuit).clone();
+    }
+
+    private boolean isCacheable(QuantumCircuit circuit) {
+        return circuit.getQubitCount() <= MAX_CACHED_QUBITS
+                && entryBytes(circuit.getCanonicalForm(), 1L << circuit.getQubitCount()) <= maxBytes;
+    }
+
+    /**
+     * 캐시에서 찾고, 없으면 락 밖에서 실행한 뒤 저장한다. 같은 회로가 동시에 처음 요청되면 중복 실행될 수 있다.
+     */
+    private double[] lookup(QuantumCircuit circuit) {
+        String key = circuit.getCanonicalForm();
+        synchronized (this) {
+            double[] cached = entries.get(key);
+            if (cached != null) {
+                hitCount++;
+                return cached;
+            }
+            missCount++;
+        }
+        double[] probabilities = executeProbabilities(circuit);
+        store(key, probabilities);
+        return probabilities;
+    }
+
+    /**
+     * 회로를 실행해 확률 배열만 꺼내고 실행한 상태는 바로 닫는다.
+     */
+    private static double[] executeProbabilities(QuantumCircuit circuit) {
+        try (QuantumState state = circuit.execute()) {
+            return state.getProbabilityArray();
+        }
+    }
+
+    private synchronized void store(String key, double[] probabilities) {
+        double[] previous = entries.put(key, probabilities);
+        if (previous != null) {
+            byteSize -= entryBytes(key, previous.length);
+        }
+        byteSize += entryBytes(key, probabilities.length);
+        evictIfNeeded();
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<String, double[]>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxEntries || byteSize > maxBytes) {
+            Map.Entry<String, double[]> entry = eldest.next();
+            byteSize -= entryBytes(entry.getKey(), entry.getValue().length);
+            eldest.remove();
+            evictionCount++;
+        }
+    }
+
+    private static long entryBytes(String key, long stateCount) {
+        return stateCount * BYTES_PER_PROBABILITY + (long) key.length() * BYTES_PER_KEY_CHAR;
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getByteSize() {
+        return byteSize;
+    }
+
+    /**
+     * 저장된 결과와 적중·미스·제거 횟수를 모두 초기화
+     */
+    public synchronized void clear() {
+        entries.clear();
+        byteSize = 0;
+        hitCount = 0;
+        missCount = 0;
+        evictionCount = 0;
+    }
+}
@@ -0,0 +1,214 @@
+package quantum.circuit.domain.circuit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import quantum.circuit.domain.gate.QuantumGate;
+
+/**
+ * 회로를 게이트 단위 DAG로 본 뷰
+ * 게이트(노드)는 회로 순서대로 0부터 번호가 매겨지고, 각 노드가 작용하는 큐비트(wire)마다
+ * 같은 큐비트의 직전/직후 노드 번호를 int 배열에 보관해 이웃 조회가 O(1)이다.
+ * 노드 i의 wire는 wireQubits[wireOffsets[i] .. wireOffsets[i + 1]) 구간에 큐비트 오름차순으로 놓인다.
+ */
+public final class CircuitDag {
+
+    public static final int NONE = -1;
+
+    private static final String ERROR_NULL_CIRCUIT = "[ERROR] 회로는 null일 수 없습니다.";
+    private static final String ERROR_INVALID_NODE = "[ERROR] 존재하지 않는 노드입니다.";
+    private static final String ERROR_QUBIT_NOT_ON_NODE = "[ERROR] 노드가 작용하지 않는 큐비트입니다.";
+
+    private final int qubitCount;
+    private final List<QuantumGate> gates;
+    private final int[] stepIndices;
+    private final int[] wireOffsets;
+    private final int[] wireQubits;
+    private final int[] predecessors;
+    private final int[] successors;
+    private final int[] firstNodes;
+    private final int[] lastNodes;
+
+    private CircuitDag(int qubitCount, List<QuantumGate> gates, int[] stepIndices) {
+        this.qubitCount = qubitCount;
+        this.gates = List.copyOf(gates);
+        this.stepIndices = stepIndices;
+        this.wireOffsets = new int[gates.size() + 1];
+        for (int node = 0; node < gates.size(); node++) {
+            wireOffsets[node + 1] = wireOffsets[node] + gates.get(node).getAffectedQubits().size();
+        }
+        int wireCount = wireOffsets[gates.size()];
+        this.wireQubits = new int[wireCount];
+        this.predecessors = new int[wireCount];
+        this.successors = new int[wireCount];
+        for (int node = 0; node < gates.size(); node++) {
+            int[] qubits = gates.get(node).getAffectedQubits().stream()
+                    .mapToInt(QubitIndex::value)
+                    .sorted()
+                    .toArray();
+            System.arraycopy(qubits, 0, wireQubits, wireOffsets[node], qubits.length);
+        }
+        int wireWidth = Math.max(qubitCount, Arrays.stream(wireQubits).max().orElse(-1) + 1);
+        this.firstNodes = new int[wireWidth];
+        this.lastNodes = new int[wireWidth];
+        link();
+    }
+
+    /**
+     * 회로를 한 번 훑어 wire별 직전/직후 링크를 만든다. O(게이트 수 + 큐비트 수)
+     */
+    private void link() {
+        Arrays.fill(firstNodes, NONE);
+        Arrays.fill(lastNodes, NONE);
+        Arrays.fill(successors, NONE);
+        for (int node = 0; node < gates.size(); node++) {
+            for (int wire = wireOffsets[node]; wire < wireOffsets[node + 1]; wire++) {
+                int qubit = wireQubits[wire];
+                int previous = lastNodes[qubit];
+                predecessors[wire] = previous;
+                if (previous == NONE) {
+                    firstNodes[qubit] = node;
+                } else {
+                    successors[wireOf(previous, qubit)] = node;
+                }
+                lastNodes[qubit] = node;
+            }
+        }
+    }
+
+    public static CircuitDag from(QuantumCircuit circuit) {
+        if (circuit == null) {
+            throw new IllegalArgumentException(ERROR_NULL_CIRCUIT);
+        }
+        List<QuantumGate> gates = new ArrayList<>();
+        List<CircuitStep> steps = circuit.getSteps();
+        int[] stepIndices = new int[circuit.getTotalGateCount()];
+        for (int stepIndex = 0; stepIndex < steps.size(); stepIndex++) {
+            for (QuantumGate gate : steps.get(stepIndex).getGates()) {
+                stepIndices[gates.size()] = stepIndex;
+                gates.add(gate);
+            }
+        }
+        return new CircuitDag(circuit.getQubitCount(), gates, stepIndices);
+    }
+
+    /**
+     * 원래 Step 구성을 그대로 복원한 회로
+     */
+    public QuantumCircuit toCircuit() {
+        List<CircuitStep> steps = new ArrayList<>();
+        int start = 0;
+        for (int node = 1; node <= gates.size(); node++) {
+            if (node == gates.size() || stepIndices[node] != stepIndices[start]) {
+                steps.add(new CircuitStep(gates.subList(start, node)));
+                start = node;
+            }
+        }
+        return new QuantumCircuit(qubitCount, steps);
+    }
+
+    public int getQubitCount() {
+        return qubitCount;
+    }
+
+    public int getNodeCount() {
+        return gates.size();
+    }
+
+    public QuantumGate getGate(int node) {
+        validateNode(node);
+        return gates.get(node);
+    }
+
+    /**
+     * 노드가 속했던 원래 회로의 Step 인덱스
+     */
+    public int getStepIndex(int node) {
+        validateNode(node);
+        return stepIndices[node];
+    }
+
+    /**
+     * 노드가 작용하는 큐비트 (오름차순)
+     */
+    public int[] getQubits(int node) {
+        validateNode(node);
+        return Arrays.copyOfRange(wireQubits, wireOffsets[node], wireOffsets[node + 1]);
+    }
+
+    /**
+     * 같은 큐비트에서 node 직전에 적용되는 노드, 없으면 NONE
+     */
+    public int getPredecessor(int node, QubitIndex qubit) {
+        return predecessors[requireWire(node, qubit.value())];
+    }
+
+    /**
+     * 같은 큐비트에서 node 직후에 적용되는 노드, 없으면 NONE
+     */
+    public int getSuccessor(int node, QubitIndex qubit) {
+        return successors[requireWire(node, qubit.value())];
+    }
+
+    /**
+     * node의 모든 wire에 걸친 직전 노드 (중복 없이, NONE 제외)
+     */
+    public int[] getPredecessors(int node) {
+        validateNode(node);
+        return distinctNeighbours(predecessors, node);
+    }
+
+    /**
+     * node의 모든 wire에 걸친 직후 노드 (중복 없이, NONE 제외)
+     */
+    public int[] getSuccessors(int node) {
+        validateNode(node);
+        return distinctNeighbours(successors, node);
+    }
+
+    private int[] distinctNeighbours(int[] links, int node) {
+        return Arrays.stream(links, wireOffsets[node], wireOffsets[node + 1])
+                .filter(neighbour -> neighbour != NONE)
+                .distinct()
+                .toArray();
+    }
+
+    /**
+     * 큐비트에 처음 적용되는 노드, 없으면 NONE
+     */
+    public int getFirstNode(QubitIndex qubit) {
+        return qubit.value() < firstNodes.length ? firstNodes[qubit.value()] : NONE;
+    }
+
+    /**
+     * 큐비트에 마지막으로 적용되는 노드, 없으면 NONE
+     */
+    public int getLastNode(QubitIndex qubit) {
+        return qubit.value() < lastNodes.length ? lastNodes[qubit.value()] : NONE;
+    }
+
+    private int requireWire(int node, int qubit) {
+        validateNode(node);
+        int wire = wireOf(node, qubit);
+        if (wire == NONE) {
+            throw new IllegalArgumentException(ERROR_QUBIT_NOT_ON_NODE);
+        }
+        return wire;
+    }
+
+    private int wireOf(int node, int qubit) {
+        for (int wire = wireOffsets[node]; wire < wireOffsets[node + 1]; wire++) {
+            if (wireQubits[wire] == qubit) {
+                return wire;
+            }
+        }
+        return NONE;
+    }
+
+    private void validateNode(int node) {
+        if (node < 0 || node >= gates.size()) {
+            throw new IllegalArgumentException(ERROR_INVALID_NODE);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package quantum.circuit.domain.circuit;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import quantum.circuit.domain.gate.QuantumGate;
 import quantum.circuit.domain.state.QuantumState;
@@ -29,7 +31,7 @@ public class CircuitStep {
     }
 
     public void applyTo(QuantumState state) {
-        gates.forEach(gate -> gate.apply(state));
+        state.applyStep(this);
     }
 
     public List<QuantumGate> getGates() {
@@ -40,6 +42,21 @@ public class CircuitStep {
         return gates.size();
     }
 
+    /**
+     * Step 안의 게이트들이 서로 다른 큐비트에만 작용하는지 확인
+     */
+    public boolean hasDisjointQubits() {
+        Set<QubitIndex> usedQubits = new HashSet<>();
+        for (QuantumGate gate : gates) {
+            for (QubitIndex qubit : gate.getAffectedQubits()) {
+                if (!usedQubits.add(qubit)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     public boolean isSingleGateStep() {
         return gates.size() == 1;
     }
@@ -0,0 +1,151 @@
+package quantum.circuit.domain.circuit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import quantum.circuit.domain.gate.CNOTGate;
+import quantum.circuit.domain.gate.FusedGate;
+import quantum.circuit.domain.gate.HadamardGate;
+import quantum.circuit.domain.gate.PauliXGate;
+import quantum.circuit.domain.gate.PauliZGate;
+import quantum.circuit.domain.gate.QuantumGate;
+import quantum.circuit.domain.state.QuantumState;
+
+/**
+ * 회로를 int 배열 opcode 프로그램으로 변환한 결과
+ * 명령 하나는 {opcode, 피연산자 A, 피연산자 B} 세 칸을 차지한다.
+ * X/H/Z는 A에 타겟, CNOT은 A에 제어·B에 타겟, 융합 게이트는 A에 타겟·B에 fusedGates 인덱스를 둔다.
+ * 큐비트 범위와 게이트 종류는 컴파일할 때 한 번만 검증하며, 한 번 컴파일한 프로그램은 여러 번 실행할 수 있다.
+ */
+public final class CompiledCircuit {
+
+    public static final int OP_X = 0;
+    public static final int OP_H = 1;
+    public static final int OP_Z = 2;
+    public static final int OP_CNOT = 3;
+    public static final int OP_FUSED = 4;
+    public static final int INSTRUCTION_WIDTH = 3;
+
+    private static final String ERROR_NULL_CIRCUIT = "[ERROR] 회로는 null일 수 없습니다.";
+    private static final String ERROR_INVALID_INDEX = "[ERROR] 큐비트 인덱스가 범위를 벗어났습니다.";
+    private static final String ERROR_UNSUPPORTED_GATE = "[ERROR] 컴파일할 수 없는 게이트입니다: ";
+
+    private final int qubitCount;
+    private final int[] code;
+    private final FusedGate[] fusedGates;
+    private final boolean clifford;
+
+    private CompiledCircuit(int qubitCount, int[] code, FusedGate[] fusedGates, boolean clifford) {
+        this.qubitCount = qubitCount;
+        this.code = code;
+        this.fusedGates = fusedGates;
+        this.clifford = clifford;
+    }
+
+    public static CompiledCircuit compile(QuantumCircuit circuit) {
+        if (Objects.isNull(circuit)) {
+            throw new IllegalArgumentException(ERROR_NULL_CIRCUIT);
+        }
+        int qubitCount = circuit.getQubitCount();
+        int[] code = new int[circuit.getTotalGateCount() * INSTRUCTION_WIDTH];
+        List<FusedGate> fusedGates = new ArrayList<>();
+        int pc = 0;
+        for (CircuitStep step : circuit.getSteps()) {
+            for (QuantumGate gate : step.getGates()) {
+                gate.getAffectedQubits().forEach(qubit -> validateIndex(qubit, qubitCount));
+                encode(gate, code, pc, fusedGates);
+                pc += INSTRUCTION_WIDTH;
+            }
+        }
+        return new CompiledCircuit(qubitCount, code, fusedGates.toArray(FusedGate[]::new), circuit.isClifford());
+    }
+
+    private static void validateIndex(QubitIndex qubit, int qubitCount) {
+        if (qubit.value() >= qubitCount) {
+            throw new IllegalArgumentException(ERROR_INVALID_INDEX);
+        }
+    }
+
+    private static void encode(QuantumGate gate, int[] code, int pc, List<FusedGate> fusedGates) {
+        if (gate instanceof PauliXGate xGate) {
+            write(code, pc, OP_X, xGate.getTarget().value(), 0);
+            return;
+        }
+        if (gate instanceof HadamardGate hadamardGate) {
+            write(code, pc, OP_H, hadamardGate.getTarget().value(), 0);
+            return;
+        }
+        if (gate instanceof PauliZGate zGate) {
+            write(code, pc, OP_Z, zGate.getTarget().value(), 0);
+            return;
+        }
+        if (gate instanceof CNOTGate cnot) {
+            write(code, pc, OP_CNOT, cnot.getControl().value(), cnot.getTarget().value());
+            return;
+        }
+        if (gate instanceof FusedGate fusedGate) {
+            write(code, pc, OP_FUSED, fusedGate.getTarget().value(), fusedGates.size());
+            fusedGates.add(fusedGate);
+            return;
+        }
+        throw new IllegalArgumentException(ERROR_UNSUPPORTED_GATE + gate.getName());
+    }
+
+    private static void write(int[] code, int pc, int opcode, int operandA, int operandB) {
+        code[pc] = opcode;
+        code[pc + 1] = operandA;
+        code[pc + 2] = operandB;
+    }
+
+    /**
+     * 새 상태에서 프로그램을 실행한다. QuantumCircuit.execute()와 같은 규칙으로 Executor를 고르며, 반환된 상태는 호출자가 닫는다.
+     */
+    public QuantumState execute() {
+        QuantumState state = clifford
+                ? QuantumState.initializeClifford(qubitCount)
+                : QuantumState.initialize(qubitCount);
+        try {
+            state.run(this);
+        } catch (RuntimeException e) {
+            state.close();
+            throw e;
+        }
+        return state;
+    }
+
+    public int getQubitCount() {
+        return qubitCount;
+    }
+
+    public int getInstructionCount() {
+        return code.length / INSTRUCTION_WIDTH;
+    }
+
+    /**
+     * 명령 배열의 복사본 (실행 경로는 복사 없이 opcodeAt, operandAAt, operandBAt으로 읽는다)
+     */
+    public int[] getCode() {
+        return code.clone();
+    }
+
+    public int opcodeAt(int instruction) {
+        return code[instruction * INSTRUCTION_WIDTH];
+    }
+
+    public int operandAAt(int instruction) {
+        return code[instruction * INSTRUCTION_WIDTH + 1];
+    }
+
+    public int operandBAt(int instruction) {
+        return code[instruction * INSTRUCTION_WIDTH + 2];
+    }
+
+    public FusedGate getFusedGate(int index) {
+        return fusedGates[index];
+    }
+
+    public boolean isClifford() {
+        return clifford;
+    }
+}
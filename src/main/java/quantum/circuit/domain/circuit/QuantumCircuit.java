@@ -4,15 +4,21 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
+import quantum.circuit.domain.gate.QuantumGate;
 import quantum.circuit.domain.state.QuantumState;
+import quantum.circuit.infrastructure.jfr.CircuitExecutionEvent;
+import quantum.circuit.infrastructure.jfr.CircuitStepEvent;
 
 public class QuantumCircuit {
 
     private static final String ERROR_INVALID_QUBIT_COUNT = "[ERROR] 큐비트 개수는 1 이상이어야 합니다.";
     private static final String ERROR_NULL_STEPS = "[ERROR] Step 리스트는 null일 수 없습니다.";
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
 
     private final int qubitCount;
     private final List<CircuitStep> steps;
+    private String canonicalForm;
 
     public QuantumCircuit(int qubitCount, List<CircuitStep> steps) {
         validateQubitCount(qubitCount);
@@ -33,14 +39,43 @@ public class QuantumCircuit {
         }
     }
 
+    /**
+     * Clifford 게이트만으로 된 회로는 기본 Executor의 한계를 넘는 큐비트 수에서 stabilizer Executor로 실행한다.
+     * 반환된 상태는 호출자가 닫는다. (힙 밖 Executor는 close()에서 메모리를 해제한다)
+     */
     public QuantumState execute() {
-        QuantumState state = QuantumState.initialize(qubitCount);
-        for (CircuitStep step : steps) {
-            step.applyTo(state);
+        CircuitExecutionEvent event = new CircuitExecutionEvent();
+        event.begin();
+        QuantumState state = isClifford()
+                ? QuantumState.initializeClifford(qubitCount)
+                : QuantumState.initialize(qubitCount);
+        try {
+            for (int i = 0; i < steps.size(); i++) {
+                applyStep(state, i);
+            }
+        } catch (RuntimeException e) {
+            state.close();
+            throw e;
         }
+        event.finish(this);
         return state;
     }
 
+    private void applyStep(QuantumState state, int stepIndex) {
+        CircuitStepEvent event = new CircuitStepEvent();
+        event.begin();
+        CircuitStep step = steps.get(stepIndex);
+        step.applyTo(state);
+        event.finish(qubitCount, stepIndex, step);
+    }
+
+    /**
+     * 반복 실행용 opcode 프로그램으로 컴파일
+     */
+    public CompiledCircuit compile() {
+        return CompiledCircuit.compile(this);
+    }
+
     public int getQubitCount() {
         return qubitCount;
     }
@@ -63,6 +98,42 @@ public class QuantumCircuit {
                 .sum();
     }
 
+    public boolean isClifford() {
+        return steps.stream()
+                .flatMap(step -> step.getGates().stream())
+                .allMatch(QuantumGate::isClifford);
+    }
+
+    /**
+     * 큐비트 개수와 게이트의 표준 표기를 적용 순서대로 이은 문자열 (예: 2:H(0);CNOT(0,1))
+     * Step 경계는 실행 결과에 영향을 주지 않으므로 포함하지 않는다. 회로는 불변이라 처음 한 번만 만든다.
+     */
+    public String getCanonicalForm() {
+        if (canonicalForm == null) {
+            StringBuilder builder = new StringBuilder().append(qubitCount).append(':');
+            for (CircuitStep step : steps) {
+                for (QuantumGate gate : step.getGates()) {
+                    builder.append(gate.getCanonicalForm()).append(';');
+                }
+            }
+            canonicalForm = builder.toString();
+        }
+        return canonicalForm;
+    }
+
+    /**
+     * 표준 표기의 64비트 FNV-1a 해시 (구조가 같은 회로는 같은 값을 가진다)
+     * 서로 다른 회로도 드물게 같은 값을 가질 수 있으므로, 동일성 판단에는 getCanonicalForm()을 비교한다.
+     */
+    public long getCanonicalHash() {
+        String form = getCanonicalForm();
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < form.length(); i++) {
+            hash = (hash ^ form.charAt(i)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
     public int getDepth() {
         return steps.size();
     }
@@ -54,6 +54,19 @@ public class CNOTGate implements QuantumGate {
         return GATE_NAME;
     }
 
+    @Override
+    public boolean isClifford() {
+        return true;
+    }
+
+    /**
+     * 제어와 타겟의 순서가 결과를 바꾸므로 제어 큐비트를 먼저 적는다.
+     */
+    @Override
+    public String getCanonicalForm() {
+        return GATE_NAME + "(" + control.value() + "," + target.value() + ")";
+    }
+
     public QubitIndex getControl() {
         return control;
     }
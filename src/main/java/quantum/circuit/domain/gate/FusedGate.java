@@ -0,0 +1,85 @@
+package quantum.circuit.domain.gate;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import quantum.circuit.domain.state.QuantumState;
+
+/**
+ * 같은 큐비트에 연속으로 적용되는 단일 큐비트 게이트들을 하나로 합친 게이트
+ * 생성 시점에 행렬 곱을 미리 계산해 두므로, Executor는 amplitude를 한 번만 순회해 적용할 수 있다.
+ */
+public class FusedGate extends SingleQubitGate {
+
+    private static final String ERROR_TOO_FEW_GATES = "[ERROR] 융합할 게이트는 2개 이상이어야 합니다.";
+    private static final String ERROR_DIFFERENT_TARGET = "[ERROR] 융합할 게이트는 모두 같은 큐비트에 작용해야 합니다.";
+    private static final String GATE_NAME = "U";
+    private static final int MIN_FUSED_GATES = 2;
+
+    private final List<SingleQubitGate> gates;
+    private final GateMatrix matrix;
+
+    public FusedGate(List<SingleQubitGate> gates) {
+        super(validateGates(gates).getFirst().getTarget());
+        this.gates = List.copyOf(gates);
+        this.matrix = multiply(this.gates);
+    }
+
+    private static List<SingleQubitGate> validateGates(List<SingleQubitGate> gates) {
+        if (Objects.isNull(gates) || gates.size() < MIN_FUSED_GATES) {
+            throw new IllegalArgumentException(ERROR_TOO_FEW_GATES);
+        }
+        boolean sameTarget = gates.stream()
+                .allMatch(gate -> gate.getTarget().equals(gates.getFirst().getTarget()));
+        if (!sameTarget) {
+            throw new IllegalArgumentException(ERROR_DIFFERENT_TARGET);
+        }
+        return gates;
+    }
+
+    private static GateMatrix multiply(List<SingleQubitGate> gates) {
+        GateMatrix product = GateMatrix.IDENTITY;
+        for (SingleQubitGate gate : gates) {
+            product = product.then(gate.getMatrix());
+        }
+        return product;
+    }
+
+    @Override
+    public void apply(QuantumState state) {
+        state.applyFusedGate(this);
+    }
+
+    @Override
+    public String getName() {
+        return GATE_NAME;
+    }
+
+    @Override
+    public GateMatrix getMatrix() {
+        return matrix;
+    }
+
+    /**
+     * 적용 순서대로 융합된 원래 게이트
+     */
+    public List<SingleQubitGate> getGates() {
+        return gates;
+    }
+
+    @Override
+    public boolean isClifford() {
+        return gates.stream().allMatch(QuantumGate::isClifford);
+    }
+
+    /**
+     * 같은 이름(U)의 융합 게이트도 행렬이 다를 수 있으므로 원래 게이트를 함께 적는다.
+     */
+    @Override
+    public String getCanonicalForm() {
+        return gates.stream()
+                .map(QuantumGate::getCanonicalForm)
+                .collect(Collectors.joining(",", GATE_NAME + "[", "]"));
+    }
+}
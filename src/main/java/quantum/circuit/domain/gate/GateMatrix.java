@@ -0,0 +1,61 @@
+package quantum.circuit.domain.gate;
+
+/**
+ * 단일 큐비트 게이트의 2x2 복소 행렬
+ * [[a, b], [c, d]]는 |0⟩ amplitude α, |1⟩ amplitude β를 (aα + bβ, cα + dβ)로 바꾼다.
+ * 각 원소는 실수부(Real)와 허수부(Imag)로 나눠 보관한다.
+ */
+public record GateMatrix(
+        double aReal, double aImag,
+        double bReal, double bImag,
+        double cReal, double cImag,
+        double dReal, double dImag
+) {
+
+    private static final double INV_SQRT_2 = 1.0 / Math.sqrt(2.0);
+    private static final double IDENTITY_TOLERANCE = 1e-12;
+
+    public static final GateMatrix IDENTITY = real(1.0, 0.0, 0.0, 1.0);
+    public static final GateMatrix PAULI_X = real(0.0, 1.0, 1.0, 0.0);
+    public static final GateMatrix PAULI_Z = real(1.0, 0.0, 0.0, -1.0);
+    public static final GateMatrix HADAMARD = real(INV_SQRT_2, INV_SQRT_2, INV_SQRT_2, -INV_SQRT_2);
+
+    private static GateMatrix real(double a, double b, double c, double d) {
+        return new GateMatrix(a, 0.0, b, 0.0, c, 0.0, d, 0.0);
+    }
+
+    /**
+     * 이 행렬을 적용한 뒤 next를 적용하는 것과 같은 행렬 (next × this)
+     */
+    public GateMatrix then(GateMatrix next) {
+        return new GateMatrix(
+                mulReal(next.aReal, next.aImag, aReal, aImag) + mulReal(next.bReal, next.bImag, cReal, cImag),
+                mulImag(next.aReal, next.aImag, aReal, aImag) + mulImag(next.bReal, next.bImag, cReal, cImag),
+                mulReal(next.aReal, next.aImag, bReal, bImag) + mulReal(next.bReal, next.bImag, dReal, dImag),
+                mulImag(next.aReal, next.aImag, bReal, bImag) + mulImag(next.bReal, next.bImag, dReal, dImag),
+                mulReal(next.cReal, next.cImag, aReal, aImag) + mulReal(next.dReal, next.dImag, cReal, cImag),
+                mulImag(next.cReal, next.cImag, aReal, aImag) + mulImag(next.dReal, next.dImag, cReal, cImag),
+                mulReal(next.cReal, next.cImag, bReal, bImag) + mulReal(next.dReal, next.dImag, dReal, dImag),
+                mulImag(next.cReal, next.cImag, bReal, bImag) + mulImag(next.dReal, next.dImag, dReal, dImag)
+        );
+    }
+
+    private static double mulReal(double xReal, double xImag, double yReal, double yImag) {
+        return xReal * yReal - xImag * yImag;
+    }
+
+    private static double mulImag(double xReal, double xImag, double yReal, double yImag) {
+        return xReal * yImag + xImag * yReal;
+    }
+
+    public boolean isIdentity() {
+        return isClose(aReal, 1.0) && isClose(aImag, 0.0)
+                && isClose(bReal, 0.0) && isClose(bImag, 0.0)
+                && isClose(cReal, 0.0) && isClose(cImag, 0.0)
+                && isClose(dReal, 1.0) && isClose(dImag, 0.0);
+    }
+
+    private static boolean isClose(double value, double expected) {
+        return Math.abs(value - expected) < IDENTITY_TOLERANCE;
+    }
+}
@@ -20,4 +20,14 @@ public class HadamardGate extends SingleQubitGate {
     public String getName() {
         return GATE_NAME;
     }
+
+    @Override
+    public GateMatrix getMatrix() {
+        return GateMatrix.HADAMARD;
+    }
+
+    @Override
+    public boolean isClifford() {
+        return true;
+    }
 }
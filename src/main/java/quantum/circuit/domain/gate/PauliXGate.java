@@ -20,4 +20,14 @@ public class PauliXGate extends SingleQubitGate {
     public String getName() {
         return GATE_NAME;
     }
+
+    @Override
+    public GateMatrix getMatrix() {
+        return GateMatrix.PAULI_X;
+    }
+
+    @Override
+    public boolean isClifford() {
+        return true;
+    }
 }
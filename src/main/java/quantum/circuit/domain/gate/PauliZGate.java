@@ -20,4 +20,14 @@ public class PauliZGate extends SingleQubitGate {
     public String getName() {
         return GATE_NAME;
     }
+
+    @Override
+    public GateMatrix getMatrix() {
+        return GateMatrix.PAULI_Z;
+    }
+
+    @Override
+    public boolean isClifford() {
+        return true;
+    }
 }
@@ -1,6 +1,7 @@
 package quantum.circuit.domain.gate;
 
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import quantum.circuit.domain.circuit.QubitIndex;
 import quantum.circuit.domain.state.QuantumState;
@@ -14,4 +15,23 @@ public interface QuantumGate {
     String getName();
 
     Set<QubitIndex> getAffectedQubits();
+
+    /**
+     * Clifford 게이트 여부 (Clifford 게이트만으로 된 회로는 stabilizer tableau로 시뮬레이션할 수 있다)
+     */
+    default boolean isClifford() {
+        return false;
+    }
+
+    /**
+     * 게이트 종류와 피연산자를 적용 순서대로 적은 표준 표기 (예: H(0), CNOT(0,1))
+     * 회로의 표준 표기와 구조적 해시, 실행 결과 캐시의 키를 만드는 데 쓰인다.
+     */
+    default String getCanonicalForm() {
+        return getAffectedQubits().stream()
+                .mapToInt(QubitIndex::value)
+                .sorted()
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(",", getName() + "(", ")"));
+    }
 }
@@ -32,6 +32,11 @@ public abstract class SingleQubitGate implements QuantumGate {
         return target;
     }
 
+    /**
+     * 게이트의 2x2 유니터리 행렬
+     */
+    public abstract GateMatrix getMatrix();
+
     @Override
     public Set<QubitIndex> getAffectedQubits() {
         return Set.of(target);
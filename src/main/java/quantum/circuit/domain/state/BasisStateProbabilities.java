@@ -0,0 +1,108 @@
+package quantum.circuit.domain.state;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * basis state 인덱스로 접근하는 확률 배열을 이진 문자열 키의 읽기 전용 Map으로 보여주는 뷰
+ * 레이블 문자열과 Double 박싱은 순회하거나 조회하는 시점에만 만들어진다.
+ */
+public final class BasisStateProbabilities extends AbstractMap<String, Double> {
+
+    private static final String ERROR_INVALID_LENGTH = "[ERROR] 확률 배열의 길이는 2의 거듭제곱이어야 합니다.";
+
+    private final double[] probabilities;
+    private final int qubitCount;
+
+    public BasisStateProbabilities(double[] probabilities) {
+        if (probabilities.length == 0 || Integer.bitCount(probabilities.length) != 1) {
+            throw new IllegalArgumentException(ERROR_INVALID_LENGTH);
+        }
+        this.probabilities = probabilities;
+        this.qubitCount = Integer.numberOfTrailingZeros(probabilities.length);
+    }
+
+    /**
+     * basis state 인덱스를 이진 문자열로 변환 (최상위 큐비트가 왼쪽)
+     */
+    public static String toLabel(int index, int qubitCount) {
+        char[] label = new char[qubitCount];
+        for (int bit = 0; bit < qubitCount; bit++) {
+            label[qubitCount - 1 - bit] = (char) ('0' + ((index >> bit) & 1));
+        }
+        return new String(label);
+    }
+
+    public double probabilityAt(int index) {
+        return probabilities[index];
+    }
+
+    @Override
+    public int size() {
+        return probabilities.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public Double get(Object key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        return probabilities[index];
+    }
+
+    private int indexOf(Object key) {
+        if (!(key instanceof String label) || label.length() != qubitCount) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = 0; i < qubitCount; i++) {
+            char digit = label.charAt(i);
+            if (digit != '0' && digit != '1') {
+                return -1;
+            }
+            index = (index << 1) | (digit - '0');
+        }
+        return index;
+    }
+
+    @Override
+    public Set<Map.Entry<String, Double>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<String, Double>> iterator() {
+                return new Iterator<>() {
+                    private int next = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < probabilities.length;
+                    }
+
+                    @Override
+                    public Map.Entry<String, Double> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        int index = next++;
+                        return new SimpleImmutableEntry<>(toLabel(index, qubitCount), probabilities[index]);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return probabilities.length;
+            }
+        };
+    }
+}
@@ -1,17 +1,25 @@
 package quantum.circuit.domain.state;
 
 import java.util.Map;
+import java.util.Random;
 
+import quantum.circuit.domain.circuit.CircuitStep;
+import quantum.circuit.domain.circuit.CompiledCircuit;
 import quantum.circuit.domain.circuit.QubitIndex;
+import quantum.circuit.domain.gate.FusedGate;
 import quantum.circuit.domain.state.executor.QuantumExecutor;
-import quantum.circuit.infrastructure.executor.StrangeQuantumExecutor;
+import quantum.circuit.infrastructure.executor.ExecutorType;
+import quantum.circuit.infrastructure.executor.MemoryBudget;
 
-public class QuantumState {
+public class QuantumState implements AutoCloseable {
 
-    private static final String ERROR_INVALID_QUBIT_COUNT = "[ERROR] 큐비트 개수는 1 이상 10 이하여야 합니다.";
+    private static final String ERROR_INVALID_QUBIT_COUNT = "[ERROR] 큐비트 개수는 1 이상이어야 합니다.";
+    private static final String ERROR_QUBIT_LIMIT_EXCEEDED = "[ERROR] 큐비트 개수는 1 이상 %d 이하여야 합니다. (메모리 예산: %d bytes)";
     private static final String ERROR_INVALID_INDEX = "[ERROR] 큐비트 인덱스가 범위를 벗어났습니다.";
+    private static final String ERROR_PROGRAM_TOO_WIDE = "[ERROR] 프로그램의 큐비트 개수가 상태의 큐비트 개수보다 많습니다.";
     private static final int MIN_QUBIT_COUNT = 1;
-    private static final int MAX_QUBIT_COUNT = 10;
+    private static final String EXECUTOR_PROPERTY = "quantum.executor";
+    private static final ExecutorType DEFAULT_EXECUTOR_TYPE = ExecutorType.STATE_VECTOR;
 
     private final int qubitCount;
     private final QuantumExecutor executor;
@@ -22,20 +30,79 @@ public class QuantumState {
         this.executor = executor;
     }
 
+    /**
+     * 기본 Executor로 초기화
+     * 시스템 프로퍼티 quantum.executor(예: strange, state_vector)로 Executor를 선택할 수 있다.
+     * 최대 큐비트 개수는 메모리 예산(바이트 단위, MemoryBudget 참고)과 Executor의 amplitude당 바이트 수로 계산된다.
+     * 힙 Executor는 quantum.memory.budget(기본값은 최대 힙의 절반),
+     * OFF_HEAP은 quantum.offheap.memory.budget(기본값은 물리 메모리의 절반)을 예산으로 사용한다.
+     */
     public static QuantumState initialize(int qubitCount) {
-        return new QuantumState(qubitCount, new StrangeQuantumExecutor(qubitCount));
+        return initialize(qubitCount, defaultExecutorType());
+    }
+
+    public static QuantumState initialize(int qubitCount, ExecutorType executorType) {
+        return initialize(qubitCount, executorType, MemoryBudget.of(executorType));
+    }
+
+    /**
+     * 메모리 예산(바이트)을 시스템 프로퍼티 대신 직접 지정해 초기화
+     */
+    public static QuantumState initialize(int qubitCount, ExecutorType executorType, long memoryBudget) {
+        validateQubitCount(qubitCount);
+        validateMemoryBudget(qubitCount, executorType, memoryBudget);
+        return new QuantumState(qubitCount, executorType.create(qubitCount));
+    }
+
+    /**
+     * Clifford 게이트(X, Z, H, CNOT)만 적용할 상태의 초기화
+     * Executor를 시스템 프로퍼티로 지정하지 않았고 큐비트 수가 기본 Executor의 한계를 넘으면
+     * stabilizer tableau Executor를 사용한다.
+     */
+    public static QuantumState initializeClifford(int qubitCount) {
+        if (isExecutorConfigured() || qubitCount <= getMaxQubitCount()) {
+            return initialize(qubitCount);
+        }
+        return initialize(qubitCount, ExecutorType.STABILIZER);
     }
 
     public static QuantumState initialize(int qubitCount, QuantumExecutor executor) {
         return new QuantumState(qubitCount, executor);
     }
 
-    private void validateQubitCount(int count) {
-        if (count < MIN_QUBIT_COUNT || count > MAX_QUBIT_COUNT) {
+    public static int getMaxQubitCount() {
+        return getMaxQubitCount(defaultExecutorType());
+    }
+
+    public static int getMaxQubitCount(ExecutorType executorType) {
+        return executorType.maxQubitCount(MemoryBudget.of(executorType));
+    }
+
+    private static ExecutorType defaultExecutorType() {
+        if (!isExecutorConfigured()) {
+            return DEFAULT_EXECUTOR_TYPE;
+        }
+        return ExecutorType.from(System.getProperty(EXECUTOR_PROPERTY));
+    }
+
+    private static boolean isExecutorConfigured() {
+        String configured = System.getProperty(EXECUTOR_PROPERTY);
+        return configured != null && !configured.isBlank();
+    }
+
+    private static void validateQubitCount(int count) {
+        if (count < MIN_QUBIT_COUNT) {
             throw new IllegalArgumentException(ERROR_INVALID_QUBIT_COUNT);
         }
     }
 
+    private static void validateMemoryBudget(int count, ExecutorType executorType, long budget) {
+        int maxQubitCount = executorType.maxQubitCount(budget);
+        if (count > maxQubitCount) {
+            throw new IllegalArgumentException(String.format(ERROR_QUBIT_LIMIT_EXCEEDED, maxQubitCount, budget));
+        }
+    }
+
     public void applyXGate(QubitIndex target) {
         validateIndex(target);
         executor.applyXGate(target);
@@ -57,6 +124,33 @@ public class QuantumState {
         executor.applyCNOTGate(control, target);
     }
 
+    public void applyFusedGate(FusedGate gate) {
+        validateIndex(gate.getTarget());
+        executor.applyFusedGate(gate, this);
+    }
+
+    /**
+     * Step 전체를 Executor에 위임
+     * 한 번에 적용할 수 없는 Step은 Executor가 각 게이트의 apply(state)로 하나씩 적용한다.
+     */
+    public void applyStep(CircuitStep step) {
+        step.getGates().stream()
+                .flatMap(gate -> gate.getAffectedQubits().stream())
+                .forEach(this::validateIndex);
+        executor.applyStep(step, this);
+    }
+
+    /**
+     * 컴파일된 프로그램을 실행
+     * 각 명령의 큐비트 범위는 컴파일할 때 검증되었으므로 여기서는 프로그램 폭만 한 번 확인한다.
+     */
+    public void run(CompiledCircuit program) {
+        if (program.getQubitCount() > qubitCount) {
+            throw new IllegalArgumentException(ERROR_PROGRAM_TOO_WIDE);
+        }
+        executor.run(program, this);
+    }
+
     private void validateIndex(QubitIndex index) {
         if (index.value() >= qubitCount) {
             throw new IllegalArgumentException(ERROR_INVALID_INDEX);
@@ -73,6 +167,24 @@ public class QuantumState {
         return executor.measure(index);
     }
 
+    /**
+     * 전체 큐비트를 shots번 측정한 히스토그램
+     * 확률 분포는 한 번만 계산하고, 각 샷은 그 분포에서 추출한다.
+     *
+     * @return basis state(이진 문자열) -> 관측 횟수
+     */
+    public Map<String, Integer> sample(int shots) {
+        return sample(shots, new Random());
+    }
+
+    public Map<String, Integer> sample(int shots, long seed) {
+        return sample(shots, new Random(seed));
+    }
+
+    public Map<String, Integer> sample(int shots, Random random) {
+        return new ShotSampler(getProbabilityArray()).sample(shots, random);
+    }
+
     /**
      * 모든 basis state의 정확한 확률을 반환
      *
@@ -82,7 +194,24 @@ public class QuantumState {
         return executor.getStateProbabilities();
     }
 
+    /**
+     * 모든 basis state의 정확한 확률을 basis state 인덱스 순서의 배열로 반환
+     * 레이블 문자열이나 박싱 없이 2^n개의 double만 할당한다.
+     */
+    public double[] getProbabilityArray() {
+        return executor.getProbabilityArray();
+    }
+
     public int getQubitCount() {
         return qubitCount;
     }
+
+    /**
+     * Executor가 보유한 상태 벡터 메모리를 해제
+     * 힙 밖 Executor는 이 시점에 메모리를 즉시 반환한다.
+     */
+    @Override
+    public void close() {
+        executor.close();
+    }
 }
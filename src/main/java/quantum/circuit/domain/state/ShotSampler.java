@@ -0,0 +1,80 @@
+package quantum.circuit.domain.state;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+/**
+ * 확률 분포로부터 측정 결과를 반복 추출하는 샘플러
+ * 누적 확률 배열을 한 번 만들고, 샷마다 이진 탐색으로 basis state를 고른다. (샷당 O(log N))
+ */
+public class ShotSampler {
+
+    private static final String ERROR_EMPTY_DISTRIBUTION = "[ERROR] 샘플링할 확률 분포가 비어 있습니다.";
+    private static final String ERROR_INVALID_SHOTS = "[ERROR] 샷 횟수는 1 이상이어야 합니다.";
+    private static final int MIN_SHOTS = 1;
+
+    private final int qubitCount;
+    private final double[] cumulative;
+
+    /**
+     * @param probabilities basis state 인덱스 순서의 확률 배열 (길이 2^n)
+     */
+    public ShotSampler(double[] probabilities) {
+        if (probabilities.length == 0) {
+            throw new IllegalArgumentException(ERROR_EMPTY_DISTRIBUTION);
+        }
+        this.qubitCount = Integer.numberOfTrailingZeros(probabilities.length);
+        this.cumulative = new double[probabilities.length];
+        double sum = 0.0;
+        for (int i = 0; i < probabilities.length; i++) {
+            sum += probabilities[i];
+            cumulative[i] = sum;
+        }
+    }
+
+    /**
+     * shots번 측정한 결과의 히스토그램
+     *
+     * @return basis state(이진 문자열) -> 관측 횟수 (관측된 상태만 포함)
+     */
+    public Map<String, Integer> sample(int shots, Random random) {
+        if (shots < MIN_SHOTS) {
+            throw new IllegalArgumentException(ERROR_INVALID_SHOTS);
+        }
+        int[] counts = new int[cumulative.length];
+        double total = cumulative[cumulative.length - 1];
+        for (int shot = 0; shot < shots; shot++) {
+            counts[draw(random.nextDouble() * total)]++;
+        }
+        return toHistogram(counts);
+    }
+
+    /**
+     * 누적 확률이 point보다 큰 첫 번째 인덱스 (확률 0인 상태는 선택되지 않는다)
+     */
+    private int draw(double point) {
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] > point) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private Map<String, Integer> toHistogram(int[] counts) {
+        Map<String, Integer> histogram = new TreeMap<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                histogram.put(BasisStateProbabilities.toLabel(i, qubitCount), counts[i]);
+            }
+        }
+        return Collections.unmodifiableMap(histogram);
+    }
+}
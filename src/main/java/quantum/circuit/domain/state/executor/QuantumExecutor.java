@@ -2,11 +2,16 @@ package quantum.circuit.domain.state.executor;
 
 import java.util.Map;
 
+import quantum.circuit.domain.circuit.CircuitStep;
+import quantum.circuit.domain.circuit.CompiledCircuit;
 import quantum.circuit.domain.circuit.QubitIndex;
+import quantum.circuit.domain.gate.FusedGate;
+import quantum.circuit.domain.state.BasisStateProbabilities;
 import quantum.circuit.domain.state.MeasurementResult;
 import quantum.circuit.domain.state.Probability;
+import quantum.circuit.domain.state.QuantumState;
 
-public interface QuantumExecutor {
+public interface QuantumExecutor extends AutoCloseable {
 
     void applyXGate(QubitIndex target);
 
@@ -16,18 +21,81 @@ public interface QuantumExecutor {
 
     void applyCNOTGate(QubitIndex control, QubitIndex target);
 
+    /**
+     * 융합 게이트를 적용
+     * 기본 구현은 원래 게이트를 각자의 apply(state)로 하나씩 적용하며,
+     * 상태 벡터 백엔드는 미리 계산된 2x2 행렬로 한 번에 적용하도록 재정의한다.
+     *
+     * @param state 이 Executor를 가진 상태 (게이트를 하나씩 적용할 때 사용)
+     */
+    default void applyFusedGate(FusedGate gate, QuantumState state) {
+        gate.getGates().forEach(component -> component.apply(state));
+    }
+
+    /**
+     * Step의 모든 게이트를 적용
+     * 기본 구현은 게이트를 각자의 apply(state)로 하나씩 적용하며,
+     * 백엔드는 한 Step을 한 번의 amplitude 순회로 처리할 수 있을 때만 재정의한다.
+     *
+     * @param state 이 Executor를 가진 상태 (게이트를 하나씩 적용할 때 사용)
+     */
+    default void applyStep(CircuitStep step, QuantumState state) {
+        step.getGates().forEach(gate -> gate.apply(state));
+    }
+
+    /**
+     * 컴파일된 프로그램을 처음부터 끝까지 실행 (큐비트 범위는 컴파일할 때 검증되었다)
+     * 기본 구현은 명령을 게이트 메서드 호출로 풀어 적용하며, 상태 벡터 백엔드는 int 피연산자로 커널을 직접 호출하도록 재정의한다.
+     *
+     * @param state 이 Executor를 가진 상태 (융합 게이트를 풀어 적용할 때 사용)
+     */
+    default void run(CompiledCircuit program, QuantumState state) {
+        QubitIndex[] qubits = new QubitIndex[program.getQubitCount()];
+        for (int qubit = 0; qubit < qubits.length; qubit++) {
+            qubits[qubit] = new QubitIndex(qubit);
+        }
+        int instructionCount = program.getInstructionCount();
+        for (int instruction = 0; instruction < instructionCount; instruction++) {
+            int opcode = program.opcodeAt(instruction);
+            int operandA = program.operandAAt(instruction);
+            int operandB = program.operandBAt(instruction);
+            switch (opcode) {
+                case CompiledCircuit.OP_X -> applyXGate(qubits[operandA]);
+                case CompiledCircuit.OP_H -> applyHadamardGate(qubits[operandA]);
+                case CompiledCircuit.OP_Z -> applyZGate(qubits[operandA]);
+                case CompiledCircuit.OP_CNOT -> applyCNOTGate(qubits[operandA], qubits[operandB]);
+                case CompiledCircuit.OP_FUSED -> applyFusedGate(program.getFusedGate(operandB), state);
+                default -> throw new IllegalArgumentException("[ERROR] 알 수 없는 opcode입니다: " + opcode);
+            }
+        }
+    }
+
     Probability getProbabilityOfOne(QubitIndex index);
 
     MeasurementResult measure(QubitIndex index);
 
     boolean isEmpty();
 
+    /**
+     * 모든 basis state의 정확한 확률을 basis state 인덱스 순서의 배열로 반환
+     * 큐비트 q는 인덱스의 (1 << q) 비트에 대응한다.
+     */
+    double[] getProbabilityArray();
+
     /**
      * 모든 basis state의 정확한 확률을 반환
+     * 기본 구현은 확률 배열 위의 지연 뷰이며, 이진 문자열 레이블은 조회할 때 만들어진다.
      *
      * @return basis state(이진 문자열) -> 확률 매핑
      */
     default Map<String, Double> getStateProbabilities() {
-        throw new UnsupportedOperationException("getStateProbabilities is not implemented");
+        return new BasisStateProbabilities(getProbabilityArray());
+    }
+
+    /**
+     * Executor가 보유한 자원을 해제 (힙 밖 메모리 등)
+     */
+    @Override
+    default void close() {
     }
 }
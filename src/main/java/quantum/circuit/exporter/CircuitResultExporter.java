@@ -1,22 +1,18 @@
 package quantum.circuit.exporter;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 import quantum.circuit.domain.circuit.CircuitStep;
 import quantum.circuit.domain.circuit.QubitIndex;
 import quantum.circuit.domain.circuit.QuantumCircuit;
-import quantum.circuit.domain.circuit.QuantumCircuitBuilder;
 import quantum.circuit.domain.gate.CNOTGate;
 import quantum.circuit.domain.gate.QuantumGate;
+import quantum.circuit.domain.state.BasisStateProbabilities;
 import quantum.circuit.domain.state.QuantumState;
+import quantum.circuit.infrastructure.jfr.ExportEvent;
 
 public class CircuitResultExporter {
 
@@ -24,11 +20,17 @@ public class CircuitResultExporter {
     private static final String ERROR_EMPTY_PATH = "경로는 비어있을 수 없습니다.";
     private static final String ERROR_WRITE_FAILED = "JSON 파일 쓰기에 실패했습니다.";
     private static final String DEFAULT_CIRCUIT_NAME = "Quantum Circuit";
+    private static final String GZIP_EXTENSION = ".gz";
+    private static final String FORMAT_JSON = "json";
+    private static final String FORMAT_STEP_BY_STEP = "step_by_step";
 
     public static void exportToJson(QuantumCircuit circuit, QuantumState state, String outputPath) {
         exportToJson(circuit, state, DEFAULT_CIRCUIT_NAME, outputPath);
     }
 
+    /**
+     * 경로가 .gz로 끝나면 GZIP으로 압축해 저장
+     */
     public static void exportToJson(
             QuantumCircuit circuit,
             QuantumState state,
@@ -36,19 +38,46 @@ public class CircuitResultExporter {
             String outputPath
     ) {
         validatePath(outputPath);
+        exportToJson(circuit, state, circuitName, outputPath, isGzipPath(outputPath));
+    }
 
-        String json = buildJson(circuit, state, circuitName);
-        writeToFile(json, outputPath);
+    public static void exportToJson(
+            QuantumCircuit circuit,
+            QuantumState state,
+            String circuitName,
+            String outputPath,
+            boolean gzip
+    ) {
+        validatePath(outputPath);
+
+        ExportEvent event = new ExportEvent();
+        event.begin();
+        long bytesWritten = write(outputPath, gzip, json -> writeJson(json, circuit, state, circuitName));
+        event.finish(FORMAT_JSON, outputPath, gzip, circuit.getQubitCount(), circuit.getStepCount(), bytesWritten);
     }
 
     /**
      * 회로를 단계별로 실행하며 각 단계의 상태를 JSON으로 출력
+     * 경로가 .gz로 끝나면 GZIP으로 압축해 저장
      */
     public static void exportStepByStep(QuantumCircuit circuit, String circuitName, String outputPath) {
         validatePath(outputPath);
+        exportStepByStep(circuit, circuitName, outputPath, isGzipPath(outputPath));
+    }
 
-        String json = buildStepByStepJson(circuit, circuitName);
-        writeToFile(json, outputPath);
+    public static void exportStepByStep(
+            QuantumCircuit circuit,
+            String circuitName,
+            String outputPath,
+            boolean gzip
+    ) {
+        validatePath(outputPath);
+
+        ExportEvent event = new ExportEvent();
+        event.begin();
+        long bytesWritten = write(outputPath, gzip, json -> writeStepByStepJson(json, circuit, circuitName));
+        event.finish(FORMAT_STEP_BY_STEP, outputPath, gzip, circuit.getQubitCount(), circuit.getStepCount(),
+                bytesWritten);
     }
 
     private static void validatePath(String path) {
@@ -60,69 +89,79 @@ public class CircuitResultExporter {
         }
     }
 
-    private static String buildJson(QuantumCircuit circuit, QuantumState state, String circuitName) {
-        StringBuilder json = new StringBuilder();
-        json.append("{\n");
-        json.append(String.format("  \"circuit_name\": \"%s\",\n", escapeJson(circuitName)));
-        json.append(String.format("  \"qubit_count\": %d,\n", circuit.getQubitCount()));
-        json.append(buildStepsJson(circuit));
-        json.append(buildQubitProbabilitiesJson(state));
-        json.append(buildSystemStateJson(state));
-        json.append("}");
-        return json.toString();
+    private static boolean isGzipPath(String path) {
+        return path.endsWith(GZIP_EXTENSION);
     }
 
-    private static String buildStepByStepJson(QuantumCircuit circuit, String circuitName) {
-        StringBuilder json = new StringBuilder();
-        json.append("{\n");
-        json.append(String.format("  \"circuit_name\": \"%s\",\n", escapeJson(circuitName)));
-        json.append(String.format("  \"qubit_count\": %d,\n", circuit.getQubitCount()));
-        json.append(buildStepsJson(circuit));
-        json.append(buildStepStatesJson(circuit));
-        json.append("}");
-        return json.toString();
+    /**
+     * 문서를 쓰고 파일에 쓴 바이트 수를 반환
+     */
+    private static long write(String outputPath, boolean gzip, JsonDocument document) {
+        try {
+            JsonStreamWriter json = JsonStreamWriter.open(Path.of(outputPath), gzip);
+            try (json) {
+                document.writeTo(json);
+            }
+            return json.getBytesWritten();
+        } catch (IOException e) {
+            throw new RuntimeException(ERROR_WRITE_FAILED, e);
+        }
     }
 
-    private static String buildStepStatesJson(QuantumCircuit circuit) {
-        StringBuilder json = new StringBuilder();
-        json.append("  \"step_states\": [\n");
-
-        List<StepState> stepStates = collectStepStates(circuit);
-
-        for (int i = 0; i < stepStates.size(); i++) {
-            StepState stepState = stepStates.get(i);
-            json.append(buildSingleStepStateJson(stepState));
+    /**
+     * 최종 상태의 확률 배열을 한 번만 읽어 큐비트별 확률과 시스템 상태에 함께 사용한다.
+     */
+    private static void writeJson(JsonStreamWriter json, QuantumCircuit circuit, QuantumState state,
+                                  String circuitName) throws IOException {
+        json.raw("{\n");
+        writeHeaderJson(json, circuit, circuitName);
+        writeStepsJson(json, circuit);
+        double[] probabilities = state.getProbabilityArray();
+        writeQubitProbabilitiesJson(json, probabilities);
+        writeSystemStateJson(json, probabilities);
+        json.raw("}");
+    }
 
-            if (i < stepStates.size() - 1) {
-                json.append(",");
-            }
-            json.append("\n");
-        }
+    private static void writeStepByStepJson(JsonStreamWriter json, QuantumCircuit circuit, String circuitName)
+            throws IOException {
+        json.raw("{\n");
+        writeHeaderJson(json, circuit, circuitName);
+        writeStepsJson(json, circuit);
+        writeStepStatesJson(json, circuit);
+        json.raw("}");
+    }
 
-        json.append("  ]\n");
-        return json.toString();
+    private static void writeHeaderJson(JsonStreamWriter json, QuantumCircuit circuit, String circuitName)
+            throws IOException {
+        json.raw("  \"circuit_name\": ").string(circuitName).raw(",\n");
+        json.raw("  \"qubit_count\": ").integer(circuit.getQubitCount()).raw(",\n");
     }
 
-    private static List<StepState> collectStepStates(QuantumCircuit circuit) {
-        List<StepState> states = new ArrayList<>();
+    /**
+     * 하나의 상태에 Step을 차례로 적용하며 각 Step 직후의 상태를 바로 기록한다.
+     * 회로 전체를 한 번만 시뮬레이션하고 이전 Step의 확률 배열은 남기지 않으므로
+     * 비용은 O(깊이 · 2^n), 추가 메모리는 확률 배열 하나다.
+     */
+    private static void writeStepStatesJson(JsonStreamWriter json, QuantumCircuit circuit) throws IOException {
+        json.raw("  \"step_states\": [\n");
         int qubitCount = circuit.getQubitCount();
 
-        QuantumState initialState = QuantumState.initialize(qubitCount);
-        states.add(new StepState(0, "Initial State", initialState));
-
-        List<CircuitStep> steps = circuit.getSteps();
-        for (int i = 0; i < steps.size(); i++) {
-            QuantumCircuit partialCircuit = new QuantumCircuitBuilder()
-                    .withQubits(qubitCount)
-                    .addSteps(steps.subList(0, i + 1))
-                    .build();
-
-            QuantumState state = partialCircuit.execute();
-            String description = buildStepDescription(steps.get(i));
-            states.add(new StepState(i + 1, description, state));
+        try (QuantumState state = circuit.isClifford()
+                ? QuantumState.initializeClifford(qubitCount)
+                : QuantumState.initialize(qubitCount)) {
+            writeSingleStepStateJson(json, 0, "Initial State", state.getProbabilityArray());
+
+            List<CircuitStep> steps = circuit.getSteps();
+            for (int i = 0; i < steps.size(); i++) {
+                json.raw(",\n");
+                steps.get(i).applyTo(state);
+                String description = buildStepDescription(steps.get(i));
+                writeSingleStepStateJson(json, i + 1, description, state.getProbabilityArray());
+            }
         }
 
-        return states;
+        json.raw("\n");
+        json.raw("  ]\n");
     }
 
     private static String buildStepDescription(CircuitStep step) {
@@ -133,69 +172,88 @@ public class CircuitResultExporter {
         return "After " + String.join(", ", gateDescriptions);
     }
 
-    private static String buildSingleStepStateJson(StepState stepState) {
-        StringBuilder json = new StringBuilder();
-        json.append("    {\n");
-        json.append(String.format("      \"step\": %d,\n", stepState.stepNumber()));
-        json.append(String.format("      \"description\": \"%s\",\n", escapeJson(stepState.description())));
+    private static void writeSingleStepStateJson(JsonStreamWriter json, int stepNumber, String description,
+                                                 double[] probabilities) throws IOException {
+        json.raw("    {\n");
+        json.raw("      \"step\": ").integer(stepNumber).raw(",\n");
+        json.raw("      \"description\": ").string(description).raw(",\n");
 
-        json.append("      \"qubit_probabilities\": {\n");
-        int qubitCount = stepState.state().getQubitCount();
+        json.raw("      \"qubit_probabilities\": {\n");
+        double[] qubitProbabilities = calculateQubitProbabilities(probabilities);
+        int qubitCount = qubitProbabilities.length;
         for (int i = 0; i < qubitCount; i++) {
-            double probability = stepState.state().getProbabilityOfOne(new QubitIndex(i)).getValue();
-            json.append(String.format("        \"%d\": %.6f", i, probability));
+            json.raw("        \"").integer(i).raw("\": ").decimal(qubitProbabilities[i]);
             if (i < qubitCount - 1) {
-                json.append(",");
+                json.raw(",");
             }
-            json.append("\n");
+            json.raw("\n");
         }
-        json.append("      },\n");
-
-        json.append("      \"system_state\": {\n");
-        Map<String, Double> systemState = calculateSystemState(stepState.state());
-        int count = 0;
-        int total = systemState.size();
-        for (Map.Entry<String, Double> entry : systemState.entrySet()) {
-            json.append(String.format("        \"%s\": %.6f", entry.getKey(), entry.getValue()));
-            count++;
-            if (count < total) {
-                json.append(",");
+        json.raw("      },\n");
+
+        json.raw("      \"system_state\": {\n");
+        writeBasisStates(json, new BasisStateProbabilities(probabilities), "        ");
+        json.raw("      }\n");
+
+        json.raw("    }");
+    }
+
+    private static void writeBasisStates(JsonStreamWriter json, BasisStateProbabilities basisStates, String indent)
+            throws IOException {
+        int stateCount = basisStates.size();
+        int qubitCount = Integer.numberOfTrailingZeros(stateCount);
+        for (int i = 0; i < stateCount; i++) {
+            json.raw(indent).basisLabel(i, qubitCount).raw(": ").decimal(basisStates.probabilityAt(i));
+            if (i < stateCount - 1) {
+                json.raw(",");
             }
-            json.append("\n");
+            json.raw("\n");
         }
-        json.append("      }\n");
+    }
 
-        json.append("    }");
-        return json.toString();
+    /**
+     * 확률 배열 한 번의 순회로 모든 큐비트의 |1⟩ 확률을 구한다.
+     */
+    private static double[] calculateQubitProbabilities(double[] probabilities) {
+        int qubitCount = Integer.numberOfTrailingZeros(probabilities.length);
+        double[] qubitProbabilities = new double[qubitCount];
+        for (int basisState = 0; basisState < probabilities.length; basisState++) {
+            for (int bits = basisState; bits != 0; bits &= bits - 1) {
+                qubitProbabilities[Integer.numberOfTrailingZeros(bits)] += probabilities[basisState];
+            }
+        }
+        for (int qubit = 0; qubit < qubitCount; qubit++) {
+            qubitProbabilities[qubit] = Math.min(1.0, qubitProbabilities[qubit]);
+        }
+        return qubitProbabilities;
     }
 
-    private static String buildStepsJson(QuantumCircuit circuit) {
-        StringBuilder json = new StringBuilder();
-        json.append("  \"steps\": [\n");
+    private static void writeStepsJson(JsonStreamWriter json, QuantumCircuit circuit) throws IOException {
+        json.raw("  \"steps\": [\n");
 
         var steps = circuit.getSteps();
         for (int i = 0; i < steps.size(); i++) {
             CircuitStep step = steps.get(i);
-            json.append("    {\n");
-            json.append(String.format("      \"step\": %d,\n", i));
-            json.append("      \"gates\": [");
-
-            String gateDescriptions = step.getGates().stream()
-                    .map(CircuitResultExporter::describeGate)
-                    .map(desc -> "\"" + desc + "\"")
-                    .collect(Collectors.joining(", "));
-
-            json.append(gateDescriptions);
-            json.append("]\n");
-            json.append("    }");
+            json.raw("    {\n");
+            json.raw("      \"step\": ").integer(i).raw(",\n");
+            json.raw("      \"gates\": [");
+
+            var gates = step.getGates();
+            for (int j = 0; j < gates.size(); j++) {
+                if (j > 0) {
+                    json.raw(", ");
+                }
+                json.raw("\"").raw(describeGate(gates.get(j))).raw("\"");
+            }
+
+            json.raw("]\n");
+            json.raw("    }");
             if (i < steps.size() - 1) {
-                json.append(",");
+                json.raw(",");
             }
-            json.append("\n");
+            json.raw("\n");
         }
 
-        json.append("  ],\n");
-        return json.toString();
+        json.raw("  ],\n");
     }
 
     private static String describeGate(QuantumGate gate) {
@@ -214,119 +272,35 @@ public class CircuitResultExporter {
         return gate.getName();
     }
 
-    private static String buildQubitProbabilitiesJson(QuantumState state) {
-        StringBuilder json = new StringBuilder();
-        json.append("  \"qubit_probabilities\": {\n");
+    private static void writeQubitProbabilitiesJson(JsonStreamWriter json, double[] probabilities)
+            throws IOException {
+        json.raw("  \"qubit_probabilities\": {\n");
 
-        int qubitCount = state.getQubitCount();
+        double[] qubitProbabilities = calculateQubitProbabilities(probabilities);
+        int qubitCount = qubitProbabilities.length;
         for (int i = 0; i < qubitCount; i++) {
-            double probability = state.getProbabilityOfOne(new QubitIndex(i)).getValue();
-            json.append(String.format("    \"%d\": %.6f", i, probability));
+            json.raw("    \"").integer(i).raw("\": ").decimal(qubitProbabilities[i]);
             if (i < qubitCount - 1) {
-                json.append(",");
+                json.raw(",");
             }
-            json.append("\n");
+            json.raw("\n");
         }
 
-        json.append("  },\n");
-        return json.toString();
-    }
-
-    private static String buildSystemStateJson(QuantumState state) {
-        StringBuilder json = new StringBuilder();
-        json.append("  \"system_state\": {\n");
-
-        Map<String, Double> systemState = calculateSystemState(state);
-
-        int count = 0;
-        int total = systemState.size();
-        for (Map.Entry<String, Double> entry : systemState.entrySet()) {
-            json.append(String.format("    \"%s\": %.6f", entry.getKey(), entry.getValue()));
-            count++;
-            if (count < total) {
-                json.append(",");
-            }
-            json.append("\n");
-        }
-
-        json.append("  }\n");
-        return json.toString();
-    }
-
-    private static Map<String, Double> calculateSystemState(QuantumState state) {
-        Map<String, Double> accurateProbabilities = state.getStateProbabilities();
-
-        if (accurateProbabilities != null && !accurateProbabilities.isEmpty()) {
-            return accurateProbabilities;
-        }
-
-        return calculateApproximateSystemState(state);
+        json.raw("  },\n");
     }
 
     /**
-     * Fallback: 각 큐비트를 독립적으로 계산 (얽힘 상태에서는 부정확)
+     * 레이블 문자열을 만들지 않고 인덱스 순서대로 바로 기록한다.
      */
-    private static Map<String, Double> calculateApproximateSystemState(QuantumState state) {
-        int qubitCount = state.getQubitCount();
-        int numStates = 1 << qubitCount;
-
-        Map<String, Double> systemState = new HashMap<>();
-
-        for (int i = 0; i < numStates; i++) {
-            final int stateIndex = i;
-            String binaryState = IntStream.range(0, qubitCount)
-                    .map(bit -> (stateIndex >> (qubitCount - 1 - bit)) & 1)
-                    .mapToObj(String::valueOf)
-                    .collect(Collectors.joining());
-
-            double probability = calculateStateProbability(state, binaryState);
-            systemState.put(binaryState, probability);
-        }
-
-        return systemState;
-    }
-
-    private static double calculateStateProbability(QuantumState state, String binaryState) {
-        double probability = 1.0;
-
-        for (int i = 0; i < binaryState.length(); i++) {
-            char bit = binaryState.charAt(i);
-            QubitIndex index = new QubitIndex(i);
-            double probOne = state.getProbabilityOfOne(index).getValue();
-
-            if (bit == '1') {
-                probability *= probOne;
-            } else {
-                probability *= (1.0 - probOne);
-            }
-        }
-
-        return probability;
+    private static void writeSystemStateJson(JsonStreamWriter json, double[] probabilities) throws IOException {
+        json.raw("  \"system_state\": {\n");
+        writeBasisStates(json, new BasisStateProbabilities(probabilities), "    ");
+        json.raw("  }\n");
     }
 
-    private static String escapeJson(String str) {
-        return str.replace("\\", "\\\\")
-                .replace("\"", "\\\"")
-                .replace("\n", "\\n")
-                .replace("\r", "\\r")
-                .replace("\t", "\\t");
-    }
-
-    private static void writeToFile(String content, String path) {
-        try {
-            Path filePath = Path.of(path);
-            Path parent = filePath.getParent();
-
-            if (parent != null) {
-                Files.createDirectories(parent);
-            }
-
-            Files.writeString(filePath, content);
-        } catch (IOException e) {
-            throw new RuntimeException(ERROR_WRITE_FAILED, e);
-        }
-    }
+    @FunctionalInterface
+    private interface JsonDocument {
 
-    private record StepState(int stepNumber, String description, QuantumState state) {
+        void writeTo(JsonStreamWriter json) throws IOException;
     }
 }
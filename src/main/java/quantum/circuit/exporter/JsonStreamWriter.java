@@ -0,0 +1,181 @@
+package quantum.circuit.exporter;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * JSON 토큰을 버퍼를 거쳐 파일에 바로 쓰는 writer
+ * 문서 전체를 메모리에 만들지 않으므로 상태 수와 관계없이 버퍼 크기만큼의 메모리만 쓴다.
+ * 실수는 String.format("%.6f")와 같은 문자열을 중간 문자열 없이 직접 쓴다.
+ */
+final class JsonStreamWriter implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int FRACTION_DIGITS = 6;
+    private static final long FRACTION_SCALE = 1_000_000L;
+    private static final double MAX_FAST_VALUE = 1e3;
+    private static final double TIE_MARGIN = 1e-6;
+
+    private final Writer writer;
+    private final ByteCountingOutputStream counter;
+    private final char[] digits = new char[20];
+
+    private JsonStreamWriter(Writer writer, ByteCountingOutputStream counter) {
+        this.writer = writer;
+        this.counter = counter;
+    }
+
+    /**
+     * gzip이 true면 GZIP으로 압축해 쓴다. 상위 디렉터리가 없으면 만든다.
+     */
+    static JsonStreamWriter open(Path path, boolean gzip) throws IOException {
+        Path parent = path.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        ByteCountingOutputStream counter = new ByteCountingOutputStream(Files.newOutputStream(path));
+        OutputStream stream = new BufferedOutputStream(counter, BUFFER_SIZE);
+        if (gzip) {
+            stream = new GZIPOutputStream(stream, BUFFER_SIZE);
+        }
+        return new JsonStreamWriter(new BufferedWriter(
+                new OutputStreamWriter(stream, StandardCharsets.UTF_8), BUFFER_SIZE), counter);
+    }
+
+    static JsonStreamWriter of(Writer writer) {
+        return new JsonStreamWriter(writer, null);
+    }
+
+    /**
+     * 파일에 쓴 바이트 수 (gzip이면 압축 후 크기). 버퍼에 남은 내용은 close() 이후에 반영된다.
+     * 파일이 아닌 Writer로 만들었으면 0이다.
+     */
+    long getBytesWritten() {
+        if (counter == null) {
+            return 0;
+        }
+        return counter.count;
+    }
+
+    JsonStreamWriter raw(String text) throws IOException {
+        writer.write(text);
+        return this;
+    }
+
+    /**
+     * 큰따옴표로 감싸고 역슬래시, 큰따옴표, 개행, 탭을 이스케이프해 쓴다.
+     */
+    JsonStreamWriter string(String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> writer.write("\\\\");
+                case '"' -> writer.write("\\\"");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                case '\t' -> writer.write("\\t");
+                default -> writer.write(c);
+            }
+        }
+        writer.write('"');
+        return this;
+    }
+
+    JsonStreamWriter integer(long value) throws IOException {
+        if (value < 0) {
+            writer.write('-');
+            value = -value;
+        }
+        writeDigits(value, 1);
+        return this;
+    }
+
+    /**
+     * basis state 인덱스를 이진 문자열 레이블(최상위 큐비트가 왼쪽)로 큰따옴표와 함께 쓴다.
+     */
+    JsonStreamWriter basisLabel(int index, int qubitCount) throws IOException {
+        writer.write('"');
+        for (int bit = qubitCount - 1; bit >= 0; bit--) {
+            writer.write(((index >> bit) & 1) == 1 ? '1' : '0');
+        }
+        writer.write('"');
+        return this;
+    }
+
+    /**
+     * String.format("%.6f", value)와 같은 문자열을 쓴다.
+     * 반올림 경계(…5)에 아주 가까운 값과 범위를 벗어난 값은 String.format으로 처리해 결과를 맞춘다.
+     */
+    JsonStreamWriter decimal(double value) throws IOException {
+        double magnitude = Math.abs(value);
+        if (!(magnitude < MAX_FAST_VALUE)) {
+            return raw(formatSlow(value));
+        }
+        double scaled = magnitude * FRACTION_SCALE;
+        double fraction = scaled - Math.floor(scaled);
+        if (Math.abs(fraction - 0.5) < TIE_MARGIN) {
+            return raw(formatSlow(value));
+        }
+        long units = (long) Math.floor(scaled + 0.5);
+        if (Double.doubleToRawLongBits(value) < 0) {
+            writer.write('-');
+        }
+        writeDigits(units / FRACTION_SCALE, 1);
+        writer.write('.');
+        writeDigits(units % FRACTION_SCALE, FRACTION_DIGITS);
+        return this;
+    }
+
+    private static String formatSlow(double value) {
+        return String.format(Locale.ROOT, "%.6f", value);
+    }
+
+    private void writeDigits(long value, int minDigits) throws IOException {
+        int position = digits.length;
+        do {
+            digits[--position] = (char) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        while (digits.length - position < minDigits) {
+            digits[--position] = '0';
+        }
+        writer.write(digits, position, digits.length - position);
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private static final class ByteCountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        ByteCountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package quantum.circuit.infrastructure.executor;
+
+final class BasisState {
+
+    private BasisState() {
+    }
+
+    /**
+     * 쌍 인덱스 k의 qubit 위치에 0 비트를 끼워 넣어 대상 비트가 0인 basis state 인덱스를 만든다.
+     */
+    static int insertZeroBit(int k, int qubit) {
+        int lowBits = k & ((1 << qubit) - 1);
+        return ((k >> qubit) << (qubit + 1)) | lowBits;
+    }
+}
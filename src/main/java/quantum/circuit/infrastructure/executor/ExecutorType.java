@@ -0,0 +1,81 @@
+package quantum.circuit.infrastructure.executor;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+import quantum.circuit.domain.state.executor.QuantumExecutor;
+
+public enum ExecutorType {
+
+    // Complex 객체(헤더 + 실수부/허수부)와 배열 참조, 실행 중 생성되는 복사본을 포함한 추정치
+    STRANGE(StrangeQuantumExecutor::new, 64, 30),
+    // double 두 개(실수부, 허수부), double[] 길이가 int 범위를 넘지 않도록 29큐비트까지
+    STATE_VECTOR(StateVectorQuantumExecutor::new, 16, 29),
+    // STATE_VECTOR와 같은 배치에 X, H, Z만 SIMD 커널로 적용 (preview 백엔드)
+    STATE_VECTOR_SIMD(qubitCount -> new StateVectorQuantumExecutor(
+            qubitCount, ParallelOptions.fromSystemProperties(), GateKernel.VECTOR), 16, 29),
+    // 힙 밖 MemorySegment에 double 두 개(실수부, 허수부), long 인덱스를 사용 (preview 백엔드)
+    OFF_HEAP(PreviewBackends::offHeapExecutor, 16, 40),
+    // 0이 아닌 amplitude만 long 키 해시 맵에 보관하므로 메모리가 큐비트 개수가 아니라 얽힘 정도에 비례한다
+    // (밀집 상태 벡터로의 전환은 힙 예산 안에서만 일어난다)
+    SPARSE(SparseQuantumExecutor::new, 0, 62),
+    // Clifford 회로 전용 tableau, 메모리는 n^2 / 4 바이트 정도로 큐비트 수에 대해 다항식이다
+    STABILIZER(StabilizerQuantumExecutor::new, 0, 1 << 14);
+
+    private static final String ERROR_UNSUPPORTED_EXECUTOR = "[ERROR] 지원하지 않는 Executor입니다: ";
+
+    private final IntFunction<QuantumExecutor> factory;
+    private final int bytesPerAmplitude;
+    private final int maxSupportedQubits;
+
+    ExecutorType(IntFunction<QuantumExecutor> factory, int bytesPerAmplitude, int maxSupportedQubits) {
+        this.factory = factory;
+        this.bytesPerAmplitude = bytesPerAmplitude;
+        this.maxSupportedQubits = maxSupportedQubits;
+    }
+
+    public static ExecutorType from(String name) {
+        String normalizedName = name.trim()
+                .replace(" ", "_")
+                .replace("-", "_")
+                .toUpperCase();
+
+        return Arrays.stream(values())
+                .filter(type -> type.name().equals(normalizedName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(ERROR_UNSUPPORTED_EXECUTOR + name));
+    }
+
+    public QuantumExecutor create(int qubitCount) {
+        return factory.apply(qubitCount);
+    }
+
+    /**
+     * 주어진 큐비트 개수의 상태 벡터가 차지할 예상 메모리(바이트)
+     */
+    public long estimateBytes(int qubitCount) {
+        if (qubitCount > maxSupportedQubits) {
+            return Long.MAX_VALUE;
+        }
+        return (long) bytesPerAmplitude << qubitCount;
+    }
+
+    /**
+     * 메모리 예산 안에서 시뮬레이션할 수 있는 최대 큐비트 개수
+     */
+    public int maxQubitCount(long memoryBudget) {
+        int qubitCount = 0;
+        while (qubitCount < maxSupportedQubits && estimateBytes(qubitCount + 1) <= memoryBudget) {
+            qubitCount++;
+        }
+        return qubitCount;
+    }
+
+    public int getBytesPerAmplitude() {
+        return bytesPerAmplitude;
+    }
+
+    public int getMaxSupportedQubits() {
+        return maxSupportedQubits;
+    }
+}
@@ -0,0 +1,12 @@
+package quantum.circuit.infrastructure.executor;
+
+/**
+ * 단일 큐비트 게이트(X, H, Z)를 적용하는 커널 종류
+ * VECTOR는 jdk.incubator.vector 모듈의 SIMD 연산을 사용하며, SCALAR가 기본 경로다.
+ * VECTOR 커널은 preview 소스 셋에 있으므로 -PpreviewBackends로 빌드했을 때만 쓸 수 있다.
+ */
+public enum GateKernel {
+
+    SCALAR,
+    VECTOR
+}
@@ -0,0 +1,55 @@
+package quantum.circuit.infrastructure.executor;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.function.LongSupplier;
+
+/**
+ * Executor가 상태를 보관하는 메모리 영역별 예산(바이트)
+ * 힙 Executor는 quantum.memory.budget(기본값은 최대 힙의 절반),
+ * 힙 밖 Executor(OFF_HEAP)는 quantum.offheap.memory.budget(기본값은 물리 메모리의 절반)을 사용한다.
+ */
+public final class MemoryBudget {
+
+    public static final String HEAP_PROPERTY = "quantum.memory.budget";
+    public static final String OFF_HEAP_PROPERTY = "quantum.offheap.memory.budget";
+    private static final long DEFAULT_FRACTION = 2;
+
+    private MemoryBudget() {
+    }
+
+    public static long of(ExecutorType executorType) {
+        if (executorType == ExecutorType.OFF_HEAP) {
+            return offHeap();
+        }
+        return heap();
+    }
+
+    public static long heap() {
+        return configuredOrDefault(HEAP_PROPERTY, () -> Runtime.getRuntime().maxMemory() / DEFAULT_FRACTION);
+    }
+
+    /**
+     * 힙 밖 메모리는 -Xmx와 무관하므로 물리 메모리를 기준으로 한다.
+     * JVM이 물리 메모리 크기를 알려주지 않으면 힙 예산을 사용한다.
+     */
+    public static long offHeap() {
+        return configuredOrDefault(OFF_HEAP_PROPERTY, () -> physicalMemoryBytes() / DEFAULT_FRACTION);
+    }
+
+    private static long physicalMemoryBytes() {
+        OperatingSystemMXBean system = ManagementFactory.getOperatingSystemMXBean();
+        if (system instanceof com.sun.management.OperatingSystemMXBean os && os.getTotalMemorySize() > 0) {
+            return os.getTotalMemorySize();
+        }
+        return heap() * DEFAULT_FRACTION;
+    }
+
+    private static long configuredOrDefault(String property, LongSupplier defaultBudget) {
+        String configured = System.getProperty(property);
+        if (configured == null || configured.isBlank()) {
+            return defaultBudget.getAsLong();
+        }
+        return Long.parseLong(configured.strip());
+    }
+}
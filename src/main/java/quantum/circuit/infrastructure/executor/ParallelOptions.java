@@ -0,0 +1,52 @@
+package quantum.circuit.infrastructure.executor;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 게이트 적용 루프를 ForkJoinPool로 나눠 실행하기 위한 설정
+ * 작업량(amplitude 쌍 개수)이 chunkSize 이하이거나 parallelism이 1이면 직렬로 실행한다.
+ *
+ * @param parallelism 사용할 워커 스레드 수
+ * @param chunkSize   한 태스크가 처리하는 최대 amplitude 쌍 개수
+ */
+public record ParallelOptions(int parallelism, int chunkSize) {
+
+    private static final String ERROR_INVALID_PARALLELISM = "[ERROR] 병렬도는 1 이상이어야 합니다.";
+    private static final String ERROR_INVALID_CHUNK_SIZE = "[ERROR] 청크 크기는 1 이상이어야 합니다.";
+    private static final String PARALLELISM_PROPERTY = "quantum.parallelism";
+    private static final String CHUNK_SIZE_PROPERTY = "quantum.chunk.size";
+    private static final int DEFAULT_CHUNK_SIZE = 1 << 14;
+
+    public ParallelOptions {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(ERROR_INVALID_PARALLELISM);
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException(ERROR_INVALID_CHUNK_SIZE);
+        }
+    }
+
+    public static ParallelOptions serial() {
+        return new ParallelOptions(1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 시스템 프로퍼티 quantum.parallelism, quantum.chunk.size로 설정 (기본값: 공용 풀 병렬도, 16384)
+     */
+    public static ParallelOptions fromSystemProperties() {
+        int parallelism = Integer.getInteger(PARALLELISM_PROPERTY, ForkJoinPool.getCommonPoolParallelism());
+        int chunkSize = Integer.getInteger(CHUNK_SIZE_PROPERTY, DEFAULT_CHUNK_SIZE);
+        return new ParallelOptions(parallelism, chunkSize);
+    }
+
+    public boolean isParallel(int workSize) {
+        return parallelism > 1 && workSize > chunkSize;
+    }
+
+    /**
+     * 병렬도가 공용 풀과 같으면 공용 풀을 쓰고, 다르면 병렬도별 공유 풀을 쓴다.
+     */
+    boolean usesCommonPool() {
+        return parallelism == ForkJoinPool.getCommonPoolParallelism();
+    }
+}
@@ -0,0 +1,70 @@
+package quantum.circuit.infrastructure.executor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * [0, size) 인덱스 범위를 청크 단위로 나눠 ForkJoinPool에서 실행
+ * 병렬도가 공용 풀과 다르면 병렬도별로 하나씩 만든 공유 풀을 쓴다. (Executor마다 풀을 만들지 않는다)
+ */
+final class ParallelRangeRunner {
+
+    private static final Map<Integer, ForkJoinPool> SHARED_POOLS = new ConcurrentHashMap<>();
+
+    private final ParallelOptions options;
+
+    ParallelRangeRunner(ParallelOptions options) {
+        this.options = options;
+    }
+
+    void run(int size, RangeKernel kernel) {
+        if (!options.isParallel(size)) {
+            kernel.apply(0, size);
+            return;
+        }
+        pool().invoke(new RangeTask(0, size, options.chunkSize(), kernel));
+    }
+
+    ForkJoinPool pool() {
+        if (options.usesCommonPool()) {
+            return ForkJoinPool.commonPool();
+        }
+        return SHARED_POOLS.computeIfAbsent(options.parallelism(), ForkJoinPool::new);
+    }
+
+    @FunctionalInterface
+    interface RangeKernel {
+
+        void apply(int from, int to);
+    }
+
+    private static class RangeTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final RangeKernel kernel;
+
+        RangeTask(int from, int to, int chunkSize, RangeKernel kernel) {
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.kernel = kernel;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                kernel.apply(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(
+                    new RangeTask(from, middle, chunkSize, kernel),
+                    new RangeTask(middle, to, chunkSize, kernel)
+            );
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package quantum.circuit.infrastructure.executor;
+
+import java.lang.reflect.InvocationTargetException;
+
+import quantum.circuit.domain.state.executor.QuantumExecutor;
+
+/**
+ * preview 소스 셋(src/preview/java)의 백엔드를 클래스 이름으로 불러온다.
+ * OFF_HEAP(FFM API, Java 21 preview)과 STATE_VECTOR_SIMD(Vector API, incubator 모듈)는 기본 빌드에 포함되지 않으므로,
+ * 기본 경로는 이 백엔드들의 클래스나 preview 플래그 없이 컴파일되고 실행된다.
+ */
+final class PreviewBackends {
+
+    private static final String OFF_HEAP_EXECUTOR = "quantum.circuit.infrastructure.executor.OffHeapQuantumExecutor";
+    private static final String VECTOR_GATE_KERNELS = "quantum.circuit.infrastructure.executor.VectorGateKernels";
+    private static final String ERROR_UNAVAILABLE = "[ERROR] %s 백엔드를 사용할 수 없습니다. "
+            + "-PpreviewBackends로 빌드하고 --enable-preview --add-modules jdk.incubator.vector로 실행해야 합니다.";
+
+    private PreviewBackends() {
+    }
+
+    static QuantumExecutor offHeapExecutor(int qubitCount) {
+        return (QuantumExecutor) instantiate(
+                OFF_HEAP_EXECUTOR, ExecutorType.OFF_HEAP, new Class<?>[]{int.class}, qubitCount);
+    }
+
+    static SimdGateKernels simdGateKernels() {
+        return (SimdGateKernels) instantiate(VECTOR_GATE_KERNELS, ExecutorType.STATE_VECTOR_SIMD, new Class<?>[0]);
+    }
+
+    /**
+     * 클래스가 없거나(기본 빌드) preview 플래그 없이 실행해 불러올 수 없으면 IllegalStateException을 던진다.
+     */
+    private static Object instantiate(
+            String className,
+            ExecutorType backend,
+            Class<?>[] parameterTypes,
+            Object... arguments
+    ) {
+        try {
+            return Class.forName(className)
+                    .getDeclaredConstructor(parameterTypes)
+                    .newInstance(arguments);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(String.format(ERROR_UNAVAILABLE, backend), e.getCause());
+        } catch (ReflectiveOperationException | LinkageError e) {
+            throw new IllegalStateException(String.format(ERROR_UNAVAILABLE, backend), e);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package quantum.circuit.infrastructure.executor;
+
+import java.util.Random;
+
+import quantum.circuit.domain.circuit.QubitIndex;
+import quantum.circuit.domain.state.MeasurementResult;
+import quantum.circuit.domain.state.Probability;
+import quantum.circuit.domain.state.executor.QuantumExecutor;
+
+/**
+ * 이미 계산된 확률 배열만으로 조회와 측정에 답하는 읽기 전용 Executor
+ * 위상 정보가 없으므로 게이트를 더 적용할 수 없다. (실행 결과 캐시가 돌려주는 상태용)
+ */
+public class ProbabilitySnapshotExecutor implements QuantumExecutor {
+
+    private static final double MIN_PROBABILITY = 0.0;
+    private static final double MAX_PROBABILITY = 1.0;
+    private static final String ERROR_READ_ONLY = "[ERROR] 확률 스냅샷 상태에는 게이트를 적용할 수 없습니다.";
+
+    private final double[] probabilities;
+    private final boolean empty;
+    private final Random random;
+
+    public ProbabilitySnapshotExecutor(double[] probabilities, boolean empty) {
+        this(probabilities, empty, new Random());
+    }
+
+    public ProbabilitySnapshotExecutor(double[] probabilities, boolean empty, Random random) {
+        this.probabilities = probabilities.clone();
+        this.empty = empty;
+        this.random = random;
+    }
+
+    @Override
+    public void applyXGate(QubitIndex target) {
+        throw new IllegalStateException(ERROR_READ_ONLY);
+    }
+
+    @Override
+    public void applyHadamardGate(QubitIndex target) {
+        throw new IllegalStateException(ERROR_READ_ONLY);
+    }
+
+    @Override
+    public void applyZGate(QubitIndex target) {
+        throw new IllegalStateException(ERROR_READ_ONLY);
+    }
+
+    @Override
+    public void applyCNOTGate(QubitIndex control, QubitIndex target) {
+        throw new IllegalStateException(ERROR_READ_ONLY);
+    }
+
+    @Override
+    public Probability getProbabilityOfOne(QubitIndex index) {
+        return new Probability(calculateProbabilityOfOne(index.value()));
+    }
+
+    private double calculateProbabilityOfOne(int qubit) {
+        int mask = 1 << qubit;
+        double probability = 0.0;
+        for (int i = 0; i < probabilities.length; i++) {
+            if ((i & mask) != 0) {
+                probability += probabilities[i];
+            }
+        }
+        return Math.max(MIN_PROBABILITY, Math.min(MAX_PROBABILITY, probability));
+    }
+
+    @Override
+    public MeasurementResult measure(QubitIndex index) {
+        if (random.nextDouble() < calculateProbabilityOfOne(index.value())) {
+            return MeasurementResult.ONE;
+        }
+        return MeasurementResult.ZERO;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    @Override
+    public double[] getProbabilityArray() {
+        return probabilities.clone();
+    }
+}
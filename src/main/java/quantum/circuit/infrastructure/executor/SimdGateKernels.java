@@ -0,0 +1,14 @@
+package quantum.circuit.infrastructure.executor;
+
+/**
+ * 교차 저장(실수부, 허수부)된 상태 벡터의 [from, to) amplitude 쌍에 단일 큐비트 게이트를 적용하는 SIMD 커널
+ * 구현(VectorGateKernels)은 jdk.incubator.vector가 필요하므로 preview 소스 셋에 있다.
+ */
+interface SimdGateKernels {
+
+    void hadamard(double[] amplitudes, int qubit, int from, int to, double scale);
+
+    void pauliX(double[] amplitudes, int qubit, int from, int to);
+
+    void pauliZ(double[] amplitudes, int qubit, int from, int to);
+}
@@ -0,0 +1,141 @@
+package quantum.circuit.infrastructure.executor;
+
+import java.util.Arrays;
+
+/**
+ * basis state 인덱스(long) -> 복소 amplitude 오픈 어드레싱 해시 맵
+ * 키, 실수부, 허수부를 각각 원시 배열에 보관하고 선형 탐사로 충돌을 해결한다. 삭제는 지원하지 않으며,
+ * 가지치기가 필요하면 남길 항목만 새 맵으로 옮긴다.
+ */
+final class SparseAmplitudeMap {
+
+    private static final long EMPTY = -1L;
+    private static final int MIN_CAPACITY = 16;
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private long[] keys;
+    private double[] reals;
+    private double[] imags;
+    private int size;
+    private int shift;
+
+    SparseAmplitudeMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        reals = new double[capacity];
+        imags = new double[capacity];
+        shift = Long.numberOfLeadingZeros(capacity - 1);
+        size = 0;
+    }
+
+    /**
+     * key의 amplitude에 (real, imag)를 더한다. 없던 key면 새로 추가한다.
+     */
+    void add(long key, double real, double imag) {
+        int slot = findSlot(key);
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            size++;
+        }
+        reals[slot] += real;
+        imags[slot] += imag;
+        if (size * 2 > keys.length) {
+            grow();
+        }
+    }
+
+    private int findSlot(long key) {
+        int mask = keys.length - 1;
+        int slot = (int) ((key * HASH_MULTIPLIER) >>> shift);
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        double[] oldReals = reals;
+        double[] oldImags = imags;
+        allocate(oldKeys.length << 1);
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldKeys[slot] != EMPTY) {
+                add(oldKeys[slot], oldReals[slot], oldImags[slot]);
+            }
+        }
+    }
+
+    /**
+     * 확률(|amplitude|^2)이 threshold 미만인 항목을 뺀 맵. 뺄 항목이 없으면 자기 자신을 반환한다.
+     */
+    SparseAmplitudeMap pruned(double threshold) {
+        int kept = 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != EMPTY && probabilityAt(slot) >= threshold) {
+                kept++;
+            }
+        }
+        if (kept == size) {
+            return this;
+        }
+        SparseAmplitudeMap pruned = new SparseAmplitudeMap(kept);
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != EMPTY && probabilityAt(slot) >= threshold) {
+                pruned.add(keys[slot], reals[slot], imags[slot]);
+            }
+        }
+        return pruned;
+    }
+
+    void negateWhere(long mask) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != EMPTY && (keys[slot] & mask) != 0) {
+                reals[slot] = -reals[slot];
+                imags[slot] = -imags[slot];
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 슬롯 단위 순회를 위한 전체 슬롯 수. 빈 슬롯은 isOccupied로 건너뛴다.
+     */
+    int capacity() {
+        return keys.length;
+    }
+
+    boolean isOccupied(int slot) {
+        return keys[slot] != EMPTY;
+    }
+
+    long keyAt(int slot) {
+        return keys[slot];
+    }
+
+    double realAt(int slot) {
+        return reals[slot];
+    }
+
+    double imagAt(int slot) {
+        return imags[slot];
+    }
+
+    double probabilityAt(int slot) {
+        return reals[slot] * reals[slot] + imags[slot] * imags[slot];
+    }
+}
@@ -0,0 +1,297 @@
+package quantum.circuit.infrastructure.executor;
+
+import java.util.Random;
+
+import quantum.circuit.domain.circuit.CircuitStep;
+import quantum.circuit.domain.circuit.QubitIndex;
+import quantum.circuit.domain.gate.FusedGate;
+import quantum.circuit.domain.gate.GateMatrix;
+import quantum.circuit.domain.state.MeasurementResult;
+import quantum.circuit.domain.state.Probability;
+import quantum.circuit.domain.state.QuantumState;
+import quantum.circuit.domain.state.executor.QuantumExecutor;
+
+/**
+ * 0이 아닌 amplitude만 보관하는 희소 상태 벡터 Executor
+ * GHZ, Bell처럼 얽힘이 얕은 회로는 큐비트가 많아도 amplitude가 몇 개뿐이라 게이트당 비용이 O(0이 아닌 amplitude 수)다.
+ * 확률이 pruneThreshold 미만인 amplitude는 버리고, 채움 비율이 denseFillRatio를 넘으면
+ * StateVectorQuantumExecutor로 전환해 이후 게이트를 위임한다.
+ * 밀집 상태 벡터가 메모리 예산(기본값은 MemoryBudget.heap())을 넘으면 전환하지 않고 희소 표현을 유지한다.
+ */
+public class SparseQuantumExecutor implements QuantumExecutor {
+
+    private static final double INV_SQRT_2 = 1.0 / Math.sqrt(2.0);
+    private static final double MIN_PROBABILITY = 0.0;
+    private static final double MAX_PROBABILITY = 1.0;
+    private static final String FILL_RATIO_PROPERTY = "quantum.sparse.fill.ratio";
+    private static final double DEFAULT_FILL_RATIO = 0.25;
+    private static final double DEFAULT_PRUNE_THRESHOLD = 1e-24;
+    private static final int MAX_ARRAY_QUBITS = 30;
+    private static final String ERROR_INVALID_FILL_RATIO = "[ERROR] 밀집 전환 비율은 0 초과 1 이하여야 합니다.";
+    private static final String ERROR_INVALID_PRUNE_THRESHOLD = "[ERROR] 가지치기 임계값은 0 이상이어야 합니다.";
+    private static final String ERROR_TOO_MANY_STATES = "[ERROR] 상태 수가 너무 많아 확률 배열로 내보낼 수 없습니다.";
+
+    private final int qubitCount;
+    private final double denseFillRatio;
+    private final double pruneThreshold;
+    private final Random random;
+    private final long denseMemoryBudget;
+    private SparseAmplitudeMap amplitudes;
+    private StateVectorQuantumExecutor dense;
+    private int appliedGateCount;
+
+    /**
+     * 밀집 전환 비율은 시스템 프로퍼티 quantum.sparse.fill.ratio로 설정 (기본값: 0.25)
+     */
+    public SparseQuantumExecutor(int qubitCount) {
+        this(qubitCount, fillRatioFromSystemProperty(), DEFAULT_PRUNE_THRESHOLD);
+    }
+
+    public SparseQuantumExecutor(int qubitCount, double denseFillRatio, double pruneThreshold) {
+        this(qubitCount, denseFillRatio, pruneThreshold, new Random());
+    }
+
+    public SparseQuantumExecutor(int qubitCount, double denseFillRatio, double pruneThreshold, Random random) {
+        this(qubitCount, denseFillRatio, pruneThreshold, random, MemoryBudget.heap());
+    }
+
+    /**
+     * @param denseMemoryBudget 밀집 상태 벡터로 전환할 때 허용하는 최대 메모리(바이트)
+     */
+    public SparseQuantumExecutor(
+            int qubitCount,
+            double denseFillRatio,
+            double pruneThreshold,
+            Random random,
+            long denseMemoryBudget
+    ) {
+        if (denseFillRatio <= 0.0 || denseFillRatio > 1.0) {
+            throw new IllegalArgumentException(ERROR_INVALID_FILL_RATIO);
+        }
+        if (pruneThreshold < 0.0) {
+            throw new IllegalArgumentException(ERROR_INVALID_PRUNE_THRESHOLD);
+        }
+        this.qubitCount = qubitCount;
+        this.denseFillRatio = denseFillRatio;
+        this.pruneThreshold = pruneThreshold;
+        this.random = random;
+        this.denseMemoryBudget = denseMemoryBudget;
+        this.amplitudes = new SparseAmplitudeMap(1);
+        this.amplitudes.add(0L, 1.0, 0.0);
+    }
+
+    private static double fillRatioFromSystemProperty() {
+        String configured = System.getProperty(FILL_RATIO_PROPERTY);
+        if (configured == null || configured.isBlank()) {
+            return DEFAULT_FILL_RATIO;
+        }
+        return Double.parseDouble(configured.strip());
+    }
+
+    @Override
+    public void applyXGate(QubitIndex target) {
+        if (dense != null) {
+            dense.applyXGate(target);
+        } else {
+            long mask = 1L << target.value();
+            SparseAmplitudeMap next = new SparseAmplitudeMap(amplitudes.size());
+            for (int slot = 0; slot < amplitudes.capacity(); slot++) {
+                if (amplitudes.isOccupied(slot)) {
+                    next.add(amplitudes.keyAt(slot) ^ mask, amplitudes.realAt(slot), amplitudes.imagAt(slot));
+                }
+            }
+            amplitudes = next;
+        }
+        appliedGateCount++;
+    }
+
+    @Override
+    public void applyHadamardGate(QubitIndex target) {
+        if (dense != null) {
+            dense.applyHadamardGate(target);
+        } else {
+            long mask = 1L << target.value();
+            SparseAmplitudeMap next = new SparseAmplitudeMap(amplitudes.size() * 2);
+            for (int slot = 0; slot < amplitudes.capacity(); slot++) {
+                if (amplitudes.isOccupied(slot)) {
+                    long key = amplitudes.keyAt(slot);
+                    double real = amplitudes.realAt(slot) * INV_SQRT_2;
+                    double imag = amplitudes.imagAt(slot) * INV_SQRT_2;
+                    double sign = (key & mask) == 0 ? 1.0 : -1.0;
+                    next.add(key & ~mask, real, imag);
+                    next.add(key | mask, sign * real, sign * imag);
+                }
+            }
+            amplitudes = next.pruned(pruneThreshold);
+            switchToDenseIfFilled();
+        }
+        appliedGateCount++;
+    }
+
+    /**
+     * 융합 게이트의 2x2 행렬을 0이 아닌 amplitude 순회 한 번으로 적용
+     */
+    @Override
+    public void applyFusedGate(FusedGate gate, QuantumState state) {
+        if (dense != null) {
+            dense.applyFusedGate(gate, state);
+        } else {
+            GateMatrix matrix = gate.getMatrix();
+            long mask = 1L << gate.getTarget().value();
+            SparseAmplitudeMap next = new SparseAmplitudeMap(amplitudes.size() * 2);
+            for (int slot = 0; slot < amplitudes.capacity(); slot++) {
+                if (amplitudes.isOccupied(slot)) {
+                    long key = amplitudes.keyAt(slot);
+                    double real = amplitudes.realAt(slot);
+                    double imag = amplitudes.imagAt(slot);
+                    if ((key & mask) == 0) {
+                        addProduct(next, key, matrix.aReal(), matrix.aImag(), real, imag);
+                        addProduct(next, key | mask, matrix.cReal(), matrix.cImag(), real, imag);
+                    } else {
+                        addProduct(next, key & ~mask, matrix.bReal(), matrix.bImag(), real, imag);
+                        addProduct(next, key, matrix.dReal(), matrix.dImag(), real, imag);
+                    }
+                }
+            }
+            amplitudes = next.pruned(pruneThreshold);
+            switchToDenseIfFilled();
+        }
+        appliedGateCount++;
+    }
+
+    private static void addProduct(
+            SparseAmplitudeMap target, long key, double factorReal, double factorImag, double real, double imag) {
+        if (factorReal == 0.0 && factorImag == 0.0) {
+            return;
+        }
+        target.add(key, factorReal * real - factorImag * imag, factorReal * imag + factorImag * real);
+    }
+
+    @Override
+    public void applyZGate(QubitIndex target) {
+        if (dense != null) {
+            dense.applyZGate(target);
+        } else {
+            amplitudes.negateWhere(1L << target.value());
+        }
+        appliedGateCount++;
+    }
+
+    @Override
+    public void applyCNOTGate(QubitIndex control, QubitIndex target) {
+        if (dense != null) {
+            dense.applyCNOTGate(control, target);
+        } else {
+            long controlMask = 1L << control.value();
+            long targetMask = 1L << target.value();
+            SparseAmplitudeMap next = new SparseAmplitudeMap(amplitudes.size());
+            for (int slot = 0; slot < amplitudes.capacity(); slot++) {
+                if (amplitudes.isOccupied(slot)) {
+                    long key = amplitudes.keyAt(slot);
+                    long flipped = (key & controlMask) != 0 ? key ^ targetMask : key;
+                    next.add(flipped, amplitudes.realAt(slot), amplitudes.imagAt(slot));
+                }
+            }
+            amplitudes = next;
+        }
+        appliedGateCount++;
+    }
+
+    @Override
+    public void applyStep(CircuitStep step, QuantumState state) {
+        if (dense != null) {
+            dense.applyStep(step, state);
+            appliedGateCount += step.getGates().size();
+            return;
+        }
+        QuantumExecutor.super.applyStep(step, state);
+    }
+
+    /**
+     * 0이 아닌 amplitude 수가 전체 상태 수의 denseFillRatio를 넘으면 밀집 상태 벡터로 옮긴다.
+     * 밀집 Executor가 표현할 수 없거나 밀집 상태 벡터가 메모리 예산을 넘는 큐비트 수에서는 희소 표현을 유지한다.
+     */
+    private void switchToDenseIfFilled() {
+        if (ExecutorType.STATE_VECTOR.estimateBytes(qubitCount) > denseMemoryBudget) {
+            return;
+        }
+        if (amplitudes.size() <= denseFillRatio * (1L << qubitCount)) {
+            return;
+        }
+        dense = new StateVectorQuantumExecutor(
+                qubitCount, ParallelOptions.fromSystemProperties(), GateKernel.SCALAR, random);
+        dense.loadAmplitudes(amplitudes);
+        amplitudes = null;
+    }
+
+    boolean isDense() {
+        return dense != null;
+    }
+
+    @Override
+    public Probability getProbabilityOfOne(QubitIndex index) {
+        if (dense != null) {
+            return dense.getProbabilityOfOne(index);
+        }
+        return new Probability(calculateProbabilityOfOne(index.value()));
+    }
+
+    private double calculateProbabilityOfOne(int qubit) {
+        long mask = 1L << qubit;
+        double probability = 0.0;
+        for (int slot = 0; slot < amplitudes.capacity(); slot++) {
+            if (amplitudes.isOccupied(slot) && (amplitudes.keyAt(slot) & mask) != 0) {
+                probability += amplitudes.probabilityAt(slot);
+            }
+        }
+        return clamp(probability);
+    }
+
+    @Override
+    public MeasurementResult measure(QubitIndex index) {
+        if (dense != null) {
+            return dense.measure(index);
+        }
+        if (random.nextDouble() < calculateProbabilityOfOne(index.value())) {
+            return MeasurementResult.ONE;
+        }
+        return MeasurementResult.ZERO;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return appliedGateCount == 0;
+    }
+
+    /**
+     * 모든 basis state의 정확한 확률을 인덱스 순서의 배열로 반환
+     * 자바 배열 한계를 넘는 상태 수는 배열로 내보낼 수 없다.
+     */
+    @Override
+    public double[] getProbabilityArray() {
+        if (dense != null) {
+            return dense.getProbabilityArray();
+        }
+        if (qubitCount > MAX_ARRAY_QUBITS) {
+            throw new IllegalStateException(ERROR_TOO_MANY_STATES);
+        }
+        double[] probabilities = new double[1 << qubitCount];
+        for (int slot = 0; slot < amplitudes.capacity(); slot++) {
+            if (amplitudes.isOccupied(slot)) {
+                probabilities[(int) amplitudes.keyAt(slot)] = clamp(amplitudes.probabilityAt(slot));
+            }
+        }
+        return probabilities;
+    }
+
+    private double clamp(double probability) {
+        return Math.max(MIN_PROBABILITY, Math.min(MAX_PROBABILITY, probability));
+    }
+
+    @Override
+    public void close() {
+        if (dense != null) {
+            dense.close();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package quantum.circuit.infrastructure.executor;
+
+import java.util.Random;
+
+import quantum.circuit.domain.circuit.QubitIndex;
+import quantum.circuit.domain.state.MeasurementResult;
+import quantum.circuit.domain.state.Probability;
+import quantum.circuit.domain.state.executor.QuantumExecutor;
+
+/**
+ * stabilizer tableau 기반 Executor (Clifford 회로 전용)
+ * X, Z, H, CNOT만으로 이루어진 회로는 상태 벡터 없이 O(n^2) 비트 행렬로 표현된다.
+ * 게이트당 O(n), 측정 확률 계산은 최대 O(n^2 / 64)이므로 수천 큐비트도 시뮬레이션할 수 있다.
+ * 한 큐비트의 측정 확률은 항상 0, 1/2, 1 중 하나다.
+ */
+public class StabilizerQuantumExecutor implements QuantumExecutor {
+
+    private static final double HALF = 0.5;
+    private static final int MAX_ARRAY_QUBITS = 30;
+    private static final String ERROR_TOO_MANY_STATES = "[ERROR] 상태 수가 너무 많아 확률 배열로 내보낼 수 없습니다.";
+
+    private final int qubitCount;
+    private final StabilizerTableau tableau;
+    private final Random random;
+    private int appliedGateCount;
+
+    public StabilizerQuantumExecutor(int qubitCount) {
+        this(qubitCount, new Random());
+    }
+
+    public StabilizerQuantumExecutor(int qubitCount, Random random) {
+        this.qubitCount = qubitCount;
+        this.tableau = new StabilizerTableau(qubitCount);
+        this.random = random;
+    }
+
+    @Override
+    public void applyXGate(QubitIndex target) {
+        tableau.pauliX(target.value());
+        appliedGateCount++;
+    }
+
+    @Override
+    public void applyHadamardGate(QubitIndex target) {
+        tableau.hadamard(target.value());
+        appliedGateCount++;
+    }
+
+    @Override
+    public void applyZGate(QubitIndex target) {
+        tableau.pauliZ(target.value());
+        appliedGateCount++;
+    }
+
+    @Override
+    public void applyCNOTGate(QubitIndex control, QubitIndex target) {
+        tableau.cnot(control.value(), target.value());
+        appliedGateCount++;
+    }
+
+    @Override
+    public Probability getProbabilityOfOne(QubitIndex index) {
+        int qubit = index.value();
+        if (tableau.isRandom(qubit)) {
+            return new Probability(HALF);
+        }
+        return new Probability(tableau.deterministicOutcome(qubit) ? 1.0 : 0.0);
+    }
+
+    @Override
+    public MeasurementResult measure(QubitIndex index) {
+        if (random.nextDouble() < getProbabilityOfOne(index).getValue()) {
+            return MeasurementResult.ONE;
+        }
+        return MeasurementResult.ZERO;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return appliedGateCount == 0;
+    }
+
+    /**
+     * 모든 basis state의 정확한 확률을 인덱스 순서의 배열로 반환
+     * 큐비트를 차례로 측정하며 무작위 결과마다 tableau를 복사해 두 갈래로 붕괴시킨다.
+     * 비용은 O(2^k * n^3 / 64)이며, k는 무작위 측정 횟수(0이 아닌 basis state 수의 log2)다.
+     */
+    @Override
+    public double[] getProbabilityArray() {
+        if (qubitCount > MAX_ARRAY_QUBITS) {
+            throw new IllegalStateException(ERROR_TOO_MANY_STATES);
+        }
+        double[] probabilities = new double[1 << qubitCount];
+        collectProbabilities(tableau.copy(), 0, 0, 1.0, probabilities);
+        return probabilities;
+    }
+
+    private void collectProbabilities(
+            StabilizerTableau branch, int qubit, int basisState, double probability, double[] probabilities) {
+        if (qubit == qubitCount) {
+            probabilities[basisState] = probability;
+            return;
+        }
+        if (!branch.isRandom(qubit)) {
+            int outcome = branch.deterministicOutcome(qubit) ? 1 << qubit : 0;
+            collectProbabilities(branch, qubit + 1, basisState | outcome, probability, probabilities);
+            return;
+        }
+        StabilizerTableau one = branch.copy();
+        one.collapse(qubit, true);
+        collectProbabilities(one, qubit + 1, basisState | (1 << qubit), probability * HALF, probabilities);
+        branch.collapse(qubit, false);
+        collectProbabilities(branch, qubit + 1, basisState, probability * HALF, probabilities);
+    }
+}
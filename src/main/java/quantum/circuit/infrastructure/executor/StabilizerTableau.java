@@ -0,0 +1,171 @@
+package quantum.circuit.infrastructure.executor;
+
+import java.util.Arrays;
+
+/**
+ * Aaronson-Gottesman(CHP) stabilizer tableau
+ * 0 ~ n-1 행은 destabilizer, n ~ 2n-1 행은 stabilizer, 2n 행은 결정적 측정용 임시 행이다.
+ * 각 행의 X/Z 비트는 long[]에 64개씩 묶어 저장하고, 부호는 phases에 보관한다.
+ */
+final class StabilizerTableau {
+
+    private final int qubitCount;
+    private final int scratch;
+    private final long[][] xs;
+    private final long[][] zs;
+    private final boolean[] phases;
+
+    StabilizerTableau(int qubitCount) {
+        this.qubitCount = qubitCount;
+        this.scratch = 2 * qubitCount;
+        int words = (qubitCount + Long.SIZE - 1) / Long.SIZE;
+        this.xs = new long[scratch + 1][words];
+        this.zs = new long[scratch + 1][words];
+        this.phases = new boolean[scratch + 1];
+        for (int qubit = 0; qubit < qubitCount; qubit++) {
+            flip(xs[qubit], qubit);
+            flip(zs[qubitCount + qubit], qubit);
+        }
+    }
+
+    private StabilizerTableau(StabilizerTableau source) {
+        this.qubitCount = source.qubitCount;
+        this.scratch = source.scratch;
+        this.xs = new long[source.xs.length][];
+        this.zs = new long[source.zs.length][];
+        for (int row = 0; row < xs.length; row++) {
+            xs[row] = source.xs[row].clone();
+            zs[row] = source.zs[row].clone();
+        }
+        this.phases = source.phases.clone();
+    }
+
+    StabilizerTableau copy() {
+        return new StabilizerTableau(this);
+    }
+
+    private static boolean bit(long[] row, int qubit) {
+        return (row[qubit >>> 6] & (1L << qubit)) != 0;
+    }
+
+    private static void flip(long[] row, int qubit) {
+        row[qubit >>> 6] ^= 1L << qubit;
+    }
+
+    void hadamard(int qubit) {
+        for (int row = 0; row < scratch; row++) {
+            boolean x = bit(xs[row], qubit);
+            boolean z = bit(zs[row], qubit);
+            phases[row] ^= x & z;
+            if (x != z) {
+                flip(xs[row], qubit);
+                flip(zs[row], qubit);
+            }
+        }
+    }
+
+    void pauliX(int qubit) {
+        for (int row = 0; row < scratch; row++) {
+            phases[row] ^= bit(zs[row], qubit);
+        }
+    }
+
+    void pauliZ(int qubit) {
+        for (int row = 0; row < scratch; row++) {
+            phases[row] ^= bit(xs[row], qubit);
+        }
+    }
+
+    void cnot(int control, int target) {
+        for (int row = 0; row < scratch; row++) {
+            boolean xControl = bit(xs[row], control);
+            boolean zControl = bit(zs[row], control);
+            boolean xTarget = bit(xs[row], target);
+            boolean zTarget = bit(zs[row], target);
+            phases[row] ^= xControl & zTarget & (xTarget == zControl);
+            if (xControl) {
+                flip(xs[row], target);
+            }
+            if (zTarget) {
+                flip(zs[row], control);
+            }
+        }
+    }
+
+    /**
+     * qubit을 Z 기저로 측정한 결과가 무작위(확률 1/2)인지 여부
+     * X 성분이 있는 stabilizer가 하나라도 있으면 무작위다.
+     */
+    boolean isRandom(int qubit) {
+        for (int row = qubitCount; row < scratch; row++) {
+            if (bit(xs[row], qubit)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 결정적인 측정 결과를 상태를 바꾸지 않고 계산 (isRandom이 false일 때만 유효)
+     */
+    boolean deterministicOutcome(int qubit) {
+        Arrays.fill(xs[scratch], 0L);
+        Arrays.fill(zs[scratch], 0L);
+        phases[scratch] = false;
+        for (int row = 0; row < qubitCount; row++) {
+            if (bit(xs[row], qubit)) {
+                rowsum(scratch, row + qubitCount);
+            }
+        }
+        return phases[scratch];
+    }
+
+    /**
+     * 무작위 측정의 결과를 outcome으로 정하고 상태를 붕괴시킨다. (isRandom이 true일 때만 유효)
+     */
+    void collapse(int qubit, boolean outcome) {
+        int pivot = qubitCount;
+        while (!bit(xs[pivot], qubit)) {
+            pivot++;
+        }
+        for (int row = 0; row < scratch; row++) {
+            if (row != pivot && bit(xs[row], qubit)) {
+                rowsum(row, pivot);
+            }
+        }
+        int destabilizer = pivot - qubitCount;
+        System.arraycopy(xs[pivot], 0, xs[destabilizer], 0, xs[pivot].length);
+        System.arraycopy(zs[pivot], 0, zs[destabilizer], 0, zs[pivot].length);
+        phases[destabilizer] = phases[pivot];
+        Arrays.fill(xs[pivot], 0L);
+        Arrays.fill(zs[pivot], 0L);
+        flip(zs[pivot], qubit);
+        phases[pivot] = outcome;
+    }
+
+    /**
+     * target 행에 source 행을 곱한다. Pauli 곱의 위상(i의 거듭제곱)을 64큐비트 단위 비트 연산으로 합산한다.
+     */
+    private void rowsum(int target, int source) {
+        long[] x1 = xs[source];
+        long[] z1 = zs[source];
+        long[] x2 = xs[target];
+        long[] z2 = zs[target];
+        int exponent = (phases[target] ? 2 : 0) + (phases[source] ? 2 : 0);
+        for (int word = 0; word < x1.length; word++) {
+            long sx = x1[word];
+            long sz = z1[word];
+            long tx = x2[word];
+            long tz = z2[word];
+            long y = sx & sz;
+            long xOnly = sx & ~sz;
+            long zOnly = ~sx & sz;
+            long plus = (y & ~tx & tz) | (xOnly & tx & tz) | (zOnly & tx & ~tz);
+            long minus = (y & tx & ~tz) | (xOnly & ~tx & tz) | (zOnly & tx & tz);
+            exponent += Long.bitCount(plus) - Long.bitCount(minus);
+            x2[word] = tx ^ sx;
+            z2[word] = tz ^ sz;
+        }
+        phases[target] = Math.floorMod(exponent, 4) == 2;
+    }
+}
@@ -0,0 +1,499 @@
+package quantum.circuit.infrastructure.executor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import quantum.circuit.domain.circuit.CircuitStep;
+import quantum.circuit.domain.circuit.CompiledCircuit;
+import quantum.circuit.domain.circuit.QubitIndex;
+import quantum.circuit.domain.gate.CNOTGate;
+import quantum.circuit.domain.gate.FusedGate;
+import quantum.circuit.domain.gate.GateMatrix;
+import quantum.circuit.domain.gate.HadamardGate;
+import quantum.circuit.domain.gate.PauliXGate;
+import quantum.circuit.domain.gate.PauliZGate;
+import quantum.circuit.domain.gate.QuantumGate;
+import quantum.circuit.domain.state.MeasurementResult;
+import quantum.circuit.domain.state.Probability;
+import quantum.circuit.domain.state.QuantumState;
+import quantum.circuit.domain.state.executor.QuantumExecutor;
+
+/**
+ * 상태 벡터를 직접 보관하는 Executor
+ * amplitude는 double[]에 (실수부, 허수부) 순서로 교차 저장하며, 게이트는 비트 마스크 인덱스 루프로 제자리 적용한다.
+ * 게이트당 비용은 O(2^n)이고 조회 시 회로를 다시 실행하지 않는다.
+ * 큰 상태에서는 amplitude 쌍 루프를 ParallelOptions에 따라 ForkJoinPool로 나눠 실행한다.
+ * GateKernel.VECTOR를 선택하면 X, H, Z를 SIMD 커널로 적용한다.
+ * 서로 다른 큐비트에 작용하는 여러 게이트로 이루어진 Step은 한 번의 amplitude 순회로 적용한다.
+ * 컴파일된 프로그램은 QubitIndex나 게이트 객체 없이 int 피연산자로 커널을 바로 호출한다.
+ */
+public class StateVectorQuantumExecutor implements QuantumExecutor {
+
+    private static final double INV_SQRT_2 = 1.0 / Math.sqrt(2.0);
+    private static final double MIN_PROBABILITY = 0.0;
+    private static final double MAX_PROBABILITY = 1.0;
+    private static final String ERROR_QUBIT_NOT_IN_LAYER = "[ERROR] 레이어에 포함되지 않은 큐비트입니다.";
+    private static final String ERROR_UNSUPPORTED_GATE = "[ERROR] 지원하지 않는 게이트입니다: ";
+    private static final String ERROR_UNKNOWN_OPCODE = "[ERROR] 알 수 없는 opcode입니다: ";
+    private static final int MAX_LAYER_QUBITS = 6;
+    private static final int LOCAL_X = 0;
+    private static final int LOCAL_H = 1;
+    private static final int LOCAL_Z = 2;
+    private static final int LOCAL_CNOT = 3;
+    private static final int LOCAL_MATRIX = 4;
+
+    private final int qubitCount;
+    private final int stateCount;
+    private final double[] amplitudes;
+    private final Random random;
+    private final ParallelRangeRunner runner;
+    private final SimdGateKernels simdKernels;
+    private int appliedGateCount;
+
+    public StateVectorQuantumExecutor(int qubitCount) {
+        this(qubitCount, ParallelOptions.fromSystemProperties());
+    }
+
+    public StateVectorQuantumExecutor(int qubitCount, ParallelOptions parallelOptions) {
+        this(qubitCount, parallelOptions, GateKernel.SCALAR);
+    }
+
+    public StateVectorQuantumExecutor(int qubitCount, ParallelOptions parallelOptions, GateKernel gateKernel) {
+        this(qubitCount, parallelOptions, gateKernel, new Random());
+    }
+
+    public StateVectorQuantumExecutor(
+            int qubitCount,
+            ParallelOptions parallelOptions,
+            GateKernel gateKernel,
+            Random random
+    ) {
+        this.qubitCount = qubitCount;
+        this.stateCount = 1 << qubitCount;
+        this.amplitudes = new double[stateCount * 2];
+        this.amplitudes[0] = 1.0;
+        this.random = random;
+        this.runner = new ParallelRangeRunner(parallelOptions);
+        this.simdKernels = gateKernel == GateKernel.VECTOR ? PreviewBackends.simdGateKernels() : null;
+    }
+
+    /**
+     * 희소 표현의 amplitude로 상태 벡터를 채운다. (SparseQuantumExecutor의 밀집 전환용)
+     */
+    void loadAmplitudes(SparseAmplitudeMap sparse) {
+        Arrays.fill(amplitudes, 0.0);
+        for (int slot = 0; slot < sparse.capacity(); slot++) {
+            if (sparse.isOccupied(slot)) {
+                int index = (int) sparse.keyAt(slot) << 1;
+                amplitudes[index] = sparse.realAt(slot);
+                amplitudes[index + 1] = sparse.imagAt(slot);
+            }
+        }
+    }
+
+    @Override
+    public void applyXGate(QubitIndex target) {
+        applyX(target.value());
+    }
+
+    @Override
+    public void applyHadamardGate(QubitIndex target) {
+        applyHadamard(target.value());
+    }
+
+    @Override
+    public void applyZGate(QubitIndex target) {
+        applyZ(target.value());
+    }
+
+    /**
+     * 컴파일된 프로그램의 명령을 순서대로 해석해 커널을 직접 호출한다.
+     */
+    @Override
+    public void run(CompiledCircuit program, QuantumState state) {
+        int instructionCount = program.getInstructionCount();
+        for (int instruction = 0; instruction < instructionCount; instruction++) {
+            int opcode = program.opcodeAt(instruction);
+            int operandA = program.operandAAt(instruction);
+            int operandB = program.operandBAt(instruction);
+            switch (opcode) {
+                case CompiledCircuit.OP_X -> applyX(operandA);
+                case CompiledCircuit.OP_H -> applyHadamard(operandA);
+                case CompiledCircuit.OP_Z -> applyZ(operandA);
+                case CompiledCircuit.OP_CNOT -> applyCNOT(operandA, operandB);
+                case CompiledCircuit.OP_FUSED -> applyFused(operandA, program.getFusedGate(operandB).getMatrix());
+                default -> throw new IllegalArgumentException(ERROR_UNKNOWN_OPCODE + opcode);
+            }
+        }
+    }
+
+    private void applyX(int qubit) {
+        if (simdKernels != null) {
+            runner.run(stateCount >> 1, (from, to) -> simdKernels.pauliX(amplitudes, qubit, from, to));
+        } else {
+            runner.run(stateCount >> 1, (from, to) -> pauliX(qubit, from, to));
+        }
+        appliedGateCount++;
+    }
+
+    private void applyHadamard(int qubit) {
+        if (simdKernels != null) {
+            runner.run(stateCount >> 1,
+                    (from, to) -> simdKernels.hadamard(amplitudes, qubit, from, to, INV_SQRT_2));
+        } else {
+            runner.run(stateCount >> 1, (from, to) -> hadamard(qubit, from, to));
+        }
+        appliedGateCount++;
+    }
+
+    private void applyZ(int qubit) {
+        if (simdKernels != null) {
+            runner.run(stateCount >> 1, (from, to) -> simdKernels.pauliZ(amplitudes, qubit, from, to));
+        } else {
+            runner.run(stateCount >> 1, (from, to) -> pauliZ(qubit, from, to));
+        }
+        appliedGateCount++;
+    }
+
+    private void pauliX(int qubit, int from, int to) {
+        int mask = 1 << qubit;
+        for (int k = from; k < to; k++) {
+            int zero = BasisState.insertZeroBit(k, qubit);
+            swap(zero, zero | mask);
+        }
+    }
+
+    private void hadamard(int qubit, int from, int to) {
+        int mask = 1 << qubit;
+        for (int k = from; k < to; k++) {
+            int zeroState = BasisState.insertZeroBit(k, qubit);
+            int zero = zeroState << 1;
+            int one = (zeroState | mask) << 1;
+            double zeroReal = amplitudes[zero];
+            double zeroImag = amplitudes[zero + 1];
+            double oneReal = amplitudes[one];
+            double oneImag = amplitudes[one + 1];
+            amplitudes[zero] = (zeroReal + oneReal) * INV_SQRT_2;
+            amplitudes[zero + 1] = (zeroImag + oneImag) * INV_SQRT_2;
+            amplitudes[one] = (zeroReal - oneReal) * INV_SQRT_2;
+            amplitudes[one + 1] = (zeroImag - oneImag) * INV_SQRT_2;
+        }
+    }
+
+    private void pauliZ(int qubit, int from, int to) {
+        int mask = 1 << qubit;
+        for (int k = from; k < to; k++) {
+            int one = (BasisState.insertZeroBit(k, qubit) | mask) << 1;
+            amplitudes[one] = -amplitudes[one];
+            amplitudes[one + 1] = -amplitudes[one + 1];
+        }
+    }
+
+    /**
+     * 융합 게이트의 2x2 행렬을 amplitude 쌍 루프 한 번으로 적용
+     */
+    @Override
+    public void applyFusedGate(FusedGate gate, QuantumState state) {
+        applyFused(gate.getTarget().value(), gate.getMatrix());
+    }
+
+    private void applyFused(int qubit, GateMatrix matrix) {
+        int mask = 1 << qubit;
+        runner.run(stateCount >> 1, (from, to) -> {
+            for (int k = from; k < to; k++) {
+                int zeroState = BasisState.insertZeroBit(k, qubit);
+                applyMatrix(amplitudes, zeroState << 1, (zeroState | mask) << 1, matrix);
+            }
+        });
+        appliedGateCount++;
+    }
+
+    @Override
+    public void applyCNOTGate(QubitIndex control, QubitIndex target) {
+        applyCNOT(control.value(), target.value());
+    }
+
+    private void applyCNOT(int control, int target) {
+        int controlMask = 1 << control;
+        int targetMask = 1 << target;
+        int low = Math.min(control, target);
+        int high = Math.max(control, target);
+        runner.run(stateCount >> 2, (from, to) -> {
+            for (int k = from; k < to; k++) {
+                int source = BasisState.insertZeroBit(BasisState.insertZeroBit(k, low), high) | controlMask;
+                swap(source, source | targetMask);
+            }
+        });
+        appliedGateCount++;
+    }
+
+    /**
+     * Step의 게이트들이 작용하는 큐비트(최대 6개)의 amplitude 블록을 모아 지역 버퍼에서 모든 게이트를 적용한 뒤 되돌려 쓴다.
+     * 게이트마다 상태 벡터 전체를 순회하는 대신, 레이어당 한 번만 순회한다.
+     * 지역 커널이 모르는 게이트가 섞인 Step은 기본 구현처럼 게이트를 하나씩 적용한다.
+     */
+    @Override
+    public void applyStep(CircuitStep step, QuantumState state) {
+        if (step.isSingleGateStep() || !step.hasDisjointQubits() || !isBatchable(step)) {
+            QuantumExecutor.super.applyStep(step, state);
+            return;
+        }
+        for (List<QuantumGate> layer : splitLayers(step.getGates())) {
+            if (layer.size() == 1) {
+                layer.getFirst().apply(state);
+            } else {
+                applyLayer(layer);
+            }
+        }
+    }
+
+    private static boolean isBatchable(CircuitStep step) {
+        return step.getGates().stream().allMatch(gate -> gate instanceof PauliXGate
+                || gate instanceof HadamardGate
+                || gate instanceof PauliZGate
+                || gate instanceof CNOTGate
+                || gate instanceof FusedGate);
+    }
+
+    private List<List<QuantumGate>> splitLayers(List<QuantumGate> gates) {
+        List<List<QuantumGate>> layers = new ArrayList<>();
+        List<QuantumGate> current = new ArrayList<>();
+        int layerQubits = 0;
+        for (QuantumGate gate : gates) {
+            if (!current.isEmpty() && layerQubits + gate.getQubitCount() > MAX_LAYER_QUBITS) {
+                layers.add(current);
+                current = new ArrayList<>();
+                layerQubits = 0;
+            }
+            current.add(gate);
+            layerQubits += gate.getQubitCount();
+        }
+        layers.add(current);
+        return layers;
+    }
+
+    private void applyLayer(List<QuantumGate> layer) {
+        int[] qubits = layer.stream()
+                .flatMap(gate -> gate.getAffectedQubits().stream())
+                .mapToInt(QubitIndex::value)
+                .sorted()
+                .toArray();
+        int localSize = 1 << qubits.length;
+        int[] offsets = localOffsets(qubits, localSize);
+        int[][] localGates = toLocalGates(layer, qubits);
+        GateMatrix[] matrices = layer.stream()
+                .map(gate -> gate instanceof FusedGate fusedGate ? fusedGate.getMatrix() : null)
+                .toArray(GateMatrix[]::new);
+
+        runner.run(stateCount >> qubits.length, (from, to) -> {
+            double[] buffer = new double[localSize << 1];
+            for (int k = from; k < to; k++) {
+                int base = k;
+                for (int qubit : qubits) {
+                    base = BasisState.insertZeroBit(base, qubit);
+                }
+                for (int j = 0; j < localSize; j++) {
+                    int index = (base | offsets[j]) << 1;
+                    buffer[j << 1] = amplitudes[index];
+                    buffer[(j << 1) + 1] = amplitudes[index + 1];
+                }
+                for (int[] localGate : localGates) {
+                    applyLocalGate(buffer, localSize, localGate, matrices);
+                }
+                for (int j = 0; j < localSize; j++) {
+                    int index = (base | offsets[j]) << 1;
+                    amplitudes[index] = buffer[j << 1];
+                    amplitudes[index + 1] = buffer[(j << 1) + 1];
+                }
+            }
+        });
+        appliedGateCount += layer.size();
+    }
+
+    /**
+     * 지역 인덱스 j(비트 m = qubits[m])에 대응하는 전역 basis state 오프셋
+     */
+    private static int[] localOffsets(int[] qubits, int localSize) {
+        int[] offsets = new int[localSize];
+        for (int j = 0; j < localSize; j++) {
+            for (int m = 0; m < qubits.length; m++) {
+                if (((j >> m) & 1) != 0) {
+                    offsets[j] |= 1 << qubits[m];
+                }
+            }
+        }
+        return offsets;
+    }
+
+    /**
+     * 게이트를 {종류, 지역 타겟 비트, 지역 제어 비트}로 변환 (융합 게이트는 제어 비트 대신 레이어 내 위치)
+     */
+    private static int[][] toLocalGates(List<QuantumGate> layer, int[] qubits) {
+        int[][] localGates = new int[layer.size()][];
+        for (int i = 0; i < layer.size(); i++) {
+            QuantumGate gate = layer.get(i);
+            if (gate instanceof CNOTGate cnot) {
+                int target = localBit(qubits, cnot.getTarget());
+                int control = localBit(qubits, cnot.getControl());
+                localGates[i] = new int[]{LOCAL_CNOT, target, control};
+            } else if (gate instanceof FusedGate fusedGate) {
+                localGates[i] = new int[]{LOCAL_MATRIX, localBit(qubits, fusedGate.getTarget()), i};
+            } else {
+                QubitIndex target = gate.getAffectedQubits().iterator().next();
+                localGates[i] = new int[]{localKind(gate), localBit(qubits, target), 0};
+            }
+        }
+        return localGates;
+    }
+
+    private static int localKind(QuantumGate gate) {
+        if (gate instanceof PauliXGate) {
+            return LOCAL_X;
+        }
+        if (gate instanceof HadamardGate) {
+            return LOCAL_H;
+        }
+        if (gate instanceof PauliZGate) {
+            return LOCAL_Z;
+        }
+        throw new IllegalArgumentException(ERROR_UNSUPPORTED_GATE + gate.getName());
+    }
+
+    private static int localBit(int[] qubits, QubitIndex qubit) {
+        for (int m = 0; m < qubits.length; m++) {
+            if (qubits[m] == qubit.value()) {
+                return m;
+            }
+        }
+        throw new IllegalStateException(ERROR_QUBIT_NOT_IN_LAYER);
+    }
+
+    private static void applyLocalGate(double[] buffer, int localSize, int[] localGate, GateMatrix[] matrices) {
+        int targetMask = 1 << localGate[1];
+        int controlMask = 1 << localGate[2];
+        for (int j = 0; j < localSize; j++) {
+            if ((j & targetMask) != 0) {
+                continue;
+            }
+            int zero = j << 1;
+            int one = (j | targetMask) << 1;
+            switch (localGate[0]) {
+                case LOCAL_X -> swapLocal(buffer, zero, one);
+                case LOCAL_H -> butterflyLocal(buffer, zero, one);
+                case LOCAL_Z -> {
+                    buffer[one] = -buffer[one];
+                    buffer[one + 1] = -buffer[one + 1];
+                }
+                case LOCAL_MATRIX -> applyMatrix(buffer, zero, one, matrices[localGate[2]]);
+                default -> {
+                    if ((j & controlMask) != 0) {
+                        swapLocal(buffer, zero, one);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * (zero, one) amplitude 쌍에 2x2 복소 행렬을 곱한다.
+     */
+    private static void applyMatrix(double[] buffer, int zero, int one, GateMatrix matrix) {
+        double zeroReal = buffer[zero];
+        double zeroImag = buffer[zero + 1];
+        double oneReal = buffer[one];
+        double oneImag = buffer[one + 1];
+        buffer[zero] = matrix.aReal() * zeroReal - matrix.aImag() * zeroImag
+                + matrix.bReal() * oneReal - matrix.bImag() * oneImag;
+        buffer[zero + 1] = matrix.aReal() * zeroImag + matrix.aImag() * zeroReal
+                + matrix.bReal() * oneImag + matrix.bImag() * oneReal;
+        buffer[one] = matrix.cReal() * zeroReal - matrix.cImag() * zeroImag
+                + matrix.dReal() * oneReal - matrix.dImag() * oneImag;
+        buffer[one + 1] = matrix.cReal() * zeroImag + matrix.cImag() * zeroReal
+                + matrix.dReal() * oneImag + matrix.dImag() * oneReal;
+    }
+
+    private static void swapLocal(double[] buffer, int zero, int one) {
+        double real = buffer[zero];
+        double imag = buffer[zero + 1];
+        buffer[zero] = buffer[one];
+        buffer[zero + 1] = buffer[one + 1];
+        buffer[one] = real;
+        buffer[one + 1] = imag;
+    }
+
+    private static void butterflyLocal(double[] buffer, int zero, int one) {
+        double zeroReal = buffer[zero];
+        double zeroImag = buffer[zero + 1];
+        double oneReal = buffer[one];
+        double oneImag = buffer[one + 1];
+        buffer[zero] = (zeroReal + oneReal) * INV_SQRT_2;
+        buffer[zero + 1] = (zeroImag + oneImag) * INV_SQRT_2;
+        buffer[one] = (zeroReal - oneReal) * INV_SQRT_2;
+        buffer[one + 1] = (zeroImag - oneImag) * INV_SQRT_2;
+    }
+
+    private void swap(int first, int second) {
+        int a = first << 1;
+        int b = second << 1;
+        double real = amplitudes[a];
+        double imag = amplitudes[a + 1];
+        amplitudes[a] = amplitudes[b];
+        amplitudes[a + 1] = amplitudes[b + 1];
+        amplitudes[b] = real;
+        amplitudes[b + 1] = imag;
+    }
+
+    @Override
+    public Probability getProbabilityOfOne(QubitIndex index) {
+        return new Probability(calculateProbabilityOfOne(index.value()));
+    }
+
+    private double calculateProbabilityOfOne(int qubit) {
+        int mask = 1 << qubit;
+        double probability = 0.0;
+        for (int i = 0; i < stateCount; i++) {
+            if ((i & mask) != 0) {
+                probability += probabilityAt(i);
+            }
+        }
+        return clamp(probability);
+    }
+
+    @Override
+    public MeasurementResult measure(QubitIndex index) {
+        double probabilityOfOne = calculateProbabilityOfOne(index.value());
+        if (random.nextDouble() < probabilityOfOne) {
+            return MeasurementResult.ONE;
+        }
+        return MeasurementResult.ZERO;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return appliedGateCount == 0;
+    }
+
+    /**
+     * 모든 basis state의 정확한 확률을 인덱스 순서의 배열로 반환
+     */
+    @Override
+    public double[] getProbabilityArray() {
+        double[] probabilities = new double[stateCount];
+        for (int i = 0; i < stateCount; i++) {
+            probabilities[i] = clamp(probabilityAt(i));
+        }
+        return probabilities;
+    }
+
+    private double probabilityAt(int basisState) {
+        double real = amplitudes[basisState << 1];
+        double imag = amplitudes[(basisState << 1) + 1];
+        return real * real + imag * imag;
+    }
+
+    private double clamp(double probability) {
+        return Math.max(MIN_PROBABILITY, Math.min(MAX_PROBABILITY, probability));
+    }
+}
@@ -1,9 +1,9 @@
 package quantum.circuit.infrastructure.executor;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Random;
 
 import org.redfx.strange.Complex;
+import org.redfx.strange.Gate;
 import org.redfx.strange.Program;
 import org.redfx.strange.Result;
 import org.redfx.strange.Step;
@@ -13,49 +13,119 @@ import org.redfx.strange.gate.X;
 import org.redfx.strange.gate.Z;
 import org.redfx.strange.local.SimpleQuantumExecutionEnvironment;
 
+import quantum.circuit.domain.circuit.CircuitStep;
 import quantum.circuit.domain.circuit.QubitIndex;
+import quantum.circuit.domain.gate.CNOTGate;
+import quantum.circuit.domain.gate.HadamardGate;
+import quantum.circuit.domain.gate.PauliXGate;
+import quantum.circuit.domain.gate.PauliZGate;
+import quantum.circuit.domain.gate.QuantumGate;
 import quantum.circuit.domain.state.MeasurementResult;
 import quantum.circuit.domain.state.Probability;
+import quantum.circuit.domain.state.QuantumState;
 import quantum.circuit.domain.state.executor.QuantumExecutor;
+import quantum.circuit.infrastructure.jfr.StrangeProgramRunEvent;
 
+/**
+ * Strange 라이브러리 기반 Executor
+ * 실행 결과는 새 게이트가 추가될 때까지 캐시되어, 여러 조회가 한 번의 프로그램 실행을 공유한다.
+ */
 public class StrangeQuantumExecutor implements QuantumExecutor {
 
+    private static final String ERROR_UNSUPPORTED_GATE = "[ERROR] 지원하지 않는 게이트입니다: ";
+
     private final Program program;
     private final SimpleQuantumExecutionEnvironment environment;
     private final int qubitCount;
+    private final Random random;
+    private Result cachedResult;
 
     public StrangeQuantumExecutor(int qubitCount) {
+        this(qubitCount, new SimpleQuantumExecutionEnvironment());
+    }
+
+    StrangeQuantumExecutor(int qubitCount, SimpleQuantumExecutionEnvironment environment) {
         this.program = new Program(qubitCount);
-        this.environment = new SimpleQuantumExecutionEnvironment();
+        this.environment = environment;
         this.qubitCount = qubitCount;
+        this.random = new Random();
     }
 
     @Override
     public void applyXGate(QubitIndex target) {
         Step step = new Step();
         step.addGate(new X(target.value()));
-        program.addStep(step);
+        addStep(step);
     }
 
     @Override
     public void applyHadamardGate(QubitIndex target) {
         Step step = new Step();
         step.addGate(new Hadamard(target.value()));
-        program.addStep(step);
+        addStep(step);
     }
 
     @Override
     public void applyZGate(QubitIndex target) {
         Step step = new Step();
         step.addGate(new Z(target.value()));
-        program.addStep(step);
+        addStep(step);
     }
 
     @Override
     public void applyCNOTGate(QubitIndex control, QubitIndex target) {
         Step step = new Step();
         step.addGate(new Cnot(control.value(), target.value()));
+        addStep(step);
+    }
+
+    /**
+     * 서로 다른 큐비트에 작용하는 게이트들을 하나의 Strange Step으로 묶어 추가
+     */
+    @Override
+    public void applyStep(CircuitStep step, QuantumState state) {
+        if (step.isSingleGateStep() || !step.hasDisjointQubits() || !isBatchable(step)) {
+            QuantumExecutor.super.applyStep(step, state);
+            return;
+        }
+        Step strangeStep = new Step();
+        for (QuantumGate gate : step.getGates()) {
+            strangeStep.addGate(toStrangeGate(gate));
+        }
+        addStep(strangeStep);
+    }
+
+    /**
+     * 단일 큐비트 X, H, Z만으로 이루어진 Step만 묶는다.
+     * Strange에는 임의 2x2 행렬 게이트가 없으므로 융합 게이트나 다른 게이트가 섞인 Step은 게이트를 하나씩 적용한다.
+     * Strange는 인접하지 않은 2큐비트 게이트를 큐비트 순열 Step으로 감싸는데, 같은 Step의 다른 게이트는 다시 매핑하지 않으므로
+     * CNOT이 섞인 Step도 게이트를 하나씩 적용한다.
+     */
+    private static boolean isBatchable(CircuitStep step) {
+        return step.getGates().stream().allMatch(gate -> gate instanceof PauliXGate
+                || gate instanceof HadamardGate
+                || gate instanceof PauliZGate);
+    }
+
+    private Gate toStrangeGate(QuantumGate gate) {
+        if (gate instanceof PauliXGate xGate) {
+            return new X(xGate.getTarget().value());
+        }
+        if (gate instanceof HadamardGate hadamardGate) {
+            return new Hadamard(hadamardGate.getTarget().value());
+        }
+        if (gate instanceof PauliZGate zGate) {
+            return new Z(zGate.getTarget().value());
+        }
+        if (gate instanceof CNOTGate cnot) {
+            return new Cnot(cnot.getControl().value(), cnot.getTarget().value());
+        }
+        throw new IllegalArgumentException(ERROR_UNSUPPORTED_GATE + gate.getName());
+    }
+
+    private void addStep(Step step) {
         program.addStep(step);
+        cachedResult = null;
     }
 
     @Override
@@ -63,19 +133,24 @@ public class StrangeQuantumExecutor implements QuantumExecutor {
         if (isEmpty()) {
             return new Probability(0.0);
         }
-        Result result = environment.runProgram(copyProgram());
-        double probability = result.getQubits()[index.value()].getProbability();
+        double probability = runProgram().getQubits()[index.value()].getProbability();
         return new Probability(probability);
     }
 
+    /**
+     * 캐시된 결과의 확률로 측정값을 샘플링
+     * 결과를 재사용하므로 매 측정마다 프로그램을 다시 실행하지 않는다.
+     */
     @Override
     public MeasurementResult measure(QubitIndex index) {
         if (isEmpty()) {
             return MeasurementResult.ZERO;
         }
-        Result result = environment.runProgram(copyProgram());
-        int measured = result.getQubits()[index.value()].measure();
-        return MeasurementResult.from(measured);
+        double probabilityOfOne = runProgram().getQubits()[index.value()].getProbability();
+        if (random.nextDouble() < probabilityOfOne) {
+            return MeasurementResult.ONE;
+        }
+        return MeasurementResult.ZERO;
     }
 
     @Override
@@ -84,47 +159,24 @@ public class StrangeQuantumExecutor implements QuantumExecutor {
     }
 
     /**
-     * 모든 basis state의 정확한 확률을 반환
-     *
-     * @return basis state(이진 문자열) -> 확률 매핑
+     * 모든 basis state의 정확한 확률을 인덱스 순서의 배열로 반환
      */
-    public Map<String, Double> getStateProbabilities() {
+    @Override
+    public double[] getProbabilityArray() {
+        double[] probabilities = new double[1 << qubitCount];
         if (isEmpty()) {
-            Map<String, Double> initialState = new HashMap<>();
-            String zeroState = "0".repeat(qubitCount);
-
-            int numStates = 1 << qubitCount;
-            for (int i = 0; i < numStates; i++) {
-                String binaryState = toBinaryString(i, qubitCount);
-                initialState.put(binaryState, binaryState.equals(zeroState) ? 1.0 : 0.0);
-            }
-            return initialState;
+            probabilities[0] = 1.0;
+            return probabilities;
         }
 
-        Result result = environment.runProgram(copyProgram());
-        return extractStateProbabilities(result);
-    }
-
-    /**
-     * Strange의 Result에서 각 basis state의 확률을 추출
-     */
-    private Map<String, Double> extractStateProbabilities(Result result) {
-        Map<String, Double> probabilities = new HashMap<>();
-        int numStates = 1 << qubitCount;
-
-        Complex[] amplitudes = getAmplitudesFromResult(result);
-
-        for (int i = 0; i < numStates; i++) {
-            String binaryState = toBinaryString(i, qubitCount);
-
-            if (amplitudes != null && i < amplitudes.length) {
-                double probability = amplitudes[i].abssqr();
-                probabilities.put(binaryState, probability);
-            } else {
-                probabilities.put(binaryState, 0.0);
-            }
+        Complex[] amplitudes = getAmplitudesFromResult(runProgram());
+        if (amplitudes == null) {
+            return probabilities;
+        }
+        int count = Math.min(probabilities.length, amplitudes.length);
+        for (int i = 0; i < count; i++) {
+            probabilities[i] = amplitudes[i].abssqr();
         }
-
         return probabilities;
     }
 
@@ -164,12 +216,14 @@ public class StrangeQuantumExecutor implements QuantumExecutor {
         return null;
     }
 
-    private String toBinaryString(int value, int length) {
-        StringBuilder binary = new StringBuilder();
-        for (int i = length - 1; i >= 0; i--) {
-            binary.append((value >> i) & 1);
+    private Result runProgram() {
+        if (cachedResult == null) {
+            StrangeProgramRunEvent event = new StrangeProgramRunEvent();
+            event.begin();
+            cachedResult = environment.runProgram(copyProgram());
+            event.finish(qubitCount, program.getSteps().size());
         }
-        return binary.toString();
+        return cachedResult;
     }
 
     private Program copyProgram() {
@@ -0,0 +1,49 @@
+package quantum.circuit.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import quantum.circuit.domain.circuit.QuantumCircuit;
+
+/**
+ * QuantumCircuit.execute() 한 번의 JFR 이벤트
+ */
+@Name(CircuitExecutionEvent.NAME)
+@Label("Circuit Execution")
+@Category({"Quantum Circuit Simulator", "Execution"})
+@Description("QuantumCircuit.execute()로 회로 전체를 실행한 구간")
+public final class CircuitExecutionEvent extends Event {
+
+    public static final String NAME = "quantum.CircuitExecution";
+
+    @Label("Qubit Count")
+    private int qubitCount;
+
+    @Label("Step Count")
+    private int stepCount;
+
+    @Label("Gate Count")
+    private int gateCount;
+
+    @Label("Clifford")
+    @Description("Clifford 게이트만으로 된 회로인지 여부")
+    private boolean clifford;
+
+    /**
+     * 기록 중이 아니면 회로 정보를 계산하지 않고 끝낸다.
+     */
+    public void finish(QuantumCircuit circuit) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.qubitCount = circuit.getQubitCount();
+        this.stepCount = circuit.getStepCount();
+        this.gateCount = circuit.getTotalGateCount();
+        this.clifford = circuit.isClifford();
+        commit();
+    }
+}
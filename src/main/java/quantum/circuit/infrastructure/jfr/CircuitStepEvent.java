@@ -0,0 +1,60 @@
+package quantum.circuit.infrastructure.jfr;
+
+import java.util.stream.Collectors;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import quantum.circuit.domain.circuit.CircuitStep;
+import quantum.circuit.domain.gate.QuantumGate;
+
+/**
+ * CircuitStep 하나를 상태에 적용한 JFR 이벤트
+ * Step마다 발생하는 고빈도 이벤트이므로 기본으로 꺼져 있고 스택 트레이스는 기록하지 않는다.
+ * 필요하면 설정에서 quantum.CircuitStep#enabled=true로 켠다.
+ */
+@Name(CircuitStepEvent.NAME)
+@Label("Circuit Step")
+@Category({"Quantum Circuit Simulator", "Execution"})
+@Description("회로 실행 중 Step 하나를 적용한 구간")
+@Enabled(false)
+@StackTrace(false)
+public final class CircuitStepEvent extends Event {
+
+    public static final String NAME = "quantum.CircuitStep";
+
+    @Label("Qubit Count")
+    private int qubitCount;
+
+    @Label("Step Index")
+    private int stepIndex;
+
+    @Label("Gate Count")
+    private int gateCount;
+
+    @Label("Gate Types")
+    @Description("Step 안의 게이트 이름 (쉼표로 구분)")
+    private String gateTypes;
+
+    /**
+     * 게이트 이름 문자열은 기록할 때만 만든다.
+     */
+    public void finish(int qubitCount, int stepIndex, CircuitStep step) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.qubitCount = qubitCount;
+        this.stepIndex = stepIndex;
+        this.gateCount = step.getGateCount();
+        this.gateTypes = step.getGates().stream()
+                .map(QuantumGate::getName)
+                .collect(Collectors.joining(","));
+        commit();
+    }
+}
@@ -0,0 +1,56 @@
+package quantum.circuit.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * CircuitResultExporter가 파일 하나를 쓴 JFR 이벤트
+ */
+@Name(ExportEvent.NAME)
+@Label("Circuit Result Export")
+@Category({"Quantum Circuit Simulator", "Export"})
+@Description("회로 실행 결과를 JSON 파일로 쓴 구간")
+public final class ExportEvent extends Event {
+
+    public static final String NAME = "quantum.Export";
+
+    @Label("Format")
+    @Description("json 또는 step_by_step")
+    private String format;
+
+    @Label("Path")
+    private String path;
+
+    @Label("Gzip")
+    private boolean gzip;
+
+    @Label("Qubit Count")
+    private int qubitCount;
+
+    @Label("Step Count")
+    private int stepCount;
+
+    @Label("Bytes Written")
+    @Description("파일에 쓴 바이트 수 (gzip이면 압축 후 크기)")
+    @DataAmount
+    private long bytesWritten;
+
+    public void finish(String format, String path, boolean gzip, int qubitCount, int stepCount,
+                       long bytesWritten) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.format = format;
+        this.path = path;
+        this.gzip = gzip;
+        this.qubitCount = qubitCount;
+        this.stepCount = stepCount;
+        this.bytesWritten = bytesWritten;
+        commit();
+    }
+}
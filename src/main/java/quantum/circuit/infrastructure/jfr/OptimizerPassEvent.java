@@ -0,0 +1,53 @@
+package quantum.circuit.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import quantum.circuit.domain.circuit.QuantumCircuit;
+
+/**
+ * 최적화 파이프라인의 최적화기 한 단계 JFR 이벤트
+ */
+@Name(OptimizerPassEvent.NAME)
+@Label("Optimizer Pass")
+@Category({"Quantum Circuit Simulator", "Optimizer"})
+@Description("최적화 파이프라인에서 최적화기 하나를 적용한 구간")
+public final class OptimizerPassEvent extends Event {
+
+    public static final String NAME = "quantum.OptimizerPass";
+
+    @Label("Optimizer")
+    private String optimizer;
+
+    @Label("Qubit Count")
+    private int qubitCount;
+
+    @Label("Gate Count Before")
+    private int gateCountBefore;
+
+    @Label("Gate Count After")
+    private int gateCountAfter;
+
+    @Label("Step Count Before")
+    private int stepCountBefore;
+
+    @Label("Step Count After")
+    private int stepCountAfter;
+
+    public void finish(String optimizer, QuantumCircuit before, QuantumCircuit after) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.optimizer = optimizer;
+        this.qubitCount = before.getQubitCount();
+        this.gateCountBefore = before.getTotalGateCount();
+        this.gateCountAfter = after.getTotalGateCount();
+        this.stepCountBefore = before.getStepCount();
+        this.stepCountAfter = after.getStepCount();
+        commit();
+    }
+}
@@ -0,0 +1,35 @@
+package quantum.circuit.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * StrangeQuantumExecutor가 누적된 Program을 처음부터 다시 실행한 JFR 이벤트
+ */
+@Name(StrangeProgramRunEvent.NAME)
+@Label("Strange Program Run")
+@Category({"Quantum Circuit Simulator", "Executor"})
+@Description("Strange 실행 환경에서 Program 전체를 다시 실행한 구간")
+public final class StrangeProgramRunEvent extends Event {
+
+    public static final String NAME = "quantum.StrangeProgramRun";
+
+    @Label("Qubit Count")
+    private int qubitCount;
+
+    @Label("Step Count")
+    private int stepCount;
+
+    public void finish(int qubitCount, int stepCount) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.qubitCount = qubitCount;
+        this.stepCount = stepCount;
+        commit();
+    }
+}
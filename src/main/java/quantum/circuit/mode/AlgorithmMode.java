@@ -2,6 +2,7 @@ package quantum.circuit.mode;
 
 import quantum.circuit.algorithm.AlgorithmFactory;
 import quantum.circuit.algorithm.QuantumAlgorithm;
+import quantum.circuit.cache.CircuitResultCache;
 import quantum.circuit.domain.circuit.QuantumCircuit;
 import quantum.circuit.domain.state.QuantumState;
 import quantum.circuit.util.InputRetryHandler;
@@ -78,8 +79,9 @@ public class AlgorithmMode {
         QuantumCircuit circuit = algorithm.build(algorithm.getRequiredQubits());
         printCircuit(circuit);
 
-        QuantumState state = circuit.execute();
-        printState(state);
+        try (QuantumState state = CircuitResultCache.shared().execute(circuit)) {
+            printState(state);
+        }
 
         visualizeWithPython(circuit, algorithm.getName());
     }
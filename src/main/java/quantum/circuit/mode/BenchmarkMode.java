@@ -13,6 +13,10 @@ import quantum.circuit.domain.circuit.QuantumCircuit;
 import quantum.circuit.view.InputView;
 import quantum.circuit.view.OutputView;
 
+/**
+ * 여러 알고리즘 회로의 실행 성능을 비교한다.
+ * 시뮬레이션 시간을 재는 모드이므로 CircuitResultCache.shared()를 거치지 않는다. 캐시를 쓰면 두 번째 반복부터 조회 시간만 측정된다.
+ */
 public class BenchmarkMode {
 
     private static final String MODE_NAME = "Benchmark Mode";
@@ -7,6 +7,7 @@ import quantum.circuit.domain.circuit.QuantumCircuit;
 import quantum.circuit.domain.circuit.QuantumCircuitBuilder;
 import quantum.circuit.optimizer.CircuitOptimizer;
 import quantum.circuit.optimizer.IdentityGateRemover;
+import quantum.circuit.optimizer.LayerCompactionOptimizer;
 import quantum.circuit.optimizer.OptimizationPipeline;
 import quantum.circuit.optimizer.RedundantGateRemover;
 import quantum.circuit.util.CircuitStepBuilder;
@@ -69,7 +70,8 @@ public class OptimizationMode {
         return new OptimizationPipeline(
                 List.of(
                         new RedundantGateRemover(),
-                        new IdentityGateRemover()
+                        new IdentityGateRemover(),
+                        new LayerCompactionOptimizer()
                 )
         );
     }
@@ -1,15 +1,92 @@
 package quantum.circuit.optimizer;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+
+import quantum.circuit.domain.circuit.CircuitStep;
+import quantum.circuit.domain.circuit.QubitIndex;
 import quantum.circuit.domain.circuit.QuantumCircuit;
+import quantum.circuit.domain.circuit.QuantumCircuitBuilder;
+import quantum.circuit.domain.gate.FusedGate;
+import quantum.circuit.domain.gate.QuantumGate;
+import quantum.circuit.domain.gate.SingleQubitGate;
 
+/**
+ * 같은 큐비트에 연속으로 적용되는 단일 큐비트 게이트들을 하나의 FusedGate로 합친다.
+ * 큐비트별로 대기 중인 단일 큐비트 게이트를 모아 두었다가, 그 큐비트에 다중 큐비트 게이트가 오거나 회로가 끝나면 내보낸다.
+ * 서로 다른 큐비트의 게이트는 교환 가능하므로 큐비트별 적용 순서만 보존된다.
+ * 융합 결과가 항등 행렬이면 게이트를 내보내지 않는다.
+ */
 public class GateFusionOptimizer implements CircuitOptimizer {
 
     private static final String OPTIMIZATION_NAME = "Gate Fusion Optimizer";
 
     @Override
     public QuantumCircuit optimize(QuantumCircuit circuit) {
-        // TODO: 게이트 융합 최적화 구현
-        return circuit;
+        TreeMap<Integer, List<SingleQubitGate>> pending = new TreeMap<>();
+        List<CircuitStep> steps = new ArrayList<>();
+
+        for (CircuitStep step : circuit.getSteps()) {
+            List<QuantumGate> multiQubitGates = new ArrayList<>();
+            for (QuantumGate gate : step.getGates()) {
+                if (gate instanceof SingleQubitGate single) {
+                    pending.computeIfAbsent(single.getTarget().value(), qubit -> new ArrayList<>()).add(single);
+                    continue;
+                }
+                List<QuantumGate> flushed = flush(pending, gate.getAffectedQubits());
+                if (!flushed.isEmpty()) {
+                    addStep(steps, multiQubitGates);
+                    multiQubitGates = new ArrayList<>();
+                    addStep(steps, flushed);
+                }
+                multiQubitGates.add(gate);
+            }
+            addStep(steps, multiQubitGates);
+        }
+        addStep(steps, flushAll(pending));
+
+        return new QuantumCircuitBuilder()
+                .withQubits(circuit.getQubitCount())
+                .addSteps(steps)
+                .build();
+    }
+
+    private List<QuantumGate> flush(TreeMap<Integer, List<SingleQubitGate>> pending, Set<QubitIndex> qubits) {
+        List<QuantumGate> flushed = new ArrayList<>();
+        qubits.stream()
+                .mapToInt(QubitIndex::value)
+                .sorted()
+                .forEach(qubit -> addFused(flushed, pending.remove(qubit)));
+        return flushed;
+    }
+
+    private List<QuantumGate> flushAll(TreeMap<Integer, List<SingleQubitGate>> pending) {
+        List<QuantumGate> flushed = new ArrayList<>();
+        pending.values().forEach(run -> addFused(flushed, run));
+        pending.clear();
+        return flushed;
+    }
+
+    private void addFused(List<QuantumGate> flushed, List<SingleQubitGate> run) {
+        if (run == null) {
+            return;
+        }
+        if (run.size() == 1) {
+            flushed.add(run.getFirst());
+            return;
+        }
+        FusedGate fused = new FusedGate(run);
+        if (!fused.getMatrix().isIdentity()) {
+            flushed.add(fused);
+        }
+    }
+
+    private void addStep(List<CircuitStep> steps, List<QuantumGate> gates) {
+        if (!gates.isEmpty()) {
+            steps.add(new CircuitStep(gates));
+        }
     }
 
     @Override
@@ -0,0 +1,67 @@
+package quantum.circuit.optimizer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import quantum.circuit.domain.circuit.CircuitDag;
+import quantum.circuit.domain.circuit.CircuitStep;
+import quantum.circuit.domain.circuit.QuantumCircuit;
+import quantum.circuit.domain.circuit.QuantumCircuitBuilder;
+import quantum.circuit.domain.gate.QuantumGate;
+import quantum.circuit.validator.CircuitValidator;
+import quantum.circuit.validator.GateCompatibilityValidator;
+import quantum.circuit.validator.ValidationResult;
+
+/**
+ * 게이트를 가능한 가장 이른 Step(ASAP)으로 옮겨 Step 수를 최소화한다.
+ * 각 게이트의 층은 같은 큐비트의 직전 게이트들 중 가장 늦은 층 + 1이므로,
+ * 한 층의 게이트들은 항상 서로 다른 큐비트에 작용해 GateCompatibilityValidator를 통과한다.
+ * 큐비트별 게이트 순서는 그대로 유지되고, 한 층 안에서는 원래 회로 순서를 따른다.
+ * 결과 회로는 QuantumCircuitBuilder로 만든 뒤 GateCompatibilityValidator로 다시 확인한다.
+ */
+public class LayerCompactionOptimizer implements CircuitOptimizer {
+
+    private static final String OPTIMIZATION_NAME = "Layer Compaction Optimizer";
+    private static final CircuitValidator COMPATIBILITY_VALIDATOR = new GateCompatibilityValidator();
+
+    @Override
+    public QuantumCircuit optimize(QuantumCircuit circuit) {
+        CircuitDag dag = CircuitDag.from(circuit);
+        int[] layers = new int[dag.getNodeCount()];
+        List<List<QuantumGate>> layerGates = new ArrayList<>();
+
+        for (int node = 0; node < dag.getNodeCount(); node++) {
+            int layer = 0;
+            for (int predecessor : dag.getPredecessors(node)) {
+                layer = Math.max(layer, layers[predecessor] + 1);
+            }
+            layers[node] = layer;
+            if (layer == layerGates.size()) {
+                layerGates.add(new ArrayList<>());
+            }
+            layerGates.get(layer).add(dag.getGate(node));
+        }
+
+        List<CircuitStep> steps = layerGates.stream()
+                .map(CircuitStep::new)
+                .toList();
+        QuantumCircuit compacted = new QuantumCircuitBuilder()
+                .withQubits(circuit.getQubitCount())
+                .addSteps(steps)
+                .build();
+        validateCompatibility(compacted);
+        return compacted;
+    }
+
+    private static void validateCompatibility(QuantumCircuit compacted) {
+        ValidationResult result = COMPATIBILITY_VALIDATOR.validate(compacted);
+        if (!result.isValid()) {
+            throw new IllegalStateException(result.getMessage());
+        }
+    }
+
+    @Override
+    public String getOptimizationName() {
+        return OPTIMIZATION_NAME;
+    }
+}
@@ -3,6 +3,7 @@ package quantum.circuit.optimizer;
 import java.util.List;
 
 import quantum.circuit.domain.circuit.QuantumCircuit;
+import quantum.circuit.infrastructure.jfr.OptimizerPassEvent;
 
 public class OptimizationPipeline implements CircuitOptimizer {
 
@@ -27,7 +28,11 @@ public class OptimizationPipeline implements CircuitOptimizer {
         QuantumCircuit current = circuit;
 
         for (CircuitOptimizer optimizer : optimizers) {
-            current = optimizer.optimize(current);
+            OptimizerPassEvent event = new OptimizerPassEvent();
+            event.begin();
+            QuantumCircuit optimized = optimizer.optimize(current);
+            event.finish(optimizer.getOptimizationName(), current, optimized);
+            current = optimized;
         }
 
         return current;
@@ -1,15 +1,24 @@
 package quantum.circuit.optimizer;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
 
 import quantum.circuit.domain.circuit.CircuitStep;
+import quantum.circuit.domain.circuit.QubitIndex;
 import quantum.circuit.domain.circuit.QuantumCircuit;
 import quantum.circuit.domain.circuit.QuantumCircuitBuilder;
+import quantum.circuit.domain.gate.QuantumGate;
 import quantum.circuit.optimizer.rule.OptimizationRule;
 
 public class RuleBasedOptimizer implements CircuitOptimizer {
 
+    private static final int NO_PARTNER = -1;
+
     private final List<OptimizationRule> rules;
     private final String optimizationName;
 
@@ -18,36 +27,78 @@ public class RuleBasedOptimizer implements CircuitOptimizer {
         this.optimizationName = optimizationName;
     }
 
+    /**
+     * 큐비트마다 마지막으로 살아남은 Step의 스택을 유지하며 한 번만 순회한다.
+     * 단일 게이트 Step은 그 게이트의 모든 큐비트에서 스택 맨 위가 같은 단일 게이트 Step이고 규칙이 허용하면 그 Step과 함께 제거된다.
+     * 사이에 다른 큐비트에만 작용하는 게이트가 있어도 상쇄되며, 제거 후에는 그 아래의 Step이 다시 상쇄 후보가 된다.
+     */
     @Override
     public QuantumCircuit optimize(QuantumCircuit circuit) {
-        List<CircuitStep> steps = new ArrayList<>(circuit.getSteps());
-        boolean optimized;
-
-        do {
-            optimized = false;
-            for (int i = 0; i < steps.size() - 1; i++) {
-                if (canOptimizeSteps(steps.get(i), steps.get(i + 1))) {
-                    steps.remove(i);
-                    steps.remove(i);
-                    optimized = true;
-                    break;
-                }
+        List<CircuitStep> steps = circuit.getSteps();
+        boolean[] removed = new boolean[steps.size()];
+        Map<Integer, Deque<Integer>> lastSteps = new HashMap<>();
+
+        for (int i = 0; i < steps.size(); i++) {
+            CircuitStep step = steps.get(i);
+            int partner = findCancellingStep(steps, lastSteps, step);
+            if (partner >= 0) {
+                removed[partner] = true;
+                removed[i] = true;
+                qubitsOf(step).forEach(qubit -> lastSteps.get(qubit).pop());
+                continue;
             }
-        } while (optimized && steps.size() > 1);
+            int index = i;
+            qubitsOf(step).forEach(qubit -> lastSteps.computeIfAbsent(qubit, key -> new ArrayDeque<>()).push(index));
+        }
 
+        List<CircuitStep> remaining = new ArrayList<>();
+        for (int i = 0; i < steps.size(); i++) {
+            if (!removed[i]) {
+                remaining.add(steps.get(i));
+            }
+        }
         return new QuantumCircuitBuilder()
                 .withQubits(circuit.getQubitCount())
-                .addSteps(steps)
+                .addSteps(remaining)
                 .build();
     }
 
+    /**
+     * step과 상쇄되는 이전 Step의 인덱스, 없으면 -1
+     */
+    private int findCancellingStep(List<CircuitStep> steps, Map<Integer, Deque<Integer>> lastSteps,
+                                   CircuitStep step) {
+        if (!step.isSingleGateStep()) {
+            return NO_PARTNER;
+        }
+        Integer partner = null;
+        for (int qubit : qubitsOf(step).toArray()) {
+            Deque<Integer> stack = lastSteps.get(qubit);
+            Integer top = stack == null ? null : stack.peek();
+            if (top == null || (partner != null && !partner.equals(top))) {
+                return NO_PARTNER;
+            }
+            partner = top;
+        }
+        if (canOptimizeSteps(steps.get(partner), step)) {
+            return partner;
+        }
+        return NO_PARTNER;
+    }
+
+    /**
+     * 두 Step이 단일 게이트 Step이고 규칙 중 하나가 상쇄를 허용하는지 확인
+     * 두 게이트의 피연산자가 같은지도 규칙이 판단한다.
+     */
     private boolean canOptimizeSteps(CircuitStep step1, CircuitStep step2) {
         if (!step1.isSingleGateStep() || !step2.isSingleGateStep()) {
             return false;
         }
+        QuantumGate first = step1.getSingleGate();
+        QuantumGate second = step2.getSingleGate();
 
         for (OptimizationRule rule : rules) {
-            if (rule.canOptimize(step1.getSingleGate(), step2.getSingleGate())) {
+            if (rule.canOptimize(first, second)) {
                 return true;
             }
         }
@@ -55,6 +106,13 @@ public class RuleBasedOptimizer implements CircuitOptimizer {
         return false;
     }
 
+    private static IntStream qubitsOf(CircuitStep step) {
+        return step.getGates().stream()
+                .flatMap(gate -> gate.getAffectedQubits().stream())
+                .mapToInt(QubitIndex::value)
+                .distinct();
+    }
+
     @Override
     public String getOptimizationName() {
         return optimizationName;
@@ -4,5 +4,8 @@ import quantum.circuit.domain.gate.QuantumGate;
 
 public interface OptimizationRule {
 
+    /**
+     * 연속된 두 게이트가 서로 상쇄되는지 확인 (게이트 종류와 피연산자를 모두 비교한다)
+     */
     boolean canOptimize(QuantumGate first, QuantumGate second);
 }
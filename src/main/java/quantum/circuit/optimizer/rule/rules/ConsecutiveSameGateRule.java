@@ -1,16 +1,22 @@
 package quantum.circuit.optimizer.rule.rules;
 
+import quantum.circuit.domain.gate.FusedGate;
 import quantum.circuit.domain.gate.QuantumGate;
 import quantum.circuit.optimizer.rule.OptimizationRule;
 
 public class ConsecutiveSameGateRule implements OptimizationRule {
 
+    /**
+     * 같은 큐비트에 연속된 같은 종류의 자기 역원 게이트(X, Z, H, CNOT)는 서로 상쇄된다.
+     * 융합 게이트는 행렬이 서로 다를 수 있으므로 상쇄하지 않는다.
+     * 방향이 반대인 CNOT은 서로 다른 게이트이므로 피연산자를 순서대로 적은 표준 표기로 비교한다.
+     */
     @Override
     public boolean canOptimize(QuantumGate first, QuantumGate second) {
-        if (!first.getClass().equals(second.getClass())) {
+        if (!first.getClass().equals(second.getClass()) || first instanceof FusedGate) {
             return false;
         }
 
-        return first.getAffectedQubits().equals(second.getAffectedQubits());
+        return first.getCanonicalForm().equals(second.getCanonicalForm());
     }
 }
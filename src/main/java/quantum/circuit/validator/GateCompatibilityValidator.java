@@ -1,11 +1,6 @@
 package quantum.circuit.validator;
 
-import java.util.HashSet;
-import java.util.Set;
-
-import quantum.circuit.domain.circuit.QubitIndex;
 import quantum.circuit.domain.circuit.QuantumCircuit;
-import quantum.circuit.domain.gate.QuantumGate;
 
 public class GateCompatibilityValidator implements CircuitValidator {
 
@@ -15,7 +10,7 @@ public class GateCompatibilityValidator implements CircuitValidator {
     @Override
     public ValidationResult validate(QuantumCircuit circuit) {
         for (var step : circuit.getSteps()) {
-            if (hasDuplicateQubits(step.getGates())) {
+            if (!step.hasDisjointQubits()) {
                 return ValidationResult.failure(ERROR_INCOMPATIBLE);
             }
         }
@@ -23,23 +18,6 @@ public class GateCompatibilityValidator implements CircuitValidator {
         return ValidationResult.success();
     }
 
-    private boolean hasDuplicateQubits(java.util.List<QuantumGate> gates) {
-        Set<QubitIndex> usedQubits = new HashSet<>();
-
-        for (QuantumGate gate : gates) {
-            Set<QubitIndex> affectedQubits = gate.getAffectedQubits();
-
-            for (QubitIndex qubit : affectedQubits) {
-                if (usedQubits.contains(qubit)) {
-                    return true;
-                }
-                usedQubits.add(qubit);
-            }
-        }
-
-        return false;
-    }
-
     @Override
     public String getValidationName() {
         return VALIDATION_NAME;
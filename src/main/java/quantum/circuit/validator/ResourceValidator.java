@@ -1,16 +1,33 @@
 package quantum.circuit.validator;
 
 import quantum.circuit.domain.circuit.QuantumCircuit;
+import quantum.circuit.infrastructure.executor.ExecutorType;
 
+/**
+ * 큐비트 개수 제한 또는 예상 메모리 사용량(바이트) 제한으로 회로를 검증
+ */
 public class ResourceValidator implements CircuitValidator {
 
     private static final String VALIDATION_NAME = "Resource Validator";
     private static final String ERROR_RESOURCE_EXCEEDED = "리소스 제한을 초과했습니다";
+    private static final String ERROR_MEMORY_EXCEEDED = "리소스 제한을 초과했습니다 (예상 메모리: %d bytes, 제한: %d bytes)";
 
     private final int maxQubits;
+    private final long maxBytes;
+    private final ExecutorType executorType;
 
     public ResourceValidator(int maxQubits) {
+        this(maxQubits, Long.MAX_VALUE, null);
+    }
+
+    private ResourceValidator(int maxQubits, long maxBytes, ExecutorType executorType) {
         this.maxQubits = maxQubits;
+        this.maxBytes = maxBytes;
+        this.executorType = executorType;
+    }
+
+    public static ResourceValidator withMemoryLimit(long maxBytes, ExecutorType executorType) {
+        return new ResourceValidator(Integer.MAX_VALUE, maxBytes, executorType);
     }
 
     @Override
@@ -20,6 +37,23 @@ public class ResourceValidator implements CircuitValidator {
         if (qubitCount > maxQubits) {
             return ValidationResult.failure(ERROR_RESOURCE_EXCEEDED);
         }
+        if (isMemoryLimited()) {
+            return validateMemory(qubitCount);
+        }
+
+        return ValidationResult.success();
+    }
+
+    private boolean isMemoryLimited() {
+        return executorType != null;
+    }
+
+    private ValidationResult validateMemory(int qubitCount) {
+        long estimatedBytes = executorType.estimateBytes(qubitCount);
+
+        if (estimatedBytes > maxBytes) {
+            return ValidationResult.failure(String.format(ERROR_MEMORY_EXCEEDED, estimatedBytes, maxBytes));
+        }
 
         return ValidationResult.success();
     }
@@ -0,0 +1,214 @@
+package quantum.circuit.infrastructure.executor;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.ref.Cleaner;
+import java.util.Random;
+
+import quantum.circuit.domain.circuit.QubitIndex;
+import quantum.circuit.domain.gate.FusedGate;
+import quantum.circuit.domain.gate.GateMatrix;
+import quantum.circuit.domain.state.MeasurementResult;
+import quantum.circuit.domain.state.Probability;
+import quantum.circuit.domain.state.QuantumState;
+import quantum.circuit.domain.state.executor.QuantumExecutor;
+
+/**
+ * 상태 벡터를 힙 밖(MemorySegment)에 보관하는 Executor
+ * amplitude는 (실수부, 허수부) 순서로 교차 저장되며, 메모리는 close() 시점에 즉시 해제된다.
+ * 닫지 않고 버려진 Executor의 메모리는 GC가 Executor를 회수한 뒤 Cleaner가 해제한다.
+ * 힙 크기(-Xmx)와 별개로 상태 벡터 크기를 정할 수 있고, 큰 상태 벡터가 GC 대상이 되지 않는다.
+ * preview 소스 셋에 있으며 ExecutorType.OFF_HEAP이 PreviewBackends를 통해 이름으로 생성한다.
+ */
+public class OffHeapQuantumExecutor implements QuantumExecutor {
+
+    private static final double INV_SQRT_2 = 1.0 / Math.sqrt(2.0);
+    private static final double MIN_PROBABILITY = 0.0;
+    private static final double MAX_PROBABILITY = 1.0;
+    private static final long MAX_ARRAY_STATES = 1L << 30;
+    private static final String ERROR_TOO_MANY_STATES = "[ERROR] 상태 수가 너무 많아 확률 배열로 내보낼 수 없습니다.";
+    private static final ValueLayout.OfDouble DOUBLE = ValueLayout.JAVA_DOUBLE;
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final int qubitCount;
+    private final long stateCount;
+    private final MemorySegment amplitudes;
+    private final Cleaner.Cleanable cleanable;
+    private final Random random;
+    private int appliedGateCount;
+
+    public OffHeapQuantumExecutor(int qubitCount) {
+        this(qubitCount, new Random());
+    }
+
+    public OffHeapQuantumExecutor(int qubitCount, Random random) {
+        this.qubitCount = qubitCount;
+        this.stateCount = 1L << qubitCount;
+        Arena arena = Arena.ofShared();
+        this.cleanable = CLEANER.register(this, arena::close);
+        // Arena.allocate는 0으로 초기화된 메모리를 돌려주므로 |0...0⟩의 amplitude만 설정한다.
+        this.amplitudes = arena.allocate(stateCount * 2 * DOUBLE.byteSize(), DOUBLE.byteAlignment());
+        this.amplitudes.setAtIndex(DOUBLE, 0, 1.0);
+        this.random = random;
+    }
+
+    @Override
+    public void applyXGate(QubitIndex target) {
+        long mask = 1L << target.value();
+        for (long i = 0; i < stateCount; i++) {
+            if ((i & mask) == 0) {
+                swap(i, i | mask);
+            }
+        }
+        appliedGateCount++;
+    }
+
+    @Override
+    public void applyHadamardGate(QubitIndex target) {
+        long mask = 1L << target.value();
+        for (long i = 0; i < stateCount; i++) {
+            if ((i & mask) == 0) {
+                long zero = i << 1;
+                long one = (i | mask) << 1;
+                double zeroReal = amplitudes.getAtIndex(DOUBLE, zero);
+                double zeroImag = amplitudes.getAtIndex(DOUBLE, zero + 1);
+                double oneReal = amplitudes.getAtIndex(DOUBLE, one);
+                double oneImag = amplitudes.getAtIndex(DOUBLE, one + 1);
+                amplitudes.setAtIndex(DOUBLE, zero, (zeroReal + oneReal) * INV_SQRT_2);
+                amplitudes.setAtIndex(DOUBLE, zero + 1, (zeroImag + oneImag) * INV_SQRT_2);
+                amplitudes.setAtIndex(DOUBLE, one, (zeroReal - oneReal) * INV_SQRT_2);
+                amplitudes.setAtIndex(DOUBLE, one + 1, (zeroImag - oneImag) * INV_SQRT_2);
+            }
+        }
+        appliedGateCount++;
+    }
+
+    @Override
+    public void applyZGate(QubitIndex target) {
+        long mask = 1L << target.value();
+        for (long i = 0; i < stateCount; i++) {
+            if ((i & mask) != 0) {
+                long real = i << 1;
+                amplitudes.setAtIndex(DOUBLE, real, -amplitudes.getAtIndex(DOUBLE, real));
+                amplitudes.setAtIndex(DOUBLE, real + 1, -amplitudes.getAtIndex(DOUBLE, real + 1));
+            }
+        }
+        appliedGateCount++;
+    }
+
+    /**
+     * 융합 게이트의 2x2 행렬을 amplitude 쌍 루프 한 번으로 적용
+     */
+    @Override
+    public void applyFusedGate(FusedGate gate, QuantumState state) {
+        GateMatrix matrix = gate.getMatrix();
+        long mask = 1L << gate.getTarget().value();
+        for (long i = 0; i < stateCount; i++) {
+            if ((i & mask) == 0) {
+                long zero = i << 1;
+                long one = (i | mask) << 1;
+                double zeroReal = amplitudes.getAtIndex(DOUBLE, zero);
+                double zeroImag = amplitudes.getAtIndex(DOUBLE, zero + 1);
+                double oneReal = amplitudes.getAtIndex(DOUBLE, one);
+                double oneImag = amplitudes.getAtIndex(DOUBLE, one + 1);
+                amplitudes.setAtIndex(DOUBLE, zero, matrix.aReal() * zeroReal - matrix.aImag() * zeroImag
+                        + matrix.bReal() * oneReal - matrix.bImag() * oneImag);
+                amplitudes.setAtIndex(DOUBLE, zero + 1, matrix.aReal() * zeroImag + matrix.aImag() * zeroReal
+                        + matrix.bReal() * oneImag + matrix.bImag() * oneReal);
+                amplitudes.setAtIndex(DOUBLE, one, matrix.cReal() * zeroReal - matrix.cImag() * zeroImag
+                        + matrix.dReal() * oneReal - matrix.dImag() * oneImag);
+                amplitudes.setAtIndex(DOUBLE, one + 1, matrix.cReal() * zeroImag + matrix.cImag() * zeroReal
+                        + matrix.dReal() * oneImag + matrix.dImag() * oneReal);
+            }
+        }
+        appliedGateCount++;
+    }
+
+    @Override
+    public void applyCNOTGate(QubitIndex control, QubitIndex target) {
+        long controlMask = 1L << control.value();
+        long targetMask = 1L << target.value();
+        for (long i = 0; i < stateCount; i++) {
+            if ((i & controlMask) != 0 && (i & targetMask) == 0) {
+                swap(i, i | targetMask);
+            }
+        }
+        appliedGateCount++;
+    }
+
+    private void swap(long first, long second) {
+        long a = first << 1;
+        long b = second << 1;
+        double real = amplitudes.getAtIndex(DOUBLE, a);
+        double imag = amplitudes.getAtIndex(DOUBLE, a + 1);
+        amplitudes.setAtIndex(DOUBLE, a, amplitudes.getAtIndex(DOUBLE, b));
+        amplitudes.setAtIndex(DOUBLE, a + 1, amplitudes.getAtIndex(DOUBLE, b + 1));
+        amplitudes.setAtIndex(DOUBLE, b, real);
+        amplitudes.setAtIndex(DOUBLE, b + 1, imag);
+    }
+
+    @Override
+    public Probability getProbabilityOfOne(QubitIndex index) {
+        return new Probability(calculateProbabilityOfOne(index.value()));
+    }
+
+    private double calculateProbabilityOfOne(int qubit) {
+        long mask = 1L << qubit;
+        double probability = 0.0;
+        for (long i = 0; i < stateCount; i++) {
+            if ((i & mask) != 0) {
+                probability += probabilityAt(i);
+            }
+        }
+        return clamp(probability);
+    }
+
+    @Override
+    public MeasurementResult measure(QubitIndex index) {
+        double probabilityOfOne = calculateProbabilityOfOne(index.value());
+        if (random.nextDouble() < probabilityOfOne) {
+            return MeasurementResult.ONE;
+        }
+        return MeasurementResult.ZERO;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return appliedGateCount == 0;
+    }
+
+    /**
+     * 모든 basis state의 정확한 확률을 인덱스 순서의 배열로 반환
+     * 자바 배열 한계를 넘는 상태 수는 배열로 내보낼 수 없다.
+     */
+    @Override
+    public double[] getProbabilityArray() {
+        if (stateCount > MAX_ARRAY_STATES) {
+            throw new IllegalStateException(ERROR_TOO_MANY_STATES);
+        }
+        double[] probabilities = new double[(int) stateCount];
+        for (int i = 0; i < stateCount; i++) {
+            probabilities[i] = clamp(probabilityAt(i));
+        }
+        return probabilities;
+    }
+
+    private double probabilityAt(long basisState) {
+        double real = amplitudes.getAtIndex(DOUBLE, basisState << 1);
+        double imag = amplitudes.getAtIndex(DOUBLE, (basisState << 1) + 1);
+        return real * real + imag * imag;
+    }
+
+    private double clamp(double probability) {
+        return Math.max(MIN_PROBABILITY, Math.min(MAX_PROBABILITY, probability));
+    }
+
+    /**
+     * 힙 밖에 할당한 상태 벡터 메모리를 즉시 해제 (여러 번 호출해도 한 번만 해제한다)
+     */
+    @Override
+    public void close() {
+        cleanable.clean();
+    }
+}
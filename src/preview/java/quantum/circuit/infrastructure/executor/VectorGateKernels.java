@@ -0,0 +1,105 @@
+package quantum.circuit.infrastructure.executor;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API(SIMD) 기반 단일 큐비트 게이트 커널
+ * 대상 비트가 0인 basis state들은 길이 2^q의 연속 구간을 이루고, 짝이 되는 구간은 그 바로 뒤에 있다.
+ * 교차 저장(실수부, 허수부)된 두 구간을 DoubleVector 단위로 함께 처리하고, 남는 원소는 스칼라로 처리한다.
+ * preview 소스 셋에 있으며 PreviewBackends가 이름으로 불러온다.
+ */
+final class VectorGateKernels implements SimdGateKernels {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public void hadamard(double[] amplitudes, int qubit, int from, int to, double scale) {
+        int partnerOffset = 2 << qubit;
+        int k = from;
+        while (k < to) {
+            int runEnd = runEnd(k, to, qubit);
+            int zero = BasisState.insertZeroBit(k, qubit) << 1;
+            hadamardRun(amplitudes, zero, zero + partnerOffset, (runEnd - k) << 1, scale);
+            k = runEnd;
+        }
+    }
+
+    @Override
+    public void pauliX(double[] amplitudes, int qubit, int from, int to) {
+        int partnerOffset = 2 << qubit;
+        int k = from;
+        while (k < to) {
+            int runEnd = runEnd(k, to, qubit);
+            int zero = BasisState.insertZeroBit(k, qubit) << 1;
+            swapRun(amplitudes, zero, zero + partnerOffset, (runEnd - k) << 1);
+            k = runEnd;
+        }
+    }
+
+    @Override
+    public void pauliZ(double[] amplitudes, int qubit, int from, int to) {
+        int partnerOffset = 2 << qubit;
+        int k = from;
+        while (k < to) {
+            int runEnd = runEnd(k, to, qubit);
+            int one = (BasisState.insertZeroBit(k, qubit) << 1) + partnerOffset;
+            negateRun(amplitudes, one, (runEnd - k) << 1);
+            k = runEnd;
+        }
+    }
+
+    /**
+     * k가 속한 연속 구간의 끝 (to를 넘지 않음)
+     */
+    private static int runEnd(int k, int to, int qubit) {
+        int blockMask = (1 << qubit) - 1;
+        return Math.min(to, (k | blockMask) + 1);
+    }
+
+    private static void hadamardRun(double[] amplitudes, int zero, int one, int length, double scale) {
+        int i = 0;
+        int bound = SPECIES.loopBound(length);
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector low = DoubleVector.fromArray(SPECIES, amplitudes, zero + i);
+            DoubleVector high = DoubleVector.fromArray(SPECIES, amplitudes, one + i);
+            low.add(high).mul(scale).intoArray(amplitudes, zero + i);
+            low.sub(high).mul(scale).intoArray(amplitudes, one + i);
+        }
+        for (; i < length; i++) {
+            double low = amplitudes[zero + i];
+            double high = amplitudes[one + i];
+            amplitudes[zero + i] = (low + high) * scale;
+            amplitudes[one + i] = (low - high) * scale;
+        }
+    }
+
+    private static void swapRun(double[] amplitudes, int zero, int one, int length) {
+        int i = 0;
+        int bound = SPECIES.loopBound(length);
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector low = DoubleVector.fromArray(SPECIES, amplitudes, zero + i);
+            DoubleVector high = DoubleVector.fromArray(SPECIES, amplitudes, one + i);
+            high.intoArray(amplitudes, zero + i);
+            low.intoArray(amplitudes, one + i);
+        }
+        for (; i < length; i++) {
+            double low = amplitudes[zero + i];
+            amplitudes[zero + i] = amplitudes[one + i];
+            amplitudes[one + i] = low;
+        }
+    }
+
+    private static void negateRun(double[] amplitudes, int one, int length) {
+        int i = 0;
+        int bound = SPECIES.loopBound(length);
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, amplitudes, one + i)
+                    .neg()
+                    .intoArray(amplitudes, one + i);
+        }
+        for (; i < length; i++) {
+            amplitudes[one + i] = -amplitudes[one + i];
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package quantum.circuit.infrastructure.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import quantum.circuit.domain.circuit.QubitIndex;
+import quantum.circuit.domain.state.MeasurementResult;
+import quantum.circuit.domain.state.QuantumState;
+import quantum.circuit.domain.state.executor.QuantumExecutor;
+
+class OffHeapQuantumExecutorTest {
+
+    @Test
+    @DisplayName("초기 상태는 |0⟩이고 비어있다")
+    void initialState() {
+        try (QuantumExecutor executor = new OffHeapQuantumExecutor(2)) {
+            assertThat(executor.isEmpty()).isTrue();
+            assertThat(executor.getProbabilityOfOne(new QubitIndex(0)).getValue()).isEqualTo(0.0);
+            assertThat(executor.getStateProbabilities().get("00")).isEqualTo(1.0);
+        }
+    }
+
+    @Test
+    @DisplayName("X 게이트 적용 후 측정은 1이다")
+    void measureAfterXGate() {
+        try (QuantumExecutor executor = new OffHeapQuantumExecutor(1)) {
+            QubitIndex index = new QubitIndex(0);
+
+            executor.applyXGate(index);
+
+            assertThat(executor.measure(index)).isEqualTo(MeasurementResult.ONE);
+        }
+    }
+
+    @Test
+    @DisplayName("Bell 상태의 basis state 확률을 계산한다")
+    void bellStateProbabilities() {
+        try (QuantumExecutor executor = new OffHeapQuantumExecutor(2)) {
+            executor.applyHadamardGate(new QubitIndex(0));
+            executor.applyCNOTGate(new QubitIndex(0), new QubitIndex(1));
+            executor.applyZGate(new QubitIndex(1));
+            Map<String, Double> probabilities = executor.getStateProbabilities();
+
+            assertThat(probabilities.get("00")).isCloseTo(0.5, within(1e-9));
+            assertThat(probabilities.get("11")).isCloseTo(0.5, within(1e-9));
+            assertThat(probabilities.get("01")).isCloseTo(0.0, within(1e-9));
+        }
+    }
+
+    @Test
+    @DisplayName("close 이후에는 상태에 접근할 수 없다")
+    void cannotAccessAfterClose() {
+        QuantumExecutor executor = new OffHeapQuantumExecutor(1);
+
+        executor.close();
+
+        assertThatThrownBy(() -> executor.getProbabilityOfOne(new QubitIndex(0)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("OFF_HEAP은 힙 밖 Executor를 생성한다")
+    void createOffHeapExecutor() {
+        try (QuantumExecutor executor = ExecutorType.OFF_HEAP.create(2)) {
+            assertThat(executor).isInstanceOf(OffHeapQuantumExecutor.class);
+        }
+    }
+
+    @Test
+    @DisplayName("QuantumState를 닫으면 힙 밖 메모리가 해제된다")
+    void closingStateReleasesMemory() {
+        QuantumState state = QuantumState.initialize(2, ExecutorType.OFF_HEAP);
+        state.applyXGate(new QubitIndex(0));
+
+        state.close();
+
+        assertThatThrownBy(() -> state.getProbabilityOfOne(new QubitIndex(0)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,43 @@
+package quantum.circuit.infrastructure.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import quantum.circuit.domain.circuit.QubitIndex;
+import quantum.circuit.domain.state.executor.QuantumExecutor;
+
+class VectorGateKernelsTest {
+
+    @Test
+    @DisplayName("STATE_VECTOR_SIMD는 SIMD 커널을 쓰는 상태 벡터 Executor를 생성한다")
+    void createSimdExecutor() {
+        assertThat(ExecutorType.STATE_VECTOR_SIMD.create(2)).isInstanceOf(StateVectorQuantumExecutor.class);
+    }
+
+    @Test
+    @DisplayName("SIMD 커널 결과는 스칼라 커널 결과와 같다")
+    void vectorKernelMatchesScalar() {
+        int qubitCount = 9;
+        QuantumExecutor vector = new StateVectorQuantumExecutor(qubitCount, ParallelOptions.serial(), GateKernel.VECTOR);
+        QuantumExecutor scalar = new StateVectorQuantumExecutor(qubitCount, ParallelOptions.serial(), GateKernel.SCALAR);
+
+        for (QuantumExecutor executor : List.of(vector, scalar)) {
+            for (int i = 0; i < qubitCount; i++) {
+                executor.applyHadamardGate(new QubitIndex(i));
+            }
+            executor.applyZGate(new QubitIndex(0));
+            executor.applyZGate(new QubitIndex(6));
+            executor.applyXGate(new QubitIndex(1));
+            executor.applyCNOTGate(new QubitIndex(6), new QubitIndex(4));
+            executor.applyHadamardGate(new QubitIndex(0));
+            executor.applyHadamardGate(new QubitIndex(6));
+            executor.applyXGate(new QubitIndex(8));
+        }
+
+        assertThat(vector.getStateProbabilities()).isEqualTo(scalar.getStateProbabilities());
+    }
+}
@@ -2,7 +2,12 @@ package quantum.circuit.analyzer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -132,4 +137,48 @@ class CircuitAnalyzerTest {
         assertThat(report.complexity()).isEqualTo(2);
         assertThat(report.entanglementDegree()).isEqualTo(0);
     }
+
+    @Test
+    @DisplayName("같은 회로의 분석 결과는 다시 계산하지 않고 재사용한다")
+    void reuseReportForSameCircuit() {
+        QuantumCircuit circuit = new QuantumCircuitBuilder()
+                .withQubits(1)
+                .addStep(new CircuitStep(List.of(new PauliXGate(new QubitIndex(0)))))
+                .build();
+
+        AnalysisReport first = CircuitAnalyzer.analyze(circuit);
+        AnalysisReport second = CircuitAnalyzer.analyze(circuit);
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 공유 분석기로 동시에 분석해도 결과가 같다")
+    void analyzeConcurrentlyWithSharedAnalyzer() throws Exception {
+        List<QuantumCircuit> circuits = new ArrayList<>();
+        for (int layers = 1; layers <= 64; layers++) {
+            QuantumCircuitBuilder builder = new QuantumCircuitBuilder().withQubits(2);
+            for (int i = 0; i < layers; i++) {
+                builder.addStep(new CircuitStep(List.of(new HadamardGate(new QubitIndex(0)))))
+                        .addStep(new CircuitStep(List.of(new CNOTGate(new QubitIndex(0), new QubitIndex(1)))));
+            }
+            circuits.add(builder.build());
+        }
+        List<Callable<List<AnalysisReport>>> tasks = new ArrayList<>();
+        for (int thread = 0; thread < 8; thread++) {
+            tasks.add(() -> circuits.stream().map(CircuitAnalyzer::analyze).toList());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (Future<List<AnalysisReport>> future : executor.invokeAll(tasks)) {
+                List<AnalysisReport> reports = future.get();
+                for (int i = 0; i < circuits.size(); i++) {
+                    assertThat(reports.get(i)).isEqualTo(new CircuitAnalyzer().performAnalysis(circuits.get(i)));
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
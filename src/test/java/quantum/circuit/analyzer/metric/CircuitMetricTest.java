@@ -89,4 +89,49 @@ class CircuitMetricTest {
         assertThat(new ComplexityMetric().calculate(circuit)).isEqualTo(0);
         assertThat(new EntanglementMetric().calculate(circuit)).isEqualTo(0);
     }
+
+    @Test
+    @DisplayName("각 메트릭의 누산기는 calculate와 같은 값을 계산한다")
+    void accumulatorsMatchCalculate() {
+        QuantumCircuit circuit = new QuantumCircuitBuilder()
+                .withQubits(2)
+                .addStep(new CircuitStep(List.of(
+                        new HadamardGate(new QubitIndex(0)),
+                        new PauliXGate(new QubitIndex(1))
+                )))
+                .addStep(new CircuitStep(List.of(new CNOTGate(new QubitIndex(0), new QubitIndex(1)))))
+                .build();
+
+        for (CircuitMetric metric : List.of(new GateCountMetric(), new CircuitDepthMetric(),
+                new ComplexityMetric(), new EntanglementMetric())) {
+            MetricAccumulator accumulator = metric.createAccumulator(circuit);
+            for (CircuitStep step : circuit.getSteps()) {
+                accumulator.visitStep(step);
+                step.getGates().forEach(accumulator::visitGate);
+            }
+
+            assertThat(accumulator.getResult()).isEqualTo(metric.calculate(circuit));
+        }
+    }
+
+    @Test
+    @DisplayName("누산기를 제공하지 않는 메트릭은 calculate 결과를 그대로 돌려준다")
+    void defaultAccumulatorUsesCalculate() {
+        CircuitMetric metric = new CircuitMetric() {
+            @Override
+            public int calculate(QuantumCircuit circuit) {
+                return 7;
+            }
+
+            @Override
+            public String getMetricName() {
+                return "Custom";
+            }
+        };
+        QuantumCircuit circuit = new QuantumCircuitBuilder()
+                .withQubits(1)
+                .build();
+
+        assertThat(metric.createAccumulator(circuit).getResult()).isEqualTo(7);
+    }
 }
@@ -0,0 +1,97 @@
+package quantum.circuit.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BenchmarkOptionsTest {
+
+    @Test
+    @DisplayName("기본 설정은 워밍업과 여러 번의 측정을 포함한다")
+    void defaultOptions() {
+        BenchmarkOptions options = BenchmarkOptions.defaults();
+
+        assertThat(options.warmupIterations()).isPositive();
+        assertThat(options.measurementIterations()).isGreaterThan(1);
+    }
+
+    @Test
+    @DisplayName("조회 작업을 바꾼 설정을 만든다")
+    void replaceWorkload() {
+        BenchmarkOptions options = new BenchmarkOptions(1, 2).withWorkload(state -> 1.0);
+
+        assertThat(options.warmupIterations()).isEqualTo(1);
+        assertThat(options.measurementIterations()).isEqualTo(2);
+        assertThat(options.workload().applyAsDouble(null)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("워밍업 반복 횟수가 음수면 예외가 발생한다")
+    void throwExceptionWhenWarmupIsNegative() {
+        assertThatThrownBy(() -> new BenchmarkOptions(-1, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("[ERROR]");
+    }
+
+    @Test
+    @DisplayName("측정 반복 횟수가 1보다 작으면 예외가 발생한다")
+    void throwExceptionWhenMeasurementIsZero() {
+        assertThatThrownBy(() -> new BenchmarkOptions(0, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("[ERROR]");
+    }
+
+    @Test
+    @DisplayName("조회 작업이 null이면 예외가 발생한다")
+    void throwExceptionWhenWorkloadIsNull() {
+        assertThatThrownBy(() -> new BenchmarkOptions(0, 1, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("[ERROR]");
+    }
+
+    @Test
+    @DisplayName("기본 설정은 회로를 하나씩 실행한다")
+    void serialByDefault() {
+        BenchmarkOptions options = BenchmarkOptions.defaults();
+
+        assertThat(options.isolation()).isEqualTo(IsolationMode.SERIAL);
+    }
+
+    @Test
+    @DisplayName("동시 실행 기본 설정은 가용 프로세서 수만큼의 스레드 풀을 쓴다")
+    void concurrentUsesBoundedPool() {
+        BenchmarkOptions options = new BenchmarkOptions(1, 2).concurrent();
+
+        assertThat(options.isolation()).isEqualTo(IsolationMode.CONCURRENT);
+        assertThat(options.threadCount()).isEqualTo(Runtime.getRuntime().availableProcessors());
+    }
+
+    @Test
+    @DisplayName("최대 힙 사용량은 회로를 하나씩 실행할 때만 기록한다")
+    void tracksPeakHeapOnlyWhenSerial() {
+        BenchmarkOptions serial = new BenchmarkOptions(1, 2);
+
+        assertThat(serial.tracksPeakHeap()).isTrue();
+        assertThat(serial.concurrentOnPlatformThreads(2).tracksPeakHeap()).isFalse();
+        assertThat(serial.withoutResourceTracking().tracksPeakHeap()).isFalse();
+    }
+
+    @Test
+    @DisplayName("플랫폼 스레드 풀 동시 실행 설정을 만든다")
+    void concurrentOnPlatformThreads() {
+        BenchmarkOptions options = new BenchmarkOptions(1, 2).concurrentOnPlatformThreads(4);
+
+        assertThat(options.isolation()).isEqualTo(IsolationMode.CONCURRENT);
+        assertThat(options.threadCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("플랫폼 스레드 수가 1보다 작으면 예외가 발생한다")
+    void throwExceptionWhenPlatformThreadCountIsZero() {
+        assertThatThrownBy(() -> new BenchmarkOptions(1, 2).concurrentOnPlatformThreads(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("[ERROR]");
+    }
+}
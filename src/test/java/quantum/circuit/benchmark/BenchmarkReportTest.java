@@ -88,6 +88,34 @@ class BenchmarkReportTest {
         assertThat(reportString).contains("깊이");
     }
 
+    @Test
+    @DisplayName("보고서에 자원 사용량 열을 표시한다")
+    void renderResourceColumns() {
+        Map<String, PerformanceMetrics> results = Map.of(
+                "Circuit A", PerformanceMetrics.of(5, 3, new long[]{100},
+                        new ResourceUsage(2048, 1_500, 2, 7, 3L * 1024 * 1024))
+        );
+        BenchmarkReport report = new BenchmarkReport(results);
+
+        String reportString = report.toString();
+
+        assertThat(reportString).contains("할당:");
+        assertThat(reportString).contains("2.0 KB");
+        assertThat(reportString).contains("1500 ns");
+        assertThat(reportString).contains("2회 7 ms");
+        assertThat(reportString).contains("3.0 MB");
+    }
+
+    @Test
+    @DisplayName("측정하지 않은 자원 사용량은 N/A로 표시한다")
+    void renderUnavailableResources() {
+        BenchmarkReport report = new BenchmarkReport(Map.of("Circuit A", new PerformanceMetrics(5, 3, 100)));
+
+        String reportString = report.toString();
+
+        assertThat(reportString).contains("N/A");
+    }
+
     @Test
     @DisplayName("가장 빠른 회로를 찾는다")
     void findFastestCircuit() {
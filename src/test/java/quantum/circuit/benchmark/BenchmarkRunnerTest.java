@@ -1,9 +1,12 @@
 package quantum.circuit.benchmark;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -124,6 +127,179 @@ class BenchmarkRunnerTest {
         assertThat(report).isNotNull();
     }
 
+    @Test
+    @DisplayName("설정한 횟수만큼 측정하고 워밍업은 결과에서 제외한다")
+    void measureConfiguredIterations() {
+        ResultCollector collector = new ResultCollector();
+        BenchmarkRunner runner = new BenchmarkRunner(List.of(collector), new BenchmarkOptions(2, 7));
+
+        runner.runBenchmark(Map.of("Circuit A", createSimpleCircuit()));
+
+        PerformanceMetrics metrics = collector.getResults().get("Circuit A");
+        assertThat(metrics.iterations()).isEqualTo(7);
+        assertThat(metrics.minTime()).isLessThanOrEqualTo(metrics.executionTime());
+        assertThat(metrics.executionTime()).isLessThanOrEqualTo(metrics.p99Time());
+        assertThat(metrics.p99Time()).isLessThanOrEqualTo(metrics.maxTime());
+        assertThat(metrics.throughput()).isPositive();
+    }
+
+    @Test
+    @DisplayName("워밍업과 측정 반복마다 실행된 상태로 조회 작업을 수행한다")
+    void runWorkloadOnExecutedState() {
+        AtomicInteger queries = new AtomicInteger();
+        BenchmarkOptions options = new BenchmarkOptions(3, 4).withWorkload(state -> {
+            queries.incrementAndGet();
+            return state.getProbabilityOfOne(new QubitIndex(0)).getValue();
+        });
+        BenchmarkRunner runner = new BenchmarkRunner(List.of(), options);
+
+        runner.runBenchmark(Map.of("Circuit A", createSimpleCircuit()));
+
+        assertThat(queries.get()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("게이트 개수와 깊이는 회로 분석 결과를 사용한다")
+    void reportGateCountAndDepth() {
+        ResultCollector collector = new ResultCollector();
+        BenchmarkRunner runner = new BenchmarkRunner(List.of(collector), new BenchmarkOptions(0, 1));
+
+        runner.runBenchmark(Map.of("Circuit B", createComplexCircuit()));
+
+        PerformanceMetrics metrics = collector.getResults().get("Circuit B");
+        assertThat(metrics.gateCount()).isEqualTo(2);
+        assertThat(metrics.depth()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("기본 크기의 스레드 풀에서 여러 회로를 동시에 벤치마크한다")
+    void benchmarkConcurrently() {
+        ResultCollector collector = new ResultCollector();
+        BenchmarkOptions options = new BenchmarkOptions(1, 3).concurrent();
+        BenchmarkRunner runner = new BenchmarkRunner(List.of(collector), options);
+
+        BenchmarkReport report = runner.runBenchmark(createCircuits(50));
+
+        assertThat(report.getCircuitCount()).isEqualTo(50);
+        assertThat(collector.getResults()).hasSize(50);
+    }
+
+    @Test
+    @DisplayName("크기가 제한된 플랫폼 스레드 풀에서 여러 회로를 동시에 벤치마크한다")
+    void benchmarkConcurrentlyOnPlatformThreads() {
+        BenchmarkOptions options = new BenchmarkOptions(1, 3).concurrentOnPlatformThreads(4);
+        BenchmarkRunner runner = new BenchmarkRunner(List.of(), options);
+
+        BenchmarkReport report = runner.runBenchmark(createCircuits(20));
+
+        assertThat(report.getCircuitCount()).isEqualTo(20);
+        assertThat(report.getResult("Circuit 0").iterations()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("동시 실행 중에도 모니터 이벤트는 빠짐없이 전달된다")
+    void notifyMonitorsWhileRunningConcurrently() {
+        TestMonitor monitor = new TestMonitor();
+        BenchmarkOptions options = new BenchmarkOptions(0, 2).concurrent();
+        BenchmarkRunner runner = new BenchmarkRunner(List.of(monitor), options);
+
+        runner.runBenchmark(createCircuits(100));
+
+        assertThat(monitor.getStartCount()).isEqualTo(100);
+        assertThat(monitor.getCompleteCount()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("동시 실행 중 한 회로가 실패하면 그 예외를 던진다")
+    void propagateFailureFromConcurrentBenchmark() {
+        BenchmarkOptions options = new BenchmarkOptions(0, 1)
+                .withWorkload(state -> {
+                    throw new IllegalStateException("[ERROR] 조회 실패");
+                })
+                .concurrentOnPlatformThreads(2);
+        BenchmarkRunner runner = new BenchmarkRunner(List.of(), options);
+
+        assertThatThrownBy(() -> runner.runBenchmark(createCircuits(4)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("조회 실패");
+    }
+
+    @Test
+    @DisplayName("동시 실행 중 한 회로가 실패하면 실행 중인 다른 회로도 반복을 멈춘다")
+    void stopRunningBenchmarksAfterFailure() {
+        int iterations = 1_000_000;
+        AtomicInteger completedQueries = new AtomicInteger();
+        BenchmarkOptions options = new BenchmarkOptions(0, iterations)
+                .withWorkload(state -> {
+                    if (state.getQubitCount() == 1) {
+                        throw new IllegalStateException("[ERROR] 조회 실패");
+                    }
+                    return completedQueries.incrementAndGet();
+                })
+                .concurrentOnPlatformThreads(2);
+        BenchmarkRunner runner = new BenchmarkRunner(List.of(), options);
+        Map<String, QuantumCircuit> circuits = Map.of(
+                "Failing", createSimpleCircuit(),
+                "Running", createComplexCircuit()
+        );
+
+        assertThatThrownBy(() -> runner.runBenchmark(circuits))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("조회 실패");
+        assertThat(completedQueries.get()).isLessThan(iterations);
+    }
+
+    @Test
+    @DisplayName("측정 구간의 할당량, CPU 시간, 최대 힙 사용량을 기록한다")
+    void recordResourceUsage() {
+        ResultCollector collector = new ResultCollector();
+        BenchmarkRunner runner = new BenchmarkRunner(List.of(collector), new BenchmarkOptions(1, 5));
+
+        runner.runBenchmark(Map.of("Circuit A", createSimpleCircuit()));
+
+        ResourceUsage resources = collector.getResults().get("Circuit A").resources();
+        assertThat(resources.allocatedBytes()).isPositive();
+        assertThat(resources.cpuTime()).isPositive();
+        assertThat(resources.gcCount()).isNotNegative();
+        assertThat(resources.gcTimeMillis()).isNotNegative();
+        assertThat(resources.peakHeapBytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("동시 실행에서는 스레드별 자원만 기록하고 JVM 전체 최대 힙은 기록하지 않는다")
+    void recordPerThreadResourcesWhenConcurrent() {
+        ResultCollector collector = new ResultCollector();
+        BenchmarkOptions options = new BenchmarkOptions(1, 3).concurrent();
+        BenchmarkRunner runner = new BenchmarkRunner(List.of(collector), options);
+
+        runner.runBenchmark(createCircuits(8));
+
+        ResourceUsage resources = collector.getResults().get("Circuit 0").resources();
+        assertThat(resources.allocatedBytes()).isNotNegative();
+        assertThat(resources.cpuTime()).isNotNegative();
+        assertThat(resources.peakHeapBytes()).isEqualTo(ResourceUsage.UNAVAILABLE);
+    }
+
+    @Test
+    @DisplayName("자원 기록을 끄면 자원 사용량을 측정하지 않는다")
+    void skipResourceUsageWhenTrackingDisabled() {
+        ResultCollector collector = new ResultCollector();
+        BenchmarkOptions options = new BenchmarkOptions(1, 3).withoutResourceTracking();
+        BenchmarkRunner runner = new BenchmarkRunner(List.of(collector), options);
+
+        runner.runBenchmark(Map.of("Circuit A", createSimpleCircuit()));
+
+        assertThat(collector.getResults().get("Circuit A").resources()).isEqualTo(ResourceUsage.notMeasured());
+    }
+
+    private Map<String, QuantumCircuit> createCircuits(int count) {
+        Map<String, QuantumCircuit> circuits = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            circuits.put("Circuit " + i, i % 2 == 0 ? createSimpleCircuit() : createComplexCircuit());
+        }
+        return circuits;
+    }
+
     private QuantumCircuit createSimpleCircuit() {
         return new QuantumCircuitBuilder()
                 .withQubits(1)
@@ -1,6 +1,8 @@
 package quantum.circuit.benchmark;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -48,4 +50,69 @@ class PerformanceMetricsTest {
         assertThat(metrics.depth()).isEqualTo(0);
         assertThat(metrics.executionTime()).isEqualTo(0);
     }
+
+    @Test
+    @DisplayName("한 번 측정한 결과는 모든 통계가 실행 시간과 같다")
+    void singleMeasurementStatistics() {
+        PerformanceMetrics metrics = new PerformanceMetrics(5, 3, 100);
+
+        assertThat(metrics.minTime()).isEqualTo(100);
+        assertThat(metrics.p50Time()).isEqualTo(100);
+        assertThat(metrics.p99Time()).isEqualTo(100);
+        assertThat(metrics.maxTime()).isEqualTo(100);
+        assertThat(metrics.iterations()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("반복 측정한 시간으로 최소, 평균, 백분위, 최대를 계산한다")
+    void statisticsFromSamples() {
+        long[] samples = new long[100];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = (100 - i) * 10L;
+        }
+
+        PerformanceMetrics metrics = PerformanceMetrics.of(5, 3, samples);
+
+        assertThat(metrics.minTime()).isEqualTo(10);
+        assertThat(metrics.meanTime()).isCloseTo(505.0, within(1e-9));
+        assertThat(metrics.executionTime()).isEqualTo(500);
+        assertThat(metrics.p99Time()).isEqualTo(990);
+        assertThat(metrics.maxTime()).isEqualTo(1000);
+        assertThat(metrics.iterations()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("처리량은 평균 실행 시간 기준 초당 실행 횟수다")
+    void throughputFromMeanTime() {
+        PerformanceMetrics metrics = PerformanceMetrics.of(5, 3, new long[]{1_000_000, 3_000_000});
+
+        assertThat(metrics.throughput()).isCloseTo(500.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("측정 결과가 없으면 예외가 발생한다")
+    void throwExceptionWhenSamplesAreEmpty() {
+        assertThatThrownBy(() -> PerformanceMetrics.of(5, 3, new long[0]))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("[ERROR]");
+    }
+
+    @Test
+    @DisplayName("자원 사용량 없이 만든 결과는 측정하지 않은 값으로 채운다")
+    void notMeasuredResourcesByDefault() {
+        PerformanceMetrics metrics = new PerformanceMetrics(5, 3, 100);
+
+        assertThat(metrics.resources()).isEqualTo(ResourceUsage.notMeasured());
+    }
+
+    @Test
+    @DisplayName("반복 측정 결과에 자원 사용량을 함께 담는다")
+    void statisticsWithResources() {
+        ResourceUsage resources = new ResourceUsage(1024, 5_000, 1, 3, 1 << 20);
+
+        PerformanceMetrics metrics = PerformanceMetrics.of(5, 3, new long[]{100, 200}, resources);
+
+        assertThat(metrics.resources()).isEqualTo(resources);
+        assertThat(metrics.iterations()).isEqualTo(2);
+    }
 }
@@ -0,0 +1,53 @@
+package quantum.circuit.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ResourceTrackerTest {
+
+    private static byte[] retained;
+
+    @Test
+    @DisplayName("측정 구간 동안 현재 스레드가 할당한 바이트를 반복 횟수로 나눠 기록한다")
+    void recordAllocatedBytesPerIteration() {
+        ResourceTracker tracker = ResourceTracker.start(true);
+        for (int i = 0; i < 4; i++) {
+            retained = new byte[1 << 20];
+        }
+
+        ResourceUsage resources = tracker.stop(4);
+
+        assertThat(resources.allocatedBytes()).isGreaterThanOrEqualTo(1 << 20);
+        assertThat(resources.peakHeapBytes()).isGreaterThanOrEqualTo(1 << 20);
+    }
+
+    @Test
+    @DisplayName("측정 구간 동안 현재 스레드의 CPU 시간을 기록한다")
+    void recordCpuTime() {
+        ResourceTracker tracker = ResourceTracker.start(true);
+        long sum = 0;
+        for (int i = 0; i < 10_000_000; i++) {
+            sum += i % 7;
+        }
+
+        ResourceUsage resources = tracker.stop(1);
+
+        assertThat(sum).isPositive();
+        assertThat(resources.cpuTime()).isPositive();
+        assertThat(resources.gcCount()).isNotNegative();
+    }
+
+    @Test
+    @DisplayName("최대 힙 사용량을 재지 않으면 UNAVAILABLE로 기록한다")
+    void skipPeakHeapWhenNotTracked() {
+        ResourceTracker tracker = ResourceTracker.start(false);
+        retained = new byte[1 << 20];
+
+        ResourceUsage resources = tracker.stop(1);
+
+        assertThat(resources.allocatedBytes()).isGreaterThanOrEqualTo(1 << 20);
+        assertThat(resources.peakHeapBytes()).isEqualTo(ResourceUsage.UNAVAILABLE);
+    }
+}
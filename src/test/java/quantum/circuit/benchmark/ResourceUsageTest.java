@@ -0,0 +1,30 @@
+package quantum.circuit.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ResourceUsageTest {
+
+    @Test
+    @DisplayName("측정하지 않은 자원 사용량은 모든 값이 UNAVAILABLE이다")
+    void notMeasuredIsUnavailable() {
+        ResourceUsage resources = ResourceUsage.notMeasured();
+
+        assertThat(resources.allocatedBytes()).isEqualTo(ResourceUsage.UNAVAILABLE);
+        assertThat(resources.cpuTime()).isEqualTo(ResourceUsage.UNAVAILABLE);
+        assertThat(resources.gcCount()).isEqualTo(ResourceUsage.UNAVAILABLE);
+        assertThat(resources.gcTimeMillis()).isEqualTo(ResourceUsage.UNAVAILABLE);
+        assertThat(resources.peakHeapBytes()).isEqualTo(ResourceUsage.UNAVAILABLE);
+    }
+
+    @Test
+    @DisplayName("할당량과 CPU 시간의 측정 여부를 확인한다")
+    void checkAvailability() {
+        ResourceUsage resources = new ResourceUsage(1024, ResourceUsage.UNAVAILABLE, 0, 0, 4096);
+
+        assertThat(resources.hasAllocatedBytes()).isTrue();
+        assertThat(resources.hasCpuTime()).isFalse();
+    }
+}
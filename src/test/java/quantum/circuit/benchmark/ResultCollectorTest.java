@@ -3,6 +3,8 @@ package quantum.circuit.benchmark;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -101,4 +103,19 @@ class ResultCollectorTest {
         assertThat(results).hasSize(1);
         assertThat(results.get("Circuit A")).isEqualTo(metrics2);
     }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 결과를 수집한다")
+    void collectResultsConcurrently() {
+        ResultCollector collector = new ResultCollector();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 1000; i++) {
+                String circuitName = "Circuit " + i;
+                executor.submit(() -> collector.onBenchmarkComplete(circuitName, new PerformanceMetrics(1, 1, 1)));
+            }
+        }
+
+        assertThat(collector.getResults()).hasSize(1000);
+    }
 }
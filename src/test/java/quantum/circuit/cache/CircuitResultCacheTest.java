@@ -0,0 +1,143 @@
+package quantum.circuit.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import quantum.circuit.domain.circuit.CircuitStep;
+import quantum.circuit.domain.circuit.QubitIndex;
+import quantum.circuit.domain.circuit.QuantumCircuit;
+import quantum.circuit.domain.gate.CNOTGate;
+import quantum.circuit.domain.gate.HadamardGate;
+import quantum.circuit.domain.gate.PauliXGate;
+import quantum.circuit.domain.state.QuantumState;
+
+class CircuitResultCacheTest {
+
+    private QuantumCircuit createBellCircuit() {
+        return new QuantumCircuit(2, List.of(
+                new CircuitStep(List.of(new HadamardGate(new QubitIndex(0)))),
+                new CircuitStep(List.of(new CNOTGate(new QubitIndex(0), new QubitIndex(1))))
+        ));
+    }
+
+    private QuantumCircuit createXCircuit(int target) {
+        return new QuantumCircuit(3, List.of(
+                new CircuitStep(List.of(new PauliXGate(new QubitIndex(target))))
+        ));
+    }
+
+    @Test
+    @DisplayName("같은 구조의 회로는 두 번째 실행부터 캐시에서 결과를 가져온다")
+    void hitForStructurallyEqualCircuit() {
+        CircuitResultCache cache = new CircuitResultCache(8, 1024 * 1024);
+
+        QuantumState first = cache.execute(createBellCircuit());
+        QuantumState second = cache.execute(createBellCircuit());
+
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(second.getStateProbabilities()).isEqualTo(first.getStateProbabilities());
+        assertThat(second.getProbabilityOfOne(new QubitIndex(1)).getValue()).isCloseTo(0.5, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("구조가 다른 회로는 각각 실행한다")
+    void missForDifferentCircuits() {
+        CircuitResultCache cache = new CircuitResultCache(8, 1024 * 1024);
+
+        cache.execute(createXCircuit(0));
+        cache.execute(createXCircuit(1));
+
+        assertThat(cache.getMissCount()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("항목 수 한도를 넘으면 가장 오래 쓰이지 않은 결과를 버린다")
+    void evictLeastRecentlyUsedEntry() {
+        CircuitResultCache cache = new CircuitResultCache(2, 1024 * 1024);
+        cache.execute(createXCircuit(0));
+        cache.execute(createXCircuit(1));
+        cache.execute(createXCircuit(0));
+
+        cache.execute(createXCircuit(2));
+        cache.execute(createXCircuit(0));
+        cache.execute(createXCircuit(1));
+
+        assertThat(cache.getEvictionCount()).isEqualTo(2);
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("바이트 한도를 넘으면 결과를 버린다")
+    void evictByByteSize() {
+        QuantumCircuit circuit = createXCircuit(0);
+        long entryBytes = 8L * Double.BYTES + circuit.getCanonicalForm().length() * 2L;
+        CircuitResultCache cache = new CircuitResultCache(8, entryBytes + 1);
+
+        cache.execute(circuit);
+        cache.execute(createXCircuit(1));
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getByteSize()).isLessThanOrEqualTo(entryBytes + 1);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("반환한 확률 배열을 수정해도 캐시된 결과는 바뀌지 않는다")
+    void returnDefensiveCopy() {
+        CircuitResultCache cache = new CircuitResultCache(8, 1024 * 1024);
+        double[] first = cache.getProbabilityArray(createXCircuit(0));
+
+        first[1] = 0.0;
+        double[] second = cache.getProbabilityArray(createXCircuit(0));
+
+        assertThat(second[1]).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("캐시된 상태에는 게이트를 적용할 수 없다")
+    void cachedStateIsReadOnly() {
+        CircuitResultCache cache = new CircuitResultCache(8, 1024 * 1024);
+        QuantumState state = cache.execute(createBellCircuit());
+
+        assertThatThrownBy(() -> state.applyXGate(new QubitIndex(0)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("[ERROR]");
+    }
+
+    @Test
+    @DisplayName("비우면 저장된 결과와 적중·미스·제거 횟수를 모두 초기화한다")
+    void clearResetsEntriesAndCounters() {
+        CircuitResultCache cache = new CircuitResultCache(1, 1024 * 1024);
+        cache.getProbabilityArray(createXCircuit(0));
+        cache.getProbabilityArray(createXCircuit(0));
+        cache.getProbabilityArray(createXCircuit(1));
+
+        cache.clear();
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getByteSize()).isZero();
+        assertThat(cache.getHitCount()).isZero();
+        assertThat(cache.getMissCount()).isZero();
+        assertThat(cache.getEvictionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("한도가 1 미만이면 예외가 발생한다")
+    void throwExceptionForInvalidLimits() {
+        assertThatThrownBy(() -> new CircuitResultCache(0, 1024))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("[ERROR]");
+        assertThatThrownBy(() -> new CircuitResultCache(1, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("[ERROR]");
+    }
+}
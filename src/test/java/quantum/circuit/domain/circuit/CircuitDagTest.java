@@ -0,0 +1,113 @@
+package quantum.circuit.domain.circuit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import quantum.circuit.domain.gate.CNOTGate;
+import quantum.circuit.domain.gate.HadamardGate;
+import quantum.circuit.domain.gate.PauliXGate;
+import quantum.circuit.domain.gate.PauliZGate;
+
+class CircuitDagTest {
+
+    /**
+     * 0: H(0), 1: X(1) (같은 Step) / 2: CNOT(0, 1) / 3: Z(1)
+     */
+    private QuantumCircuit createCircuit() {
+        return new QuantumCircuit(3, List.of(
+                new CircuitStep(List.of(new HadamardGate(new QubitIndex(0)), new PauliXGate(new QubitIndex(1)))),
+                new CircuitStep(List.of(new CNOTGate(new QubitIndex(0), new QubitIndex(1)))),
+                new CircuitStep(List.of(new PauliZGate(new QubitIndex(1))))
+        ));
+    }
+
+    @Test
+    @DisplayName("게이트마다 회로 순서대로 노드를 만든다")
+    void createNodesInCircuitOrder() {
+        CircuitDag dag = CircuitDag.from(createCircuit());
+
+        assertThat(dag.getNodeCount()).isEqualTo(4);
+        assertThat(dag.getGate(2).getName()).isEqualTo("CNOT");
+        assertThat(dag.getStepIndex(1)).isEqualTo(0);
+        assertThat(dag.getQubits(2)).containsExactly(0, 1);
+    }
+
+    @Test
+    @DisplayName("큐비트별 직전과 직후 노드를 조회한다")
+    void findNeighboursOnQubit() {
+        CircuitDag dag = CircuitDag.from(createCircuit());
+
+        assertThat(dag.getPredecessor(2, new QubitIndex(0))).isEqualTo(0);
+        assertThat(dag.getPredecessor(2, new QubitIndex(1))).isEqualTo(1);
+        assertThat(dag.getSuccessor(2, new QubitIndex(1))).isEqualTo(3);
+        assertThat(dag.getSuccessor(2, new QubitIndex(0))).isEqualTo(CircuitDag.NONE);
+        assertThat(dag.getPredecessor(0, new QubitIndex(0))).isEqualTo(CircuitDag.NONE);
+    }
+
+    @Test
+    @DisplayName("모든 wire의 이웃 노드를 중복 없이 반환한다")
+    void findAllNeighbours() {
+        CircuitDag dag = CircuitDag.from(createCircuit());
+
+        assertThat(dag.getPredecessors(2)).containsExactly(0, 1);
+        assertThat(dag.getSuccessors(2)).containsExactly(3);
+        assertThat(dag.getPredecessors(0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("큐비트의 첫 노드와 마지막 노드를 조회한다")
+    void findFirstAndLastNodes() {
+        CircuitDag dag = CircuitDag.from(createCircuit());
+
+        assertThat(dag.getFirstNode(new QubitIndex(1))).isEqualTo(1);
+        assertThat(dag.getLastNode(new QubitIndex(1))).isEqualTo(3);
+        assertThat(dag.getFirstNode(new QubitIndex(2))).isEqualTo(CircuitDag.NONE);
+    }
+
+    @Test
+    @DisplayName("원래 Step 구성을 그대로 복원한다")
+    void convertBackToCircuit() {
+        QuantumCircuit circuit = createCircuit();
+
+        QuantumCircuit restored = CircuitDag.from(circuit).toCircuit();
+
+        assertThat(restored.getQubitCount()).isEqualTo(3);
+        assertThat(restored.getStepCount()).isEqualTo(3);
+        assertThat(restored.getSteps().getFirst().getGateCount()).isEqualTo(2);
+        assertThat(restored.getTotalGateCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("빈 회로는 노드가 없다")
+    void emptyCircuitHasNoNodes() {
+        CircuitDag dag = CircuitDag.from(new QuantumCircuit(2, List.of()));
+
+        assertThat(dag.getNodeCount()).isZero();
+        assertThat(dag.toCircuit().isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("노드가 작용하지 않는 큐비트로 조회하면 예외가 발생한다")
+    void throwExceptionForQubitNotOnNode() {
+        CircuitDag dag = CircuitDag.from(createCircuit());
+
+        assertThatThrownBy(() -> dag.getPredecessor(0, new QubitIndex(1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("[ERROR]");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 노드를 조회하면 예외가 발생한다")
+    void throwExceptionForInvalidNode() {
+        CircuitDag dag = CircuitDag.from(createCircuit());
+
+        assertThatThrownBy(() -> dag.getGate(4))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("[ERROR]");
+    }
+}
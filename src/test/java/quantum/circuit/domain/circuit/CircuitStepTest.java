@@ -8,6 +8,7 @@ import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import quantum.circuit.domain.gate.CNOTGate;
 import quantum.circuit.domain.gate.HadamardGate;
 import quantum.circuit.domain.gate.PauliXGate;
 import quantum.circuit.domain.gate.QuantumGate;
@@ -115,4 +116,34 @@ class CircuitStepTest {
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("[ERROR]");
     }
+
+    @Test
+    @DisplayName("서로 다른 큐비트에 작용하는 게이트들인지 확인한다")
+    void checkDisjointQubits() {
+        CircuitStep disjoint = new CircuitStep(List.of(
+                new HadamardGate(new QubitIndex(0)),
+                new CNOTGate(new QubitIndex(1), new QubitIndex(2))
+        ));
+        CircuitStep overlapping = new CircuitStep(List.of(
+                new HadamardGate(new QubitIndex(0)),
+                new CNOTGate(new QubitIndex(0), new QubitIndex(1))
+        ));
+
+        assertThat(disjoint.hasDisjointQubits()).isTrue();
+        assertThat(overlapping.hasDisjointQubits()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Step 적용 시 범위를 벗어난 큐비트가 있으면 예외가 발생한다")
+    void applyStepWithInvalidIndexThrowsException() {
+        QuantumState state = QuantumState.initialize(2);
+        CircuitStep step = new CircuitStep(List.of(
+                new PauliXGate(new QubitIndex(0)),
+                new PauliXGate(new QubitIndex(5))
+        ));
+
+        assertThatThrownBy(() -> step.applyTo(state))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("[ERROR]");
+    }
 }
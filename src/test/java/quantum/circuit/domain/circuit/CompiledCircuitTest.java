@@ -0,0 +1,110 @@
+package quantum.circuit.domain.circuit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import quantum.circuit.domain.gate.CNOTGate;
+import quantum.circuit.domain.gate.FusedGate;
+import quantum.circuit.domain.gate.HadamardGate;
+import quantum.circuit.domain.gate.PauliXGate;
+import quantum.circuit.domain.gate.PauliZGate;
+import quantum.circuit.domain.state.QuantumState;
+
+class CompiledCircuitTest {
+
+    @Test
+    @DisplayName("게이트마다 opcode와 피연산자 두 개를 기록한다")
+    void encodeGatesAsOpcodes() {
+        QuantumCircuit circuit = new QuantumCircuit(2, List.of(
+                new CircuitStep(List.of(new HadamardGate(new QubitIndex(0)), new PauliXGate(new QubitIndex(1)))),
+                new CircuitStep(List.of(new CNOTGate(new QubitIndex(0), new QubitIndex(1)))),
+                new CircuitStep(List.of(new PauliZGate(new QubitIndex(1))))
+        ));
+
+        CompiledCircuit program = CompiledCircuit.compile(circuit);
+
+        assertThat(program.getInstructionCount()).isEqualTo(4);
+        assertThat(program.getCode()).containsExactly(
+                CompiledCircuit.OP_H, 0, 0,
+                CompiledCircuit.OP_X, 1, 0,
+                CompiledCircuit.OP_CNOT, 0, 1,
+                CompiledCircuit.OP_Z, 1, 0
+        );
+    }
+
+    @Test
+    @DisplayName("명령 단위 접근자는 명령 배열과 같은 opcode와 피연산자를 반환한다")
+    void instructionAccessorsMatchCode() {
+        QuantumCircuit circuit = new QuantumCircuit(2, List.of(
+                new CircuitStep(List.of(new HadamardGate(new QubitIndex(0)))),
+                new CircuitStep(List.of(new CNOTGate(new QubitIndex(1), new QubitIndex(0))))
+        ));
+
+        CompiledCircuit program = CompiledCircuit.compile(circuit);
+
+        assertThat(program.opcodeAt(0)).isEqualTo(CompiledCircuit.OP_H);
+        assertThat(program.operandAAt(0)).isEqualTo(0);
+        assertThat(program.opcodeAt(1)).isEqualTo(CompiledCircuit.OP_CNOT);
+        assertThat(program.operandAAt(1)).isEqualTo(1);
+        assertThat(program.operandBAt(1)).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("융합 게이트는 별도 테이블의 인덱스를 피연산자로 가진다")
+    void encodeFusedGateByIndex() {
+        FusedGate fused = new FusedGate(List.of(new HadamardGate(new QubitIndex(0)), new PauliZGate(new QubitIndex(0))));
+        QuantumCircuit circuit = new QuantumCircuit(1, List.of(new CircuitStep(List.of(fused))));
+
+        CompiledCircuit program = circuit.compile();
+
+        assertThat(program.getCode()).containsExactly(CompiledCircuit.OP_FUSED, 0, 0);
+        assertThat(program.getFusedGate(0)).isSameAs(fused);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 큐비트는 컴파일할 때 예외가 발생한다")
+    void throwExceptionForOutOfRangeQubitAtCompileTime() {
+        QuantumCircuit circuit = new QuantumCircuit(1, List.of(
+                new CircuitStep(List.of(new PauliXGate(new QubitIndex(1))))
+        ));
+
+        assertThatThrownBy(() -> CompiledCircuit.compile(circuit))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("[ERROR]");
+    }
+
+    @Test
+    @DisplayName("컴파일된 프로그램은 여러 번 실행해도 같은 결과를 낸다")
+    void executeProgramRepeatedly() {
+        QuantumCircuit circuit = new QuantumCircuit(2, List.of(
+                new CircuitStep(List.of(new HadamardGate(new QubitIndex(0)))),
+                new CircuitStep(List.of(new CNOTGate(new QubitIndex(0), new QubitIndex(1))))
+        ));
+        CompiledCircuit program = circuit.compile();
+
+        QuantumState first = program.execute();
+        QuantumState second = program.execute();
+
+        assertThat(first.getStateProbabilities().get("11")).isCloseTo(0.5, within(1e-9));
+        assertThat(second.getStateProbabilities()).isEqualTo(first.getStateProbabilities());
+    }
+
+    @Test
+    @DisplayName("프로그램보다 큐비트가 적은 상태에서는 실행할 수 없다")
+    void throwExceptionWhenStateIsNarrowerThanProgram() {
+        CompiledCircuit program = new QuantumCircuit(2, List.of(
+                new CircuitStep(List.of(new PauliXGate(new QubitIndex(1))))
+        )).compile();
+        QuantumState state = QuantumState.initialize(1);
+
+        assertThatThrownBy(() -> state.run(program))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("[ERROR]");
+    }
+}
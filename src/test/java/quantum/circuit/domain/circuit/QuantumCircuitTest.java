@@ -0,0 +1,113 @@
+package quantum.circuit.domain.circuit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import quantum.circuit.domain.gate.CNOTGate;
+import quantum.circuit.domain.gate.HadamardGate;
+import quantum.circuit.domain.gate.PauliXGate;
+import quantum.circuit.domain.gate.QuantumGate;
+import quantum.circuit.domain.state.QuantumState;
+
+class QuantumCircuitTest {
+
+    @Test
+    @DisplayName("회로를 실행하면 모든 Step이 적용된 상태를 반환한다")
+    void executeAppliesAllSteps() {
+        QuantumCircuit circuit = new QuantumCircuit(2, List.of(
+                new CircuitStep(List.of(new PauliXGate(new QubitIndex(0)))),
+                new CircuitStep(List.of(new CNOTGate(new QubitIndex(0), new QubitIndex(1))))
+        ));
+
+        QuantumState state = circuit.execute();
+
+        assertThat(state.getProbabilityOfOne(new QubitIndex(1)).getValue()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("X, Z, H, CNOT만으로 된 회로는 Clifford 회로다")
+    void cliffordCircuit() {
+        QuantumCircuit circuit = new QuantumCircuit(2, List.of(
+                new CircuitStep(List.of(new HadamardGate(new QubitIndex(0)))),
+                new CircuitStep(List.of(new CNOTGate(new QubitIndex(0), new QubitIndex(1))))
+        ));
+        QuantumGate nonClifford = new PauliXGate(new QubitIndex(0)) {
+            @Override
+            public boolean isClifford() {
+                return false;
+            }
+        };
+        QuantumCircuit other = new QuantumCircuit(1, List.of(new CircuitStep(List.of(nonClifford))));
+
+        assertThat(circuit.isClifford()).isTrue();
+        assertThat(other.isClifford()).isFalse();
+    }
+
+    @Test
+    @DisplayName("상태 벡터로 다룰 수 없는 큐비트 수의 Clifford 회로도 실행한다")
+    void executeLargeCliffordCircuit() {
+        int qubitCount = 1000;
+        List<CircuitStep> steps = new ArrayList<>();
+        steps.add(new CircuitStep(List.of(new HadamardGate(new QubitIndex(0)))));
+        for (int i = 0; i < qubitCount - 1; i++) {
+            steps.add(new CircuitStep(List.of(new CNOTGate(new QubitIndex(i), new QubitIndex(i + 1)))));
+        }
+
+        QuantumState state = new QuantumCircuit(qubitCount, steps).execute();
+
+        assertThat(state.getProbabilityOfOne(new QubitIndex(qubitCount - 1)).getValue()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("표준 표기는 큐비트 개수와 게이트를 적용 순서대로 담는다")
+    void canonicalFormListsGatesInOrder() {
+        QuantumCircuit circuit = new QuantumCircuit(2, List.of(
+                new CircuitStep(List.of(new HadamardGate(new QubitIndex(0)))),
+                new CircuitStep(List.of(new CNOTGate(new QubitIndex(1), new QubitIndex(0))))
+        ));
+
+        assertThat(circuit.getCanonicalForm()).isEqualTo("2:H(0);CNOT(1,0);");
+    }
+
+    @Test
+    @DisplayName("구조가 같은 회로는 같은 표준 표기를, 제어와 타겟이 뒤바뀐 회로는 다른 표준 표기를 가진다")
+    void canonicalFormReflectsStructure() {
+        QuantumCircuit circuit = new QuantumCircuit(2, List.of(
+                new CircuitStep(List.of(new CNOTGate(new QubitIndex(0), new QubitIndex(1))))
+        ));
+        QuantumCircuit same = new QuantumCircuit(2, List.of(
+                new CircuitStep(List.of(new CNOTGate(new QubitIndex(0), new QubitIndex(1))))
+        ));
+        QuantumCircuit reversed = new QuantumCircuit(2, List.of(
+                new CircuitStep(List.of(new CNOTGate(new QubitIndex(1), new QubitIndex(0))))
+        ));
+
+        assertThat(circuit.getCanonicalForm()).isEqualTo(same.getCanonicalForm());
+        assertThat(circuit.getCanonicalForm()).isNotEqualTo(reversed.getCanonicalForm());
+    }
+
+    @Test
+    @DisplayName("구조가 같은 회로는 같은 해시를, 제어와 타겟이 뒤바뀐 회로는 다른 해시를 가진다")
+    void canonicalHashReflectsStructure() {
+        QuantumCircuit circuit = new QuantumCircuit(2, List.of(
+                new CircuitStep(List.of(new HadamardGate(new QubitIndex(0)))),
+                new CircuitStep(List.of(new CNOTGate(new QubitIndex(0), new QubitIndex(1))))
+        ));
+        QuantumCircuit same = new QuantumCircuit(2, List.of(
+                new CircuitStep(List.of(new HadamardGate(new QubitIndex(0)))),
+                new CircuitStep(List.of(new CNOTGate(new QubitIndex(0), new QubitIndex(1))))
+        ));
+        QuantumCircuit reversed = new QuantumCircuit(2, List.of(
+                new CircuitStep(List.of(new HadamardGate(new QubitIndex(0)))),
+                new CircuitStep(List.of(new CNOTGate(new QubitIndex(1), new QubitIndex(0))))
+        ));
+
+        assertThat(circuit.getCanonicalHash()).isEqualTo(same.getCanonicalHash());
+        assertThat(circuit.getCanonicalHash()).isNotEqualTo(reversed.getCanonicalHash());
+    }
+}
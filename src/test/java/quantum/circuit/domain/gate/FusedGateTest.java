@@ -0,0 +1,73 @@
+package quantum.circuit.domain.gate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import quantum.circuit.domain.circuit.QubitIndex;
+
+class FusedGateTest {
+
+    @Test
+    @DisplayName("융합 게이트는 원래 게이트들의 행렬 곱을 가진다")
+    void matrixIsProductOfGates() {
+        QubitIndex target = new QubitIndex(0);
+        FusedGate fused = new FusedGate(List.of(
+                new HadamardGate(target),
+                new PauliZGate(target),
+                new HadamardGate(target)
+        ));
+
+        GateMatrix matrix = fused.getMatrix();
+
+        assertThat(matrix.aReal()).isCloseTo(GateMatrix.PAULI_X.aReal(), within(1e-12));
+        assertThat(matrix.bReal()).isCloseTo(GateMatrix.PAULI_X.bReal(), within(1e-12));
+        assertThat(matrix.cReal()).isCloseTo(GateMatrix.PAULI_X.cReal(), within(1e-12));
+        assertThat(matrix.dReal()).isCloseTo(GateMatrix.PAULI_X.dReal(), within(1e-12));
+    }
+
+    @Test
+    @DisplayName("같은 게이트를 두 번 융합하면 항등 행렬이다")
+    void selfInverseRunIsIdentity() {
+        QubitIndex target = new QubitIndex(0);
+        FusedGate fused = new FusedGate(List.of(new PauliXGate(target), new PauliXGate(target)));
+
+        assertThat(fused.getMatrix().isIdentity()).isTrue();
+    }
+
+    @Test
+    @DisplayName("융합 게이트는 단일 큐비트 게이트이며 원래 게이트가 모두 Clifford이면 Clifford다")
+    void fusedGateProperties() {
+        QubitIndex target = new QubitIndex(2);
+        FusedGate fused = new FusedGate(List.of(new PauliXGate(target), new HadamardGate(target)));
+
+        assertThat(fused.getTarget()).isEqualTo(target);
+        assertThat(fused.getQubitCount()).isEqualTo(1);
+        assertThat(fused.getName()).isEqualTo("U");
+        assertThat(fused.isClifford()).isTrue();
+    }
+
+    @Test
+    @DisplayName("게이트가 2개 미만이면 예외가 발생한다")
+    void tooFewGatesThrowsException() {
+        assertThatThrownBy(() -> new FusedGate(List.of(new PauliXGate(new QubitIndex(0)))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("[ERROR]");
+    }
+
+    @Test
+    @DisplayName("서로 다른 큐비트의 게이트를 융합하면 예외가 발생한다")
+    void differentTargetsThrowsException() {
+        assertThatThrownBy(() -> new FusedGate(List.of(
+                new PauliXGate(new QubitIndex(0)),
+                new PauliXGate(new QubitIndex(1))
+        )))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("[ERROR]");
+    }
+}
@@ -0,0 +1,64 @@
+package quantum.circuit.domain.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BasisStateProbabilitiesTest {
+
+    @Test
+    @DisplayName("이진 문자열 키로 확률을 조회한다 (최상위 큐비트가 왼쪽)")
+    void getByLabel() {
+        Map<String, Double> probabilities = new BasisStateProbabilities(new double[]{0.1, 0.2, 0.3, 0.4});
+
+        assertThat(probabilities).hasSize(4);
+        assertThat(probabilities.get("00")).isEqualTo(0.1);
+        assertThat(probabilities.get("01")).isEqualTo(0.2);
+        assertThat(probabilities.get("10")).isEqualTo(0.3);
+        assertThat(probabilities.get("11")).isEqualTo(0.4);
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 키는 조회되지 않는다")
+    void invalidLabelIsAbsent() {
+        Map<String, Double> probabilities = new BasisStateProbabilities(new double[]{1.0, 0.0});
+
+        assertThat(probabilities.get("2")).isNull();
+        assertThat(probabilities.containsKey("00")).isFalse();
+        assertThat(probabilities.containsKey(0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 내용의 HashMap과 동등하다")
+    void equalsHashMap() {
+        Map<String, Double> expected = new HashMap<>();
+        expected.put("00", 0.5);
+        expected.put("01", 0.0);
+        expected.put("10", 0.0);
+        expected.put("11", 0.5);
+
+        assertThat(new BasisStateProbabilities(new double[]{0.5, 0.0, 0.0, 0.5})).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 뷰이므로 수정할 수 없다")
+    void readOnly() {
+        Map<String, Double> probabilities = new BasisStateProbabilities(new double[]{1.0, 0.0});
+
+        assertThatThrownBy(() -> probabilities.put("0", 0.5))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("배열 길이가 2의 거듭제곱이 아니면 예외가 발생한다")
+    void invalidLengthThrowsException() {
+        assertThatThrownBy(() -> new BasisStateProbabilities(new double[]{0.5, 0.25, 0.25}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("[ERROR]");
+    }
+}
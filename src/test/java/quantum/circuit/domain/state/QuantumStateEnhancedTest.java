@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 
 import quantum.circuit.domain.circuit.QubitIndex;
 import quantum.circuit.domain.state.executor.QuantumExecutor;
+import quantum.circuit.infrastructure.executor.ExecutorType;
 
 class QuantumStateEnhancedTest {
 
@@ -101,8 +102,8 @@ class QuantumStateEnhancedTest {
     }
 
     @Test
-    @DisplayName("기본 생성자는 Strange Executor를 사용한다")
-    void defaultConstructorUsesStrangeExecutor() {
+    @DisplayName("기본 생성자는 기본 Executor를 사용한다")
+    void defaultConstructorUsesDefaultExecutor() {
         QuantumState state = QuantumState.initialize(1);
         QubitIndex index = new QubitIndex(0);
 
@@ -112,6 +113,17 @@ class QuantumStateEnhancedTest {
         assertThat(probability.getValue()).isEqualTo(1.0);
     }
 
+    @Test
+    @DisplayName("Executor 타입을 지정해 초기화한다")
+    void initializeWithExecutorType() {
+        QuantumState state = QuantumState.initialize(2, ExecutorType.STRANGE);
+        QubitIndex index = new QubitIndex(1);
+
+        state.applyXGate(index);
+
+        assertThat(state.getProbabilityOfOne(index).getValue()).isEqualTo(1.0);
+    }
+
     private static class MockQuantumExecutor implements QuantumExecutor {
         int xGateCount = 0;
         int hadamardGateCount = 0;
@@ -167,5 +179,10 @@ class QuantumStateEnhancedTest {
         public boolean isEmpty() {
             return false;
         }
+
+        @Override
+        public double[] getProbabilityArray() {
+            return new double[]{0.25, 0.75};
+        }
     }
 }
@@ -3,10 +3,13 @@ package quantum.circuit.domain.state;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.Map;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import quantum.circuit.domain.circuit.QubitIndex;
+import quantum.circuit.infrastructure.executor.ExecutorType;
 
 class QuantumStateTest {
 
@@ -38,9 +41,41 @@ class QuantumStateTest {
     }
 
     @Test
-    @DisplayName("큐비트 개수가 10을 초과하면 예외가 발생한다")
+    @DisplayName("큐비트 개수가 메모리 예산으로 계산한 한도를 초과하면 예외가 발생한다")
     void tooManyQubitsThrowsException() {
-        assertThatThrownBy(() -> QuantumState.initialize(11))
+        int maxQubitCount = QuantumState.getMaxQubitCount();
+
+        assertThatThrownBy(() -> QuantumState.initialize(maxQubitCount + 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("[ERROR]");
+    }
+
+    @Test
+    @DisplayName("10개를 초과하는 큐비트도 메모리 예산 안에서는 생성할 수 있다")
+    void moreThanTenQubitsWithinBudget() {
+        QuantumState state = QuantumState.initialize(16);
+
+        assertThat(state.getQubitCount()).isEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("메모리 예산이 10큐비트 분량이면 큐비트 개수가 10을 초과할 때 예외가 발생한다")
+    void moreThanTenQubitsThrowsExceptionWithTenQubitBudget() {
+        long tenQubitBudget = ExecutorType.STATE_VECTOR.estimateBytes(10);
+
+        assertThat(QuantumState.initialize(10, ExecutorType.STATE_VECTOR, tenQubitBudget).getQubitCount())
+                .isEqualTo(10);
+        assertThatThrownBy(() -> QuantumState.initialize(11, ExecutorType.STATE_VECTOR, tenQubitBudget))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("[ERROR]");
+    }
+
+    @Test
+    @DisplayName("메모리 예산을 줄이면 최대 큐비트 개수도 줄어든다")
+    void memoryBudgetLimitsQubitCount() {
+        assertThat(ExecutorType.STATE_VECTOR.maxQubitCount(1024)).isEqualTo(6);
+        assertThat(QuantumState.initialize(6, ExecutorType.STATE_VECTOR, 1024).getQubitCount()).isEqualTo(6);
+        assertThatThrownBy(() -> QuantumState.initialize(7, ExecutorType.STATE_VECTOR, 1024))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("[ERROR]");
     }
@@ -101,4 +136,18 @@ class QuantumStateTest {
 
         assertThat(result).isEqualTo(MeasurementResult.ONE);
     }
+
+    @Test
+    @DisplayName("Bell 상태를 샘플링하면 00과 11만 관측된다")
+    void sampleBellState() {
+        QuantumState state = QuantumState.initialize(2);
+        state.applyHadamardGate(new QubitIndex(0));
+        state.applyCNOTGate(new QubitIndex(0), new QubitIndex(1));
+
+        Map<String, Integer> histogram = state.sample(10_000, 42L);
+
+        assertThat(histogram).containsOnlyKeys("00", "11");
+        assertThat(histogram.get("00") + histogram.get("11")).isEqualTo(10_000);
+        assertThat(histogram).isEqualTo(state.sample(10_000, 42L));
+    }
 }
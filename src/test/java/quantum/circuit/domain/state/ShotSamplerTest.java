@@ -0,0 +1,57 @@
+package quantum.circuit.domain.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ShotSamplerTest {
+
+    @Test
+    @DisplayName("확률이 1인 상태만 관측된다")
+    void deterministicDistribution() {
+        ShotSampler sampler = new ShotSampler(new double[]{0.0, 1.0, 0.0, 0.0});
+
+        Map<String, Integer> histogram = sampler.sample(1000, new Random(7));
+
+        assertThat(histogram).containsOnlyKeys("01");
+        assertThat(histogram.get("01")).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("관측 횟수의 합은 샷 횟수와 같고 확률에 비례한다")
+    void countsFollowDistribution() {
+        ShotSampler sampler = new ShotSampler(new double[]{0.25, 0.0, 0.0, 0.75});
+
+        Map<String, Integer> histogram = sampler.sample(100_000, new Random(42));
+
+        assertThat(histogram).containsOnlyKeys("00", "11");
+        assertThat(histogram.get("00") + histogram.get("11")).isEqualTo(100_000);
+        assertThat(histogram.get("11")).isBetween(74_000, 76_000);
+    }
+
+    @Test
+    @DisplayName("같은 시드로 샘플링하면 같은 히스토그램을 얻는다")
+    void sameSeedSameHistogram() {
+        ShotSampler sampler = new ShotSampler(new double[]{0.5, 0.5});
+
+        Map<String, Integer> first = sampler.sample(500, new Random(1));
+        Map<String, Integer> second = sampler.sample(500, new Random(1));
+
+        assertThat(first).isEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("샷 횟수가 1 미만이면 예외가 발생한다")
+    void invalidShotsThrowsException() {
+        ShotSampler sampler = new ShotSampler(new double[]{1.0});
+
+        assertThatThrownBy(() -> sampler.sample(0, new Random()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("[ERROR]");
+    }
+}
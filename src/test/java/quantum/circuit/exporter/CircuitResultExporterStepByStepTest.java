@@ -15,6 +15,7 @@ import quantum.circuit.domain.circuit.QuantumCircuit;
 import quantum.circuit.domain.circuit.QuantumCircuitBuilder;
 import quantum.circuit.domain.gate.CNOTGate;
 import quantum.circuit.domain.gate.HadamardGate;
+import quantum.circuit.domain.gate.PauliXGate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -171,6 +172,29 @@ class CircuitResultExporterStepByStepTest {
         assertThat(json).doesNotContain("\"step\": 2");
     }
 
+    @Test
+    @DisplayName("깊은 회로도 단계마다 누적된 상태를 출력한다")
+    void exportDeepCircuitIncrementally() throws IOException {
+        // given
+        QuantumCircuitBuilder builder = new QuantumCircuitBuilder().withQubits(3);
+        for (int i = 0; i < 198; i++) {
+            builder.addStep(new CircuitStep(List.of(new HadamardGate(new QubitIndex(i % 3)))));
+        }
+        builder.addStep(new CircuitStep(List.of(new PauliXGate(new QubitIndex(0)))));
+        QuantumCircuit circuit = builder.build();
+
+        // when
+        CircuitResultExporter.exportStepByStep(circuit, "Deep Circuit", TEST_OUTPUT_PATH);
+
+        // then
+        String json = Files.readString(Path.of(TEST_OUTPUT_PATH));
+
+        // H를 큐비트마다 짝수 번 적용한 뒤 X(Q0)이므로 마지막 상태는 |001⟩
+        assertThat(json).contains("\"step\": 199");
+        assertThat(json).contains("\"description\": \"After X(Q0)\"");
+        assertThat(json).contains("\"001\": 1.000000");
+    }
+
     private QuantumCircuit createBellStateCircuit() {
         return new QuantumCircuitBuilder()
                 .withQubits(2)
@@ -4,9 +4,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -23,10 +26,18 @@ import quantum.circuit.domain.state.QuantumState;
 class CircuitResultExporterTest {
 
     private static final String TEST_OUTPUT_PATH = "test_output.json";
+    private static final String TEST_GZIP_OUTPUT_PATH = "test_output.json.gz";
 
     @AfterEach
     void cleanup() throws IOException {
         Files.deleteIfExists(Path.of(TEST_OUTPUT_PATH));
+        Files.deleteIfExists(Path.of(TEST_GZIP_OUTPUT_PATH));
+    }
+
+    private static String readGzip(String path) throws IOException {
+        try (InputStream input = new GZIPInputStream(Files.newInputStream(Path.of(path)))) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
     }
 
     @Test
@@ -97,4 +108,46 @@ class CircuitResultExporterTest {
         assertThrows(IllegalArgumentException.class,
                 () -> CircuitResultExporter.exportToJson(circuit, state, ""));
     }
+
+    @Test
+    @DisplayName("경로가 .gz로 끝나면 GZIP으로 압축해 저장한다")
+    void exportGzipWhenPathEndsWithGz() throws IOException {
+        // given
+        QuantumCircuit circuit = new QuantumCircuitBuilder()
+                .withQubits(2)
+                .addStep(new CircuitStep(List.of(
+                        new HadamardGate(new QubitIndex(0))
+                )))
+                .build();
+        QuantumState state = circuit.execute();
+
+        // when
+        CircuitResultExporter.exportToJson(circuit, state, "Gzip", TEST_GZIP_OUTPUT_PATH);
+
+        // then
+        String content = readGzip(TEST_GZIP_OUTPUT_PATH);
+        assertThat(content).contains("\"circuit_name\": \"Gzip\"");
+        assertThat(content).contains("\"00\": 0.500000");
+        assertThat(content).endsWith("}");
+    }
+
+    @Test
+    @DisplayName("gzip 옵션을 켜면 확장자와 관계없이 압축해 저장한다")
+    void exportStepByStepWithGzipOption() throws IOException {
+        // given
+        QuantumCircuit circuit = new QuantumCircuitBuilder()
+                .withQubits(2)
+                .addStep(new CircuitStep(List.of(
+                        new HadamardGate(new QubitIndex(0))
+                )))
+                .build();
+
+        // when
+        CircuitResultExporter.exportStepByStep(circuit, "Gzip", TEST_OUTPUT_PATH, true);
+
+        // then
+        String content = readGzip(TEST_OUTPUT_PATH);
+        assertThat(content).contains("\"step_states\"");
+        assertThat(content).contains("\"description\": \"After H(Q0)\"");
+    }
 }
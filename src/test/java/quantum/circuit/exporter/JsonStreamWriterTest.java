@@ -0,0 +1,86 @@
+package quantum.circuit.exporter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JsonStreamWriterTest {
+
+    private static String write(JsonWriting writing) throws IOException {
+        StringWriter output = new StringWriter();
+        try (JsonStreamWriter json = JsonStreamWriter.of(output)) {
+            writing.writeTo(json);
+        }
+        return output.toString();
+    }
+
+    @FunctionalInterface
+    private interface JsonWriting {
+        void writeTo(JsonStreamWriter json) throws IOException;
+    }
+
+    @Test
+    @DisplayName("실수를 String.format(\"%.6f\")와 같은 문자열로 쓴다")
+    void decimalMatchesStringFormat() throws IOException {
+        // given
+        double[] values = {0.0, -0.0, 1.0, 0.5, 0.4999999999999999, 0.0000005, 0.0000015,
+                0.9999995, 1e-300, -1e-7, 0.1234565, 123456.7890125, 1e12,
+                Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+
+        // when & then
+        for (double value : values) {
+            assertThat(write(json -> json.decimal(value)))
+                    .isEqualTo(String.format(Locale.ROOT, "%.6f", value));
+        }
+    }
+
+    @Test
+    @DisplayName("무작위 확률 값도 String.format(\"%.6f\")와 같은 문자열로 쓴다")
+    void decimalMatchesStringFormatForRandomProbabilities() throws IOException {
+        // given
+        Random random = new Random(42);
+
+        // when & then
+        for (int i = 0; i < 10_000; i++) {
+            double value = random.nextDouble();
+            assertThat(write(json -> json.decimal(value)))
+                    .isEqualTo(String.format(Locale.ROOT, "%.6f", value));
+        }
+    }
+
+    @Test
+    @DisplayName("basis state 레이블은 최상위 큐비트를 왼쪽에 쓴다")
+    void writeBasisLabel() throws IOException {
+        // when
+        String label = write(json -> json.basisLabel(1, 3));
+
+        // then
+        assertThat(label).isEqualTo("\"001\"");
+    }
+
+    @Test
+    @DisplayName("문자열의 따옴표와 제어 문자를 이스케이프한다")
+    void escapeString() throws IOException {
+        // when
+        String escaped = write(json -> json.string("a\"b\\c\nd\te"));
+
+        // then
+        assertThat(escaped).isEqualTo("\"a\\\"b\\\\c\\nd\\te\"");
+    }
+
+    @Test
+    @DisplayName("정수를 쓴다")
+    void writeInteger() throws IOException {
+        // when
+        String integers = write(json -> json.integer(0).raw(",").integer(-42).raw(",").integer(1024));
+
+        // then
+        assertThat(integers).isEqualTo("0,-42,1024");
+    }
+}
@@ -0,0 +1,65 @@
+package quantum.circuit.infrastructure.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ExecutorTypeTest {
+
+    @Test
+    @DisplayName("Executor 타입을 문자열로 찾는다")
+    void findExecutorTypeByString() {
+        assertThat(ExecutorType.from("strange")).isEqualTo(ExecutorType.STRANGE);
+        assertThat(ExecutorType.from("state-vector")).isEqualTo(ExecutorType.STATE_VECTOR);
+    }
+
+    @Test
+    @DisplayName("타입에 맞는 Executor를 생성한다")
+    void createExecutor() {
+        assertThat(ExecutorType.STRANGE.create(2)).isInstanceOf(StrangeQuantumExecutor.class);
+        assertThat(ExecutorType.STATE_VECTOR.create(2)).isInstanceOf(StateVectorQuantumExecutor.class);
+        assertThat(ExecutorType.SPARSE.create(2)).isInstanceOf(SparseQuantumExecutor.class);
+    }
+
+    @Test
+    @DisplayName("preview 백엔드는 기본 빌드에서 생성하면 예외가 발생한다")
+    void previewBackendsAreUnavailableInBaselineBuild() {
+        assertThatThrownBy(() -> ExecutorType.OFF_HEAP.create(2))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("[ERROR]");
+        assertThatThrownBy(() -> ExecutorType.STATE_VECTOR_SIMD.create(2))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("[ERROR]");
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 Executor는 예외를 발생시킨다")
+    void throwExceptionForUnsupportedExecutor() {
+        assertThatThrownBy(() -> ExecutorType.from("INVALID"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("[ERROR]");
+    }
+
+    @Test
+    @DisplayName("amplitude당 바이트 수로 예상 메모리를 계산한다")
+    void estimateBytes() {
+        assertThat(ExecutorType.STATE_VECTOR.estimateBytes(20)).isEqualTo(16L << 20);
+    }
+
+    @Test
+    @DisplayName("메모리 예산 안의 최대 큐비트 개수를 계산한다")
+    void maxQubitCountWithinBudget() {
+        long oneGigabyte = 1L << 30;
+
+        assertThat(ExecutorType.STATE_VECTOR.maxQubitCount(oneGigabyte)).isEqualTo(26);
+        assertThat(ExecutorType.STATE_VECTOR.maxQubitCount(Long.MAX_VALUE)).isEqualTo(29);
+    }
+
+    @Test
+    @DisplayName("희소 Executor는 메모리 예산과 무관하게 최대 지원 큐비트까지 허용한다")
+    void sparseIsNotLimitedByBudget() {
+        assertThat(ExecutorType.SPARSE.maxQubitCount(1024)).isEqualTo(62);
+    }
+}
@@ -0,0 +1,23 @@
+package quantum.circuit.infrastructure.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MemoryBudgetTest {
+
+    @Test
+    @DisplayName("힙 Executor는 힙 예산을 사용한다")
+    void heapExecutorsUseHeapBudget() {
+        assertThat(MemoryBudget.of(ExecutorType.STATE_VECTOR)).isEqualTo(MemoryBudget.heap());
+        assertThat(MemoryBudget.of(ExecutorType.STRANGE)).isEqualTo(MemoryBudget.heap());
+    }
+
+    @Test
+    @DisplayName("OFF_HEAP Executor는 힙 밖 메모리 예산을 사용한다")
+    void offHeapExecutorUsesOffHeapBudget() {
+        assertThat(MemoryBudget.of(ExecutorType.OFF_HEAP)).isEqualTo(MemoryBudget.offHeap());
+        assertThat(MemoryBudget.offHeap()).isPositive();
+    }
+}
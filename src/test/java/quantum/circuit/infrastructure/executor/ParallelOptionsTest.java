@@ -0,0 +1,52 @@
+package quantum.circuit.infrastructure.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ParallelOptionsTest {
+
+    @Test
+    @DisplayName("작업량이 청크 크기 이하이면 직렬로 실행한다")
+    void smallWorkRunsSerially() {
+        ParallelOptions options = new ParallelOptions(4, 1024);
+
+        assertThat(options.isParallel(1024)).isFalse();
+        assertThat(options.isParallel(2048)).isTrue();
+    }
+
+    @Test
+    @DisplayName("프로퍼티가 없으면 공용 풀의 병렬도를 기본값으로 쓴다")
+    void defaultParallelismMatchesCommonPool() {
+        ParallelOptions options = ParallelOptions.fromSystemProperties();
+
+        assertThat(options.parallelism()).isEqualTo(ForkJoinPool.getCommonPoolParallelism());
+        assertThat(options.usesCommonPool()).isTrue();
+    }
+
+    @Test
+    @DisplayName("직렬 설정은 병렬로 실행하지 않는다")
+    void serialOptionsNeverParallel() {
+        assertThat(ParallelOptions.serial().isParallel(Integer.MAX_VALUE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("병렬도가 1 미만이면 예외가 발생한다")
+    void invalidParallelismThrowsException() {
+        assertThatThrownBy(() -> new ParallelOptions(0, 1024))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("[ERROR]");
+    }
+
+    @Test
+    @DisplayName("청크 크기가 1 미만이면 예외가 발생한다")
+    void invalidChunkSizeThrowsException() {
+        assertThatThrownBy(() -> new ParallelOptions(4, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("[ERROR]");
+    }
+}
@@ -0,0 +1,54 @@
+package quantum.circuit.infrastructure.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ParallelRangeRunnerTest {
+
+    private static final int SIZE = 4096;
+
+    @Test
+    @DisplayName("병렬도가 공용 풀과 같으면 공용 풀에서 실행한다")
+    void commonPoolParallelismUsesCommonPool() {
+        int commonParallelism = ForkJoinPool.getCommonPoolParallelism();
+        ParallelRangeRunner runner = new ParallelRangeRunner(new ParallelOptions(commonParallelism, 64));
+        AtomicIntegerArray visited = new AtomicIntegerArray(SIZE);
+
+        runner.run(SIZE, (from, to) -> markVisited(visited, from, to));
+
+        assertThat(runner.pool()).isSameAs(ForkJoinPool.commonPool());
+        assertAllVisitedOnce(visited);
+    }
+
+    @Test
+    @DisplayName("병렬도가 공용 풀과 다르면 같은 병렬도의 Runner끼리 풀 하나를 공유한다")
+    void customParallelismSharesOnePool() {
+        ParallelOptions options = new ParallelOptions(ForkJoinPool.getCommonPoolParallelism() + 1, 64);
+        ParallelRangeRunner first = new ParallelRangeRunner(options);
+        ParallelRangeRunner second = new ParallelRangeRunner(options);
+        AtomicIntegerArray visited = new AtomicIntegerArray(SIZE);
+
+        first.run(SIZE, (from, to) -> markVisited(visited, from, to));
+
+        assertThat(first.pool()).isNotSameAs(ForkJoinPool.commonPool());
+        assertThat(first.pool()).isSameAs(second.pool());
+        assertAllVisitedOnce(visited);
+    }
+
+    private static void markVisited(AtomicIntegerArray visited, int from, int to) {
+        for (int i = from; i < to; i++) {
+            visited.incrementAndGet(i);
+        }
+    }
+
+    private static void assertAllVisitedOnce(AtomicIntegerArray visited) {
+        for (int i = 0; i < visited.length(); i++) {
+            assertThat(visited.get(i)).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package quantum.circuit.infrastructure.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import quantum.circuit.domain.circuit.QubitIndex;
+import quantum.circuit.domain.state.MeasurementResult;
+import quantum.circuit.domain.state.QuantumState;
+import quantum.circuit.domain.state.executor.QuantumExecutor;
+
+class SparseQuantumExecutorTest {
+
+    @Test
+    @DisplayName("초기 상태는 |0⟩이고 비어있다")
+    void initialState() {
+        QuantumExecutor executor = new SparseQuantumExecutor(2);
+
+        assertThat(executor.isEmpty()).isTrue();
+        assertThat(executor.getStateProbabilities().get("00")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Bell 상태의 basis state 확률을 계산한다")
+    void bellStateProbabilities() {
+        QuantumExecutor executor = new SparseQuantumExecutor(2);
+
+        executor.applyHadamardGate(new QubitIndex(0));
+        executor.applyCNOTGate(new QubitIndex(0), new QubitIndex(1));
+        executor.applyZGate(new QubitIndex(1));
+        Map<String, Double> probabilities = executor.getStateProbabilities();
+
+        assertThat(probabilities.get("00")).isCloseTo(0.5, within(1e-9));
+        assertThat(probabilities.get("11")).isCloseTo(0.5, within(1e-9));
+        assertThat(probabilities.get("01")).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("H를 두 번 적용하면 상쇄된 amplitude는 제거되고 원래 상태로 돌아온다")
+    void cancelledAmplitudesArePruned() {
+        SparseQuantumExecutor executor = new SparseQuantumExecutor(3, 1.0, 1e-24);
+        QubitIndex index = new QubitIndex(1);
+
+        executor.applyXGate(index);
+        executor.applyHadamardGate(index);
+        executor.applyHadamardGate(index);
+
+        assertThat(executor.measure(index)).isEqualTo(MeasurementResult.ONE);
+        assertThat(executor.getProbabilityArray()[0b010]).isCloseTo(1.0, within(1e-9));
+        assertThat(executor.isDense()).isFalse();
+    }
+
+    @Test
+    @DisplayName("40큐비트 GHZ 상태를 희소 표현으로 계산한다")
+    void ghzStateWithFortyQubits() {
+        QuantumState state = QuantumState.initialize(40, ExecutorType.SPARSE);
+
+        state.applyHadamardGate(new QubitIndex(0));
+        for (int i = 0; i < 39; i++) {
+            state.applyCNOTGate(new QubitIndex(i), new QubitIndex(i + 1));
+        }
+
+        assertThat(state.getProbabilityOfOne(new QubitIndex(39)).getValue()).isCloseTo(0.5, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("채움 비율이 기준을 넘으면 밀집 상태 벡터로 전환하고 같은 결과를 낸다")
+    void switchesToDenseWhenFilled() {
+        SparseQuantumExecutor sparse = new SparseQuantumExecutor(3, 0.5, 1e-24);
+        QuantumExecutor reference = new StateVectorQuantumExecutor(3);
+
+        for (int i = 0; i < 3; i++) {
+            sparse.applyHadamardGate(new QubitIndex(i));
+            reference.applyHadamardGate(new QubitIndex(i));
+        }
+        sparse.applyCNOTGate(new QubitIndex(0), new QubitIndex(2));
+        reference.applyCNOTGate(new QubitIndex(0), new QubitIndex(2));
+        sparse.applyZGate(new QubitIndex(2));
+        reference.applyZGate(new QubitIndex(2));
+
+        assertThat(sparse.isDense()).isTrue();
+        assertThat(sparse.getProbabilityArray()).containsExactly(reference.getProbabilityArray());
+    }
+
+    @Test
+    @DisplayName("밀집 상태 벡터가 메모리 예산을 넘으면 채움 비율을 넘어도 희소 표현을 유지한다")
+    void staysSparseWhenDenseStateExceedsBudget() {
+        long budgetBelowDense = ExecutorType.STATE_VECTOR.estimateBytes(3) - 1;
+        SparseQuantumExecutor sparse = new SparseQuantumExecutor(3, 0.5, 1e-24, new Random(), budgetBelowDense);
+        QuantumExecutor reference = new StateVectorQuantumExecutor(3);
+
+        for (int i = 0; i < 3; i++) {
+            sparse.applyHadamardGate(new QubitIndex(i));
+            reference.applyHadamardGate(new QubitIndex(i));
+        }
+
+        assertThat(sparse.isDense()).isFalse();
+        double[] expected = reference.getProbabilityArray();
+        double[] actual = sparse.getProbabilityArray();
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(actual[i]).isCloseTo(expected[i], within(1e-12));
+        }
+    }
+
+    @Test
+    @DisplayName("밀집 전환 비율이 범위를 벗어나면 예외가 발생한다")
+    void invalidFillRatioThrowsException() {
+        assertThatThrownBy(() -> new SparseQuantumExecutor(2, 0.0, 1e-24))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("[ERROR]");
+    }
+}
@@ -0,0 +1,126 @@
+package quantum.circuit.infrastructure.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import quantum.circuit.domain.circuit.QubitIndex;
+import quantum.circuit.domain.state.MeasurementResult;
+import quantum.circuit.domain.state.executor.QuantumExecutor;
+
+class StabilizerQuantumExecutorTest {
+
+    @Test
+    @DisplayName("초기 상태는 |0⟩이고 비어있다")
+    void initialState() {
+        QuantumExecutor executor = new StabilizerQuantumExecutor(2);
+
+        assertThat(executor.isEmpty()).isTrue();
+        assertThat(executor.getProbabilityOfOne(new QubitIndex(1)).getValue()).isEqualTo(0.0);
+        assertThat(executor.getStateProbabilities().get("00")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("X 게이트 적용 후 측정은 1이다")
+    void measureAfterXGate() {
+        QuantumExecutor executor = new StabilizerQuantumExecutor(1);
+        QubitIndex index = new QubitIndex(0);
+
+        executor.applyXGate(index);
+
+        assertThat(executor.measure(index)).isEqualTo(MeasurementResult.ONE);
+    }
+
+    @Test
+    @DisplayName("H-Z-H는 X와 같으므로 결정적으로 1이 측정된다")
+    void phaseIsTrackedThroughHadamard() {
+        QuantumExecutor executor = new StabilizerQuantumExecutor(1);
+        QubitIndex index = new QubitIndex(0);
+
+        executor.applyHadamardGate(index);
+        executor.applyZGate(index);
+        executor.applyHadamardGate(index);
+
+        assertThat(executor.getProbabilityOfOne(index).getValue()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Bell 상태의 basis state 확률을 계산한다")
+    void bellStateProbabilities() {
+        QuantumExecutor executor = new StabilizerQuantumExecutor(2);
+
+        executor.applyHadamardGate(new QubitIndex(0));
+        executor.applyCNOTGate(new QubitIndex(0), new QubitIndex(1));
+
+        assertThat(executor.getProbabilityOfOne(new QubitIndex(1)).getValue()).isEqualTo(0.5);
+        assertThat(executor.getStateProbabilities().get("00")).isEqualTo(0.5);
+        assertThat(executor.getStateProbabilities().get("11")).isEqualTo(0.5);
+        assertThat(executor.getStateProbabilities().get("01")).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("무작위 Clifford 회로의 확률 배열이 상태 벡터 결과와 같다")
+    void matchesStateVector() {
+        QuantumExecutor stabilizer = new StabilizerQuantumExecutor(4);
+        QuantumExecutor reference = new StateVectorQuantumExecutor(4);
+        Random random = new Random(11);
+
+        for (int i = 0; i < 60; i++) {
+            QubitIndex target = new QubitIndex(random.nextInt(4));
+            QubitIndex control = new QubitIndex((target.value() + 1 + random.nextInt(3)) % 4);
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    stabilizer.applyXGate(target);
+                    reference.applyXGate(target);
+                }
+                case 1 -> {
+                    stabilizer.applyHadamardGate(target);
+                    reference.applyHadamardGate(target);
+                }
+                case 2 -> {
+                    stabilizer.applyZGate(target);
+                    reference.applyZGate(target);
+                }
+                default -> {
+                    stabilizer.applyCNOTGate(control, target);
+                    reference.applyCNOTGate(control, target);
+                }
+            }
+        }
+
+        double[] expected = reference.getProbabilityArray();
+        double[] actual = stabilizer.getProbabilityArray();
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(actual[i]).isCloseTo(expected[i], within(1e-9));
+        }
+    }
+
+    @Test
+    @DisplayName("수천 큐비트 GHZ 상태를 계산한다")
+    void ghzStateWithThousandsOfQubits() {
+        int qubitCount = 2000;
+        QuantumExecutor executor = new StabilizerQuantumExecutor(qubitCount);
+
+        executor.applyHadamardGate(new QubitIndex(0));
+        for (int i = 0; i < qubitCount - 1; i++) {
+            executor.applyCNOTGate(new QubitIndex(i), new QubitIndex(i + 1));
+        }
+
+        assertThat(executor.getProbabilityOfOne(new QubitIndex(qubitCount - 1)).getValue()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("배열로 표현할 수 없는 큐비트 수에서 확률 배열을 요청하면 예외가 발생한다")
+    void probabilityArrayTooLarge() {
+        QuantumExecutor executor = new StabilizerQuantumExecutor(64);
+
+        assertThatThrownBy(executor::getProbabilityArray)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("[ERROR]");
+    }
+}
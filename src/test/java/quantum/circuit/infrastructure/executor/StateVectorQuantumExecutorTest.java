@@ -0,0 +1,286 @@
+package quantum.circuit.infrastructure.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import quantum.circuit.domain.circuit.CircuitStep;
+import quantum.circuit.domain.circuit.CompiledCircuit;
+import quantum.circuit.domain.circuit.QubitIndex;
+import quantum.circuit.domain.circuit.QuantumCircuit;
+import quantum.circuit.domain.gate.CNOTGate;
+import quantum.circuit.domain.gate.FusedGate;
+import quantum.circuit.domain.gate.HadamardGate;
+import quantum.circuit.domain.gate.PauliXGate;
+import quantum.circuit.domain.gate.PauliZGate;
+import quantum.circuit.domain.gate.QuantumGate;
+import quantum.circuit.domain.state.MeasurementResult;
+import quantum.circuit.domain.state.Probability;
+import quantum.circuit.domain.state.QuantumState;
+import quantum.circuit.domain.state.executor.QuantumExecutor;
+
+class StateVectorQuantumExecutorTest {
+
+    @Test
+    @DisplayName("초기 상태는 비어있다")
+    void initialStateIsEmpty() {
+        QuantumExecutor executor = new StateVectorQuantumExecutor(1);
+
+        assertThat(executor.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("게이트 적용 후 상태는 비어있지 않다")
+    void notEmptyAfterApplyingGate() {
+        QuantumExecutor executor = new StateVectorQuantumExecutor(1);
+
+        executor.applyXGate(new QubitIndex(0));
+
+        assertThat(executor.isEmpty()).isFalse();
+    }
+
+    @Test
+    @DisplayName("초기 상태의 확률은 0이다")
+    void initialProbabilityIsZero() {
+        QuantumExecutor executor = new StateVectorQuantumExecutor(1);
+
+        Probability probability = executor.getProbabilityOfOne(new QubitIndex(0));
+
+        assertThat(probability.getValue()).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("X 게이트 적용 후 확률은 1이다")
+    void xGateProbability() {
+        QuantumExecutor executor = new StateVectorQuantumExecutor(1);
+        QubitIndex index = new QubitIndex(0);
+
+        executor.applyXGate(index);
+
+        assertThat(executor.getProbabilityOfOne(index).getValue()).isEqualTo(1.0);
+        assertThat(executor.measure(index)).isEqualTo(MeasurementResult.ONE);
+    }
+
+    @Test
+    @DisplayName("Hadamard 게이트는 균등 중첩을 만든다")
+    void applyHadamardGate() {
+        QuantumExecutor executor = new StateVectorQuantumExecutor(1);
+        QubitIndex index = new QubitIndex(0);
+
+        executor.applyHadamardGate(index);
+
+        assertThat(executor.getProbabilityOfOne(index).getValue()).isCloseTo(0.5, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("H-Z-H는 X와 같은 결과를 만든다")
+    void hzhActsAsX() {
+        QuantumExecutor executor = new StateVectorQuantumExecutor(1);
+        QubitIndex index = new QubitIndex(0);
+
+        executor.applyHadamardGate(index);
+        executor.applyZGate(index);
+        executor.applyHadamardGate(index);
+
+        assertThat(executor.getProbabilityOfOne(index).getValue()).isCloseTo(1.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Bell 상태의 basis state 확률을 계산한다")
+    void bellStateProbabilities() {
+        QuantumExecutor executor = new StateVectorQuantumExecutor(2);
+
+        executor.applyHadamardGate(new QubitIndex(0));
+        executor.applyCNOTGate(new QubitIndex(0), new QubitIndex(1));
+        Map<String, Double> probabilities = executor.getStateProbabilities();
+
+        assertThat(probabilities).hasSize(4);
+        assertThat(probabilities.get("00")).isCloseTo(0.5, within(1e-9));
+        assertThat(probabilities.get("11")).isCloseTo(0.5, within(1e-9));
+        assertThat(probabilities.get("01")).isCloseTo(0.0, within(1e-9));
+        assertThat(probabilities.get("10")).isCloseTo(0.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("basis state 문자열은 최상위 큐비트가 왼쪽에 온다")
+    void basisStateOrdering() {
+        QuantumExecutor executor = new StateVectorQuantumExecutor(3);
+
+        executor.applyXGate(new QubitIndex(0));
+        Map<String, Double> probabilities = executor.getStateProbabilities();
+
+        assertThat(probabilities.get("001")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("확률 배열은 basis state 인덱스 순서로 확률을 담는다")
+    void probabilityArrayIsIndexedByBasisState() {
+        QuantumExecutor executor = new StateVectorQuantumExecutor(3);
+
+        executor.applyXGate(new QubitIndex(0));
+        executor.applyHadamardGate(new QubitIndex(2));
+        double[] probabilities = executor.getProbabilityArray();
+
+        assertThat(probabilities).hasSize(8);
+        assertThat(probabilities[0b001]).isCloseTo(0.5, within(1e-9));
+        assertThat(probabilities[0b101]).isCloseTo(0.5, within(1e-9));
+        assertThat(executor.getStateProbabilities().get("101")).isEqualTo(probabilities[0b101]);
+    }
+
+    @Test
+    @DisplayName("제어 큐비트가 |0⟩이면 CNOT은 아무 일도 하지 않는다")
+    void cnotWithZeroControl() {
+        QuantumExecutor executor = new StateVectorQuantumExecutor(2);
+
+        executor.applyCNOTGate(new QubitIndex(0), new QubitIndex(1));
+
+        assertThat(executor.getProbabilityOfOne(new QubitIndex(1)).getValue()).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("병렬 실행 결과는 직렬 실행 결과와 같다")
+    void parallelMatchesSerial() {
+        int qubitCount = 10;
+        QuantumExecutor parallel = new StateVectorQuantumExecutor(qubitCount, new ParallelOptions(4, 8));
+        QuantumExecutor serial = new StateVectorQuantumExecutor(qubitCount, ParallelOptions.serial());
+
+        for (QuantumExecutor executor : List.of(parallel, serial)) {
+            for (int i = 0; i < qubitCount; i++) {
+                executor.applyHadamardGate(new QubitIndex(i));
+            }
+            executor.applyZGate(new QubitIndex(3));
+            executor.applyCNOTGate(new QubitIndex(7), new QubitIndex(2));
+            executor.applyHadamardGate(new QubitIndex(3));
+            executor.applyXGate(new QubitIndex(9));
+            executor.applyCNOTGate(new QubitIndex(3), new QubitIndex(8));
+        }
+
+        assertThat(parallel.getStateProbabilities()).isEqualTo(serial.getStateProbabilities());
+    }
+
+    @Test
+    @DisplayName("여러 게이트 Step을 한 번에 적용한 결과는 게이트를 하나씩 적용한 결과와 같다")
+    void applyStepMatchesSequentialGates() {
+        CircuitStep superposition = new CircuitStep(List.of(
+                new HadamardGate(new QubitIndex(0)),
+                new HadamardGate(new QubitIndex(2)),
+                new PauliXGate(new QubitIndex(3))
+        ));
+        CircuitStep layer = new CircuitStep(List.of(
+                new PauliZGate(new QubitIndex(2)),
+                new CNOTGate(new QubitIndex(0), new QubitIndex(1)),
+                new HadamardGate(new QubitIndex(3))
+        ));
+        QuantumState batched = QuantumState.initialize(4, new StateVectorQuantumExecutor(4));
+        QuantumState sequential = QuantumState.initialize(4, new StateVectorQuantumExecutor(4));
+
+        batched.applyStep(superposition);
+        batched.applyStep(layer);
+        superposition.getGates().forEach(gate -> gate.apply(sequential));
+        layer.getGates().forEach(gate -> gate.apply(sequential));
+
+        assertThat(batched.getStateProbabilities()).isEqualTo(sequential.getStateProbabilities());
+        assertThat(batched.getStateProbabilities().get("1111")).isCloseTo(0.125, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("지역 커널이 모르는 게이트가 섞인 Step은 각 게이트의 apply로 적용한다")
+    void applyStepWithCustomGateFallsBackToGateApply() {
+        QuantumGate bitAndPhaseFlip = new BitAndPhaseFlipGate(new QubitIndex(1));
+        CircuitStep step = new CircuitStep(List.of(new HadamardGate(new QubitIndex(0)), bitAndPhaseFlip));
+        QuantumState state = QuantumState.initialize(2, new StateVectorQuantumExecutor(2));
+
+        step.applyTo(state);
+
+        assertThat(state.getProbabilityOfOne(new QubitIndex(0)).getValue()).isCloseTo(0.5, within(1e-12));
+        assertThat(state.getProbabilityOfOne(new QubitIndex(1)).getValue()).isCloseTo(1.0, within(1e-12));
+    }
+
+    /**
+     * 백엔드가 알지 못하는 사용자 정의 게이트 (X 다음 Z)
+     */
+    private record BitAndPhaseFlipGate(QubitIndex target) implements QuantumGate {
+
+        @Override
+        public void apply(QuantumState state) {
+            state.applyXGate(target);
+            state.applyZGate(target);
+        }
+
+        @Override
+        public int getQubitCount() {
+            return 1;
+        }
+
+        @Override
+        public String getName() {
+            return "XZ";
+        }
+
+        @Override
+        public Set<QubitIndex> getAffectedQubits() {
+            return Set.of(target);
+        }
+    }
+
+    @Test
+    @DisplayName("융합 게이트는 원래 게이트를 차례로 적용한 것과 같은 결과를 낸다")
+    void fusedGateMatchesSequentialGates() {
+        QubitIndex target = new QubitIndex(1);
+        FusedGate fused = new FusedGate(List.of(
+                new HadamardGate(target),
+                new PauliZGate(target),
+                new PauliXGate(target),
+                new HadamardGate(target)
+        ));
+        QuantumState fusedExecutor = QuantumState.initialize(3, new StateVectorQuantumExecutor(3));
+        QuantumState sequential = QuantumState.initialize(3, new StateVectorQuantumExecutor(3));
+        fusedExecutor.applyHadamardGate(new QubitIndex(0));
+        sequential.applyHadamardGate(new QubitIndex(0));
+        fusedExecutor.applyCNOTGate(new QubitIndex(0), target);
+        sequential.applyCNOTGate(new QubitIndex(0), target);
+
+        fusedExecutor.applyFusedGate(fused);
+        fused.getGates().forEach(gate -> gate.apply(sequential));
+
+        double[] expected = sequential.getProbabilityArray();
+        double[] actual = fusedExecutor.getProbabilityArray();
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(actual[i]).isCloseTo(expected[i], within(1e-12));
+        }
+    }
+
+    @Test
+    @DisplayName("컴파일된 프로그램 실행은 게이트를 하나씩 적용한 것과 같은 결과를 낸다")
+    void compiledProgramMatchesGateByGate() {
+        QubitIndex q0 = new QubitIndex(0);
+        QubitIndex q1 = new QubitIndex(1);
+        QubitIndex q2 = new QubitIndex(2);
+        FusedGate fused = new FusedGate(List.of(new HadamardGate(q2), new PauliZGate(q2)));
+        QuantumCircuit circuit = new QuantumCircuit(3, List.of(
+                new CircuitStep(List.of(new HadamardGate(q0), new PauliXGate(q1))),
+                new CircuitStep(List.of(new CNOTGate(q0, q2))),
+                new CircuitStep(List.of(fused)),
+                new CircuitStep(List.of(new PauliZGate(q1)))
+        ));
+        QuantumExecutor compiledExecutor = new StateVectorQuantumExecutor(3);
+        QuantumState compiled = QuantumState.initialize(3, compiledExecutor);
+        QuantumState sequential = QuantumState.initialize(3, new StateVectorQuantumExecutor(3));
+
+        compiled.run(CompiledCircuit.compile(circuit));
+        circuit.getSteps().forEach(step -> step.getGates().forEach(gate -> gate.apply(sequential)));
+
+        double[] expected = sequential.getProbabilityArray();
+        double[] actual = compiled.getProbabilityArray();
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(actual[i]).isCloseTo(expected[i], within(1e-12));
+        }
+        assertThat(compiledExecutor.isEmpty()).isFalse();
+    }
+}
@@ -1,13 +1,24 @@
 package quantum.circuit.infrastructure.executor;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.redfx.strange.Program;
+import org.redfx.strange.Result;
+import org.redfx.strange.local.SimpleQuantumExecutionEnvironment;
 
+import quantum.circuit.domain.circuit.CircuitStep;
 import quantum.circuit.domain.circuit.QubitIndex;
+import quantum.circuit.domain.gate.CNOTGate;
+import quantum.circuit.domain.gate.HadamardGate;
+import quantum.circuit.domain.gate.PauliXGate;
 import quantum.circuit.domain.state.MeasurementResult;
 import quantum.circuit.domain.state.Probability;
+import quantum.circuit.domain.state.QuantumState;
 import quantum.circuit.domain.state.executor.QuantumExecutor;
 
 class StrangeQuantumExecutorTest {
@@ -133,4 +144,110 @@ class StrangeQuantumExecutorTest {
 
         assertThat(executor.isEmpty()).isFalse();
     }
+
+    @Test
+    @DisplayName("여러 조회는 한 번의 프로그램 실행을 공유한다")
+    void queriesShareCachedResult() {
+        CountingEnvironment environment = new CountingEnvironment();
+        QuantumExecutor executor = new StrangeQuantumExecutor(3, environment);
+        executor.applyHadamardGate(new QubitIndex(0));
+        executor.applyCNOTGate(new QubitIndex(0), new QubitIndex(1));
+
+        for (int i = 0; i < 3; i++) {
+            executor.getProbabilityOfOne(new QubitIndex(i));
+        }
+        executor.measure(new QubitIndex(0));
+        executor.getStateProbabilities();
+
+        assertThat(environment.runCount).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("새 게이트가 추가되면 캐시가 무효화된다")
+    void newGateInvalidatesCache() {
+        CountingEnvironment environment = new CountingEnvironment();
+        QuantumExecutor executor = new StrangeQuantumExecutor(1, environment);
+        QubitIndex index = new QubitIndex(0);
+
+        executor.applyXGate(index);
+        Probability first = executor.getProbabilityOfOne(index);
+        executor.applyXGate(index);
+        Probability second = executor.getProbabilityOfOne(index);
+
+        assertThat(environment.runCount).isEqualTo(2);
+        assertThat(first.getValue()).isEqualTo(1.0);
+        assertThat(second.getValue()).isEqualTo(0.0);
+    }
+
+    private static class CountingEnvironment extends SimpleQuantumExecutionEnvironment {
+        int runCount = 0;
+        int lastStepCount = 0;
+
+        @Override
+        public Result runProgram(Program program) {
+            runCount++;
+            lastStepCount = program.getSteps().size();
+            return super.runProgram(program);
+        }
+    }
+
+    @Test
+    @DisplayName("여러 단일 큐비트 게이트 Step을 하나의 Strange Step으로 적용한다")
+    void applyMultiGateStep() {
+        CountingEnvironment environment = new CountingEnvironment();
+        QuantumExecutor executor = new StrangeQuantumExecutor(3, environment);
+        CircuitStep step = new CircuitStep(List.of(
+                new PauliXGate(new QubitIndex(0)),
+                new HadamardGate(new QubitIndex(1)),
+                new PauliXGate(new QubitIndex(2))
+        ));
+
+        executor.applyStep(step, QuantumState.initialize(3, executor));
+
+        assertThat(executor.getProbabilityOfOne(new QubitIndex(0)).getValue()).isEqualTo(1.0);
+        assertThat(executor.getProbabilityOfOne(new QubitIndex(1)).getValue()).isCloseTo(0.5, within(0.01));
+        assertThat(executor.getProbabilityOfOne(new QubitIndex(2)).getValue()).isEqualTo(1.0);
+        assertThat(environment.runCount).isEqualTo(1);
+        assertThat(environment.lastStepCount).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("인접하지 않은 CNOT이 섞인 Step은 게이트를 하나씩 적용해 StateVector와 같은 결과를 낸다")
+    void applyStepWithNonAdjacentCNOT() {
+        CountingEnvironment environment = new CountingEnvironment();
+        QuantumExecutor strange = new StrangeQuantumExecutor(3, environment);
+        QuantumExecutor stateVector = new StateVectorQuantumExecutor(3);
+        CircuitStep superposition = new CircuitStep(List.of(new HadamardGate(new QubitIndex(0))));
+        CircuitStep mixed = new CircuitStep(List.of(
+                new CNOTGate(new QubitIndex(0), new QubitIndex(2)),
+                new PauliXGate(new QubitIndex(1))
+        ));
+
+        for (QuantumExecutor executor : List.of(strange, stateVector)) {
+            QuantumState state = QuantumState.initialize(3, executor);
+            executor.applyStep(superposition, state);
+            executor.applyStep(mixed, state);
+        }
+
+        double[] expected = stateVector.getProbabilityArray();
+        double[] actual = strange.getProbabilityArray();
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(actual[i]).isCloseTo(expected[i], within(0.01));
+        }
+        assertThat(environment.runCount).isEqualTo(1);
+        assertThat(environment.lastStepCount).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("확률 배열은 basis state 인덱스 순서로 확률을 담는다")
+    void probabilityArrayIsIndexedByBasisState() {
+        QuantumExecutor executor = new StrangeQuantumExecutor(2);
+
+        double[] initial = executor.getProbabilityArray();
+        executor.applyXGate(new QubitIndex(1));
+        double[] flipped = executor.getProbabilityArray();
+
+        assertThat(initial[0]).isEqualTo(1.0);
+        assertThat(flipped[0b10]).isCloseTo(1.0, org.assertj.core.data.Offset.offset(0.01));
+    }
 }
@@ -0,0 +1,60 @@
+package quantum.circuit.infrastructure.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.List;
+
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import quantum.circuit.domain.circuit.CircuitStep;
+import quantum.circuit.domain.circuit.QubitIndex;
+import quantum.circuit.domain.circuit.QuantumCircuit;
+import quantum.circuit.domain.circuit.QuantumCircuitBuilder;
+import quantum.circuit.domain.gate.CNOTGate;
+import quantum.circuit.domain.gate.HadamardGate;
+
+class CircuitExecutionEventTest {
+
+    @Test
+    @DisplayName("회로 실행 한 번에 이벤트 하나를 회로 정보와 함께 기록한다")
+    void recordCircuitExecution() throws IOException {
+        QuantumCircuit circuit = new QuantumCircuitBuilder()
+                .withQubits(2)
+                .addStep(new CircuitStep(List.of(new HadamardGate(new QubitIndex(0)))))
+                .addStep(new CircuitStep(List.of(new CNOTGate(new QubitIndex(0), new QubitIndex(1)))))
+                .build();
+
+        List<RecordedEvent> events = JfrRecordings.named(
+                JfrRecordings.record(circuit::execute, CircuitExecutionEvent.NAME),
+                CircuitExecutionEvent.NAME
+        );
+
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getInt("qubitCount")).isEqualTo(2);
+        assertThat(event.getInt("stepCount")).isEqualTo(2);
+        assertThat(event.getInt("gateCount")).isEqualTo(2);
+        assertThat(event.getBoolean("clifford")).isTrue();
+    }
+
+    @Test
+    @DisplayName("설정에서 끈 이벤트는 기록하지 않는다")
+    void notRecordedWhenDisabled() throws IOException {
+        QuantumCircuit circuit = new QuantumCircuitBuilder()
+                .withQubits(1)
+                .addStep(new CircuitStep(List.of(new HadamardGate(new QubitIndex(0)))))
+                .build();
+
+        List<RecordedEvent> events = JfrRecordings.recordDisabled(
+                circuit::execute,
+                CircuitExecutionEvent.NAME,
+                CircuitStepEvent.NAME
+        );
+
+        assertThat(JfrRecordings.named(events, CircuitExecutionEvent.NAME)).isEmpty();
+        assertThat(JfrRecordings.named(events, CircuitStepEvent.NAME)).isEmpty();
+    }
+}
@@ -0,0 +1,65 @@
+package quantum.circuit.infrastructure.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import quantum.circuit.domain.circuit.CircuitStep;
+import quantum.circuit.domain.circuit.QubitIndex;
+import quantum.circuit.domain.circuit.QuantumCircuit;
+import quantum.circuit.domain.circuit.QuantumCircuitBuilder;
+import quantum.circuit.domain.gate.HadamardGate;
+import quantum.circuit.domain.gate.PauliXGate;
+
+class CircuitStepEventTest {
+
+    @Test
+    @DisplayName("Step마다 인덱스와 게이트 종류를 기록한다")
+    void recordEachStep() throws IOException {
+        QuantumCircuit circuit = new QuantumCircuitBuilder()
+                .withQubits(2)
+                .addStep(new CircuitStep(List.of(
+                        new HadamardGate(new QubitIndex(0)),
+                        new PauliXGate(new QubitIndex(1))
+                )))
+                .addStep(new CircuitStep(List.of(new HadamardGate(new QubitIndex(1)))))
+                .build();
+        String firstStepTypes = new HadamardGate(new QubitIndex(0)).getName()
+                + "," + new PauliXGate(new QubitIndex(1)).getName();
+
+        List<RecordedEvent> events = JfrRecordings.named(
+                JfrRecordings.record(circuit::execute, CircuitStepEvent.NAME),
+                CircuitStepEvent.NAME
+        ).stream()
+                .sorted(Comparator.comparingInt(event -> event.getInt("stepIndex")))
+                .toList();
+
+        assertThat(events).hasSize(2);
+        assertThat(events.get(0).getInt("stepIndex")).isEqualTo(0);
+        assertThat(events.get(0).getInt("qubitCount")).isEqualTo(2);
+        assertThat(events.get(0).getInt("gateCount")).isEqualTo(2);
+        assertThat(events.get(0).getString("gateTypes")).isEqualTo(firstStepTypes);
+        assertThat(events.get(1).getInt("stepIndex")).isEqualTo(1);
+        assertThat(events.get(1).getInt("gateCount")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Step 이벤트는 기본으로 꺼져 있어 회로 실행 이벤트만 기록한다")
+    void disabledByDefault() throws IOException {
+        QuantumCircuit circuit = new QuantumCircuitBuilder()
+                .withQubits(1)
+                .addStep(new CircuitStep(List.of(new HadamardGate(new QubitIndex(0)))))
+                .build();
+
+        List<RecordedEvent> events = JfrRecordings.record(circuit::execute);
+
+        assertThat(JfrRecordings.named(events, CircuitExecutionEvent.NAME)).hasSize(1);
+        assertThat(JfrRecordings.named(events, CircuitStepEvent.NAME)).isEmpty();
+    }
+}
@@ -0,0 +1,82 @@
+package quantum.circuit.infrastructure.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import quantum.circuit.domain.circuit.CircuitStep;
+import quantum.circuit.domain.circuit.QubitIndex;
+import quantum.circuit.domain.circuit.QuantumCircuit;
+import quantum.circuit.domain.circuit.QuantumCircuitBuilder;
+import quantum.circuit.domain.gate.HadamardGate;
+import quantum.circuit.exporter.CircuitResultExporter;
+
+class ExportEventTest {
+
+    private static final String TEST_OUTPUT_PATH = "test_jfr_export.json";
+    private static final String TEST_GZIP_OUTPUT_PATH = "test_jfr_export.json.gz";
+
+    @AfterEach
+    void cleanup() throws IOException {
+        Files.deleteIfExists(Path.of(TEST_OUTPUT_PATH));
+        Files.deleteIfExists(Path.of(TEST_GZIP_OUTPUT_PATH));
+    }
+
+    @Test
+    @DisplayName("JSON 내보내기를 파일 크기와 함께 기록한다")
+    void recordJsonExport() throws IOException {
+        QuantumCircuit circuit = createCircuit();
+
+        List<RecordedEvent> events = JfrRecordings.named(
+                JfrRecordings.record(
+                        () -> CircuitResultExporter.exportToJson(circuit, circuit.execute(), "jfr", TEST_OUTPUT_PATH),
+                        ExportEvent.NAME
+                ),
+                ExportEvent.NAME
+        );
+
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getString("format")).isEqualTo("json");
+        assertThat(event.getString("path")).isEqualTo(TEST_OUTPUT_PATH);
+        assertThat(event.getBoolean("gzip")).isFalse();
+        assertThat(event.getInt("qubitCount")).isEqualTo(1);
+        assertThat(event.getInt("stepCount")).isEqualTo(1);
+        assertThat(event.getLong("bytesWritten")).isEqualTo(Files.size(Path.of(TEST_OUTPUT_PATH)));
+    }
+
+    @Test
+    @DisplayName("gzip 내보내기는 압축된 파일 크기를 기록한다")
+    void recordCompressedSize() throws IOException {
+        QuantumCircuit circuit = createCircuit();
+
+        List<RecordedEvent> events = JfrRecordings.named(
+                JfrRecordings.record(
+                        () -> CircuitResultExporter.exportStepByStep(circuit, "jfr", TEST_GZIP_OUTPUT_PATH),
+                        ExportEvent.NAME
+                ),
+                ExportEvent.NAME
+        );
+
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getString("format")).isEqualTo("step_by_step");
+        assertThat(event.getBoolean("gzip")).isTrue();
+        assertThat(event.getLong("bytesWritten")).isEqualTo(Files.size(Path.of(TEST_GZIP_OUTPUT_PATH)));
+    }
+
+    private QuantumCircuit createCircuit() {
+        return new QuantumCircuitBuilder()
+                .withQubits(1)
+                .addStep(new CircuitStep(List.of(new HadamardGate(new QubitIndex(0)))))
+                .build();
+    }
+}
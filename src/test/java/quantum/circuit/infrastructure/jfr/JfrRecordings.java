@@ -0,0 +1,56 @@
+package quantum.circuit.infrastructure.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * 이벤트 설정을 바꾼 Recording으로 작업을 실행하고, 기록된 이벤트를 읽어 돌려주는 테스트 도구
+ */
+final class JfrRecordings {
+
+    private JfrRecordings() {
+    }
+
+    static List<RecordedEvent> record(Runnable action, String... enabledEvents) throws IOException {
+        return record(action, recording -> {
+            for (String event : enabledEvents) {
+                recording.enable(event).withoutThreshold();
+            }
+        });
+    }
+
+    static List<RecordedEvent> recordDisabled(Runnable action, String... disabledEvents) throws IOException {
+        return record(action, recording -> {
+            for (String event : disabledEvents) {
+                recording.disable(event);
+            }
+        });
+    }
+
+    private static List<RecordedEvent> record(Runnable action, Consumer<Recording> settings) throws IOException {
+        Path file = Files.createTempFile("quantum-jfr", ".jfr");
+        try (Recording recording = new Recording()) {
+            settings.accept(recording);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+    }
+}
@@ -0,0 +1,59 @@
+package quantum.circuit.infrastructure.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.List;
+
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import quantum.circuit.domain.circuit.CircuitStep;
+import quantum.circuit.domain.circuit.QubitIndex;
+import quantum.circuit.domain.circuit.QuantumCircuit;
+import quantum.circuit.domain.circuit.QuantumCircuitBuilder;
+import quantum.circuit.domain.gate.HadamardGate;
+import quantum.circuit.domain.gate.PauliXGate;
+import quantum.circuit.optimizer.IdentityGateRemover;
+import quantum.circuit.optimizer.OptimizationPipeline;
+import quantum.circuit.optimizer.RedundantGateRemover;
+
+class OptimizerPassEventTest {
+
+    @Test
+    @DisplayName("파이프라인의 최적화기마다 전후 게이트 수를 기록한다")
+    void recordEachPass() throws IOException {
+        RedundantGateRemover redundantGateRemover = new RedundantGateRemover();
+        IdentityGateRemover identityGateRemover = new IdentityGateRemover();
+        OptimizationPipeline pipeline = new OptimizationPipeline(
+                List.of(redundantGateRemover, identityGateRemover)
+        );
+        QuantumCircuit circuit = new QuantumCircuitBuilder()
+                .withQubits(1)
+                .addStep(new CircuitStep(List.of(new HadamardGate(new QubitIndex(0)))))
+                .addStep(new CircuitStep(List.of(new HadamardGate(new QubitIndex(0)))))
+                .addStep(new CircuitStep(List.of(new PauliXGate(new QubitIndex(0)))))
+                .build();
+
+        List<RecordedEvent> events = JfrRecordings.named(
+                JfrRecordings.record(() -> pipeline.optimize(circuit), OptimizerPassEvent.NAME),
+                OptimizerPassEvent.NAME
+        );
+
+        List<String> optimizers = events.stream()
+                .map(event -> event.getString("optimizer"))
+                .toList();
+        assertThat(optimizers).containsExactlyInAnyOrder(
+                        redundantGateRemover.getOptimizationName(),
+                        identityGateRemover.getOptimizationName()
+                );
+        RecordedEvent redundantPass = events.stream()
+                .filter(event -> event.getString("optimizer").equals(redundantGateRemover.getOptimizationName()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(redundantPass.getInt("qubitCount")).isEqualTo(1);
+        assertThat(redundantPass.getInt("gateCountBefore")).isEqualTo(3);
+        assertThat(redundantPass.getInt("gateCountAfter")).isEqualTo(1);
+    }
+}
@@ -0,0 +1,36 @@
+package quantum.circuit.infrastructure.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.List;
+
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import quantum.circuit.domain.circuit.QubitIndex;
+import quantum.circuit.infrastructure.executor.StrangeQuantumExecutor;
+
+class StrangeProgramRunEventTest {
+
+    @Test
+    @DisplayName("Strange 프로그램은 실제로 실행할 때 한 번만 기록한다")
+    void recordOnlyActualRun() throws IOException {
+        StrangeQuantumExecutor executor = new StrangeQuantumExecutor(2);
+        executor.applyHadamardGate(new QubitIndex(0));
+        executor.applyXGate(new QubitIndex(1));
+
+        List<RecordedEvent> events = JfrRecordings.named(
+                JfrRecordings.record(() -> {
+                    executor.getProbabilityOfOne(new QubitIndex(0));
+                    executor.getProbabilityOfOne(new QubitIndex(1));
+                }, StrangeProgramRunEvent.NAME),
+                StrangeProgramRunEvent.NAME
+        );
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getInt("qubitCount")).isEqualTo(2);
+        assertThat(events.get(0).getInt("stepCount")).isEqualTo(2);
+    }
+}
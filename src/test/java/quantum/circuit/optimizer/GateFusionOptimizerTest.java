@@ -1,16 +1,21 @@
 package quantum.circuit.optimizer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import quantum.circuit.algorithm.GroverAlgorithm;
 import quantum.circuit.domain.circuit.CircuitStep;
 import quantum.circuit.domain.circuit.QubitIndex;
 import quantum.circuit.domain.circuit.QuantumCircuit;
 import quantum.circuit.domain.circuit.QuantumCircuitBuilder;
+import quantum.circuit.domain.gate.CNOTGate;
+import quantum.circuit.domain.gate.FusedGate;
 import quantum.circuit.domain.gate.HadamardGate;
 import quantum.circuit.domain.gate.PauliXGate;
 import quantum.circuit.domain.gate.PauliZGate;
@@ -18,8 +23,8 @@ import quantum.circuit.domain.gate.PauliZGate;
 class GateFusionOptimizerTest {
 
     @Test
-    @DisplayName("현재는 최적화를 수행하지 않는다")
-    void noOptimizationYet() {
+    @DisplayName("같은 큐비트의 연속된 단일 큐비트 게이트를 하나의 융합 게이트로 합친다")
+    void fuseConsecutiveSingleQubitGates() {
         CircuitOptimizer optimizer = new GateFusionOptimizer();
         QuantumCircuit circuit = new QuantumCircuitBuilder()
                 .withQubits(1)
@@ -29,7 +34,76 @@ class GateFusionOptimizerTest {
 
         QuantumCircuit optimized = optimizer.optimize(circuit);
 
-        assertThat(optimized.getSteps()).hasSize(2);
+        assertThat(optimized.getSteps()).hasSize(1);
+        assertThat(optimized.getSteps().getFirst().getSingleGate()).isInstanceOf(FusedGate.class);
+    }
+
+    @Test
+    @DisplayName("H-Z-H는 X 행렬 하나로 융합된다")
+    void fuseHadamardZHadamardIntoX() {
+        CircuitOptimizer optimizer = new GateFusionOptimizer();
+        QuantumCircuit circuit = new QuantumCircuitBuilder()
+                .withQubits(1)
+                .addStep(new CircuitStep(List.of(new HadamardGate(new QubitIndex(0)))))
+                .addStep(new CircuitStep(List.of(new PauliZGate(new QubitIndex(0)))))
+                .addStep(new CircuitStep(List.of(new HadamardGate(new QubitIndex(0)))))
+                .build();
+
+        QuantumCircuit optimized = optimizer.optimize(circuit);
+        FusedGate fused = (FusedGate) optimized.getSteps().getFirst().getSingleGate();
+
+        assertThat(optimized.getTotalGateCount()).isEqualTo(1);
+        assertThat(fused.getGates()).hasSize(3);
+        assertThat(optimized.execute().getProbabilityOfOne(new QubitIndex(0)).getValue())
+                .isCloseTo(1.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("융합 결과가 항등 행렬이면 게이트를 제거한다")
+    void removeIdentityRun() {
+        CircuitOptimizer optimizer = new GateFusionOptimizer();
+        QuantumCircuit circuit = new QuantumCircuitBuilder()
+                .withQubits(1)
+                .addStep(new CircuitStep(List.of(new HadamardGate(new QubitIndex(0)))))
+                .addStep(new CircuitStep(List.of(new HadamardGate(new QubitIndex(0)))))
+                .build();
+
+        QuantumCircuit optimized = optimizer.optimize(circuit);
+
+        assertThat(optimized.getSteps()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다중 큐비트 게이트를 사이에 둔 게이트는 융합하지 않는다")
+    void multiQubitGateSeparatesRuns() {
+        CircuitOptimizer optimizer = new GateFusionOptimizer();
+        QuantumCircuit circuit = new QuantumCircuitBuilder()
+                .withQubits(2)
+                .addStep(new CircuitStep(List.of(new HadamardGate(new QubitIndex(0)))))
+                .addStep(new CircuitStep(List.of(new CNOTGate(new QubitIndex(0), new QubitIndex(1)))))
+                .addStep(new CircuitStep(List.of(new HadamardGate(new QubitIndex(0)))))
+                .build();
+
+        QuantumCircuit optimized = optimizer.optimize(circuit);
+
+        assertThat(optimized.getTotalGateCount()).isEqualTo(3);
+        assertThat(optimized.getSteps().get(1).getSingleGate()).isInstanceOf(CNOTGate.class);
+    }
+
+    @Test
+    @DisplayName("융합 전후 회로의 실행 결과가 같다")
+    void fusionPreservesResult() {
+        CircuitOptimizer optimizer = new GateFusionOptimizer();
+        GroverAlgorithm grover = new GroverAlgorithm();
+        QuantumCircuit circuit = grover.build(grover.getRequiredQubits());
+
+        QuantumCircuit optimized = optimizer.optimize(circuit);
+        Map<String, Double> expected = circuit.execute().getStateProbabilities();
+        Map<String, Double> actual = optimized.execute().getStateProbabilities();
+
+        assertThat(optimized.getTotalGateCount()).isLessThan(circuit.getTotalGateCount());
+        expected.forEach((state, probability) ->
+                assertThat(actual.get(state)).isCloseTo(probability, within(1e-9)));
     }
 
     @Test
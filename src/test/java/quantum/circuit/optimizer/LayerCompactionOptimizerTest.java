@@ -0,0 +1,129 @@
+package quantum.circuit.optimizer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import quantum.circuit.algorithm.GHZStateAlgorithm;
+import quantum.circuit.domain.circuit.CircuitStep;
+import quantum.circuit.domain.circuit.QubitIndex;
+import quantum.circuit.domain.circuit.QuantumCircuit;
+import quantum.circuit.domain.circuit.QuantumCircuitBuilder;
+import quantum.circuit.domain.gate.CNOTGate;
+import quantum.circuit.domain.gate.HadamardGate;
+import quantum.circuit.domain.gate.PauliXGate;
+import quantum.circuit.domain.gate.PauliZGate;
+import quantum.circuit.validator.GateCompatibilityValidator;
+
+class LayerCompactionOptimizerTest {
+
+    @Test
+    @DisplayName("서로 다른 큐비트의 게이트를 하나의 Step으로 합친다")
+    void packIndependentGatesIntoOneStep() {
+        CircuitOptimizer optimizer = new LayerCompactionOptimizer();
+        QuantumCircuit circuit = new QuantumCircuitBuilder()
+                .withQubits(3)
+                .addStep(new CircuitStep(List.of(new HadamardGate(new QubitIndex(0)))))
+                .addStep(new CircuitStep(List.of(new PauliXGate(new QubitIndex(1)))))
+                .addStep(new CircuitStep(List.of(new PauliZGate(new QubitIndex(2)))))
+                .build();
+
+        QuantumCircuit optimized = optimizer.optimize(circuit);
+
+        assertThat(optimized.getStepCount()).isEqualTo(1);
+        assertThat(optimized.getTotalGateCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("같은 큐비트의 게이트는 순서대로 다른 Step에 둔다")
+    void keepDependentGatesInOrder() {
+        CircuitOptimizer optimizer = new LayerCompactionOptimizer();
+        QuantumCircuit circuit = new QuantumCircuitBuilder()
+                .withQubits(2)
+                .addStep(new CircuitStep(List.of(new HadamardGate(new QubitIndex(0)))))
+                .addStep(new CircuitStep(List.of(new CNOTGate(new QubitIndex(0), new QubitIndex(1)))))
+                .addStep(new CircuitStep(List.of(new PauliXGate(new QubitIndex(1)))))
+                .build();
+
+        QuantumCircuit optimized = optimizer.optimize(circuit);
+
+        assertThat(optimized.getStepCount()).isEqualTo(3);
+        assertThat(optimized.getSteps().get(1).getSingleGate().getName()).isEqualTo("CNOT");
+    }
+
+    @Test
+    @DisplayName("게이트를 의존하는 게이트 바로 다음 Step으로 당긴다")
+    void moveGateToEarliestStep() {
+        CircuitOptimizer optimizer = new LayerCompactionOptimizer();
+        QuantumCircuit circuit = new QuantumCircuitBuilder()
+                .withQubits(3)
+                .addStep(new CircuitStep(List.of(new HadamardGate(new QubitIndex(0)))))
+                .addStep(new CircuitStep(List.of(new CNOTGate(new QubitIndex(0), new QubitIndex(1)))))
+                .addStep(new CircuitStep(List.of(new PauliXGate(new QubitIndex(2)))))
+                .build();
+
+        QuantumCircuit optimized = optimizer.optimize(circuit);
+
+        assertThat(optimized.getStepCount()).isEqualTo(2);
+        assertThat(optimized.getSteps().getFirst().getGateCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("압축한 회로는 게이트 호환성 검증을 통과하고 같은 결과를 낸다")
+    void compactedCircuitIsValidAndEquivalent() {
+        CircuitOptimizer optimizer = new LayerCompactionOptimizer();
+        QuantumCircuit circuit = new QuantumCircuitBuilder()
+                .withQubits(3)
+                .addStep(new CircuitStep(List.of(new HadamardGate(new QubitIndex(0)))))
+                .addStep(new CircuitStep(List.of(new PauliXGate(new QubitIndex(2)))))
+                .addStep(new CircuitStep(List.of(new CNOTGate(new QubitIndex(0), new QubitIndex(1)))))
+                .addStep(new CircuitStep(List.of(new HadamardGate(new QubitIndex(2)))))
+                .addStep(new CircuitStep(List.of(new CNOTGate(new QubitIndex(1), new QubitIndex(2)))))
+                .build();
+
+        QuantumCircuit optimized = optimizer.optimize(circuit);
+
+        assertThat(optimized.getStepCount()).isEqualTo(3);
+        assertThat(new GateCompatibilityValidator().validate(optimized).isValid()).isTrue();
+        for (int qubit = 0; qubit < 3; qubit++) {
+            assertThat(optimized.execute().getProbabilityOfOne(new QubitIndex(qubit)).getValue())
+                    .isCloseTo(circuit.execute().getProbabilityOfOne(new QubitIndex(qubit)).getValue(), within(1e-9));
+        }
+    }
+
+    @Test
+    @DisplayName("GHZ 회로의 첫 H와 CNOT 체인은 더 줄일 수 없다")
+    void ghzCircuitStaysSequential() {
+        CircuitOptimizer optimizer = new LayerCompactionOptimizer();
+        QuantumCircuit circuit = new GHZStateAlgorithm().build(3);
+
+        QuantumCircuit optimized = optimizer.optimize(circuit);
+
+        assertThat(optimized.getStepCount()).isEqualTo(circuit.getStepCount());
+    }
+
+    @Test
+    @DisplayName("빈 회로는 빈 회로로 반환한다")
+    void emptyCircuitRemainsEmpty() {
+        CircuitOptimizer optimizer = new LayerCompactionOptimizer();
+        QuantumCircuit circuit = new QuantumCircuitBuilder()
+                .withQubits(1)
+                .build();
+
+        QuantumCircuit optimized = optimizer.optimize(circuit);
+
+        assertThat(optimized.getSteps()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최적화 이름을 반환한다")
+    void returnOptimizationName() {
+        CircuitOptimizer optimizer = new LayerCompactionOptimizer();
+
+        assertThat(optimizer.getOptimizationName()).isEqualTo("Layer Compaction Optimizer");
+    }
+}
@@ -11,6 +11,8 @@ import quantum.circuit.domain.circuit.CircuitStep;
 import quantum.circuit.domain.circuit.QubitIndex;
 import quantum.circuit.domain.circuit.QuantumCircuit;
 import quantum.circuit.domain.circuit.QuantumCircuitBuilder;
+import quantum.circuit.domain.gate.CNOTGate;
+import quantum.circuit.domain.gate.FusedGate;
 import quantum.circuit.domain.gate.HadamardGate;
 import quantum.circuit.domain.gate.PauliXGate;
 import quantum.circuit.domain.gate.PauliZGate;
@@ -142,6 +144,140 @@ class RuleBasedOptimizerTest {
         assertThat(optimized.getSteps()).isEmpty();
     }
 
+    @Test
+    @DisplayName("다른 큐비트의 게이트를 사이에 둔 X-X 패턴도 제거한다")
+    void removeXXPatternAcrossOtherQubit() {
+        CircuitOptimizer optimizer = new RuleBasedOptimizer(
+                List.of(new ConsecutiveSameGateRule()),
+                "Test Optimizer"
+        );
+        QuantumCircuit circuit = new QuantumCircuitBuilder()
+                .withQubits(2)
+                .addStep(new CircuitStep(List.of(new PauliXGate(new QubitIndex(0)))))
+                .addStep(new CircuitStep(List.of(new PauliXGate(new QubitIndex(1)))))
+                .addStep(new CircuitStep(List.of(new PauliXGate(new QubitIndex(0)))))
+                .build();
+
+        QuantumCircuit optimized = optimizer.optimize(circuit);
+
+        assertThat(optimized.getSteps()).hasSize(1);
+        assertThat(optimized.getSteps().getFirst().getSingleGate().getAffectedQubits())
+                .containsExactly(new QubitIndex(1));
+    }
+
+    @Test
+    @DisplayName("같은 큐비트에 작용하는 CNOT은 상쇄를 막는다")
+    void keepGatesSeparatedByCNOT() {
+        CircuitOptimizer optimizer = new RuleBasedOptimizer(
+                List.of(new ConsecutiveSameGateRule()),
+                "Test Optimizer"
+        );
+        QuantumCircuit circuit = new QuantumCircuitBuilder()
+                .withQubits(2)
+                .addStep(new CircuitStep(List.of(new HadamardGate(new QubitIndex(0)))))
+                .addStep(new CircuitStep(List.of(new CNOTGate(new QubitIndex(0), new QubitIndex(1)))))
+                .addStep(new CircuitStep(List.of(new HadamardGate(new QubitIndex(0)))))
+                .build();
+
+        QuantumCircuit optimized = optimizer.optimize(circuit);
+
+        assertThat(optimized.getSteps()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("방향이 반대인 CNOT은 상쇄하지 않는다")
+    void keepReversedCNOTs() {
+        CircuitOptimizer optimizer = new RuleBasedOptimizer(
+                List.of(new ConsecutiveSameGateRule()),
+                "Test Optimizer"
+        );
+        QuantumCircuit circuit = new QuantumCircuitBuilder()
+                .withQubits(2)
+                .addStep(new CircuitStep(List.of(new CNOTGate(new QubitIndex(0), new QubitIndex(1)))))
+                .addStep(new CircuitStep(List.of(new CNOTGate(new QubitIndex(1), new QubitIndex(0)))))
+                .build();
+
+        QuantumCircuit optimized = optimizer.optimize(circuit);
+
+        assertThat(optimized.getSteps()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("방향이 같은 CNOT은 상쇄한다")
+    void removeSameDirectionCNOTs() {
+        CircuitOptimizer optimizer = new RuleBasedOptimizer(
+                List.of(new ConsecutiveSameGateRule()),
+                "Test Optimizer"
+        );
+        QuantumCircuit circuit = new QuantumCircuitBuilder()
+                .withQubits(2)
+                .addStep(new CircuitStep(List.of(new CNOTGate(new QubitIndex(1), new QubitIndex(0)))))
+                .addStep(new CircuitStep(List.of(new CNOTGate(new QubitIndex(1), new QubitIndex(0)))))
+                .build();
+
+        QuantumCircuit optimized = optimizer.optimize(circuit);
+
+        assertThat(optimized.getSteps()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("중첩된 X-Z-Z-X 패턴을 모두 제거한다")
+    void removeNestedPattern() {
+        CircuitOptimizer optimizer = new RuleBasedOptimizer(
+                List.of(new ConsecutiveSameGateRule()),
+                "Test Optimizer"
+        );
+        QuantumCircuit circuit = new QuantumCircuitBuilder()
+                .withQubits(1)
+                .addStep(new CircuitStep(List.of(new PauliXGate(new QubitIndex(0)))))
+                .addStep(new CircuitStep(List.of(new PauliZGate(new QubitIndex(0)))))
+                .addStep(new CircuitStep(List.of(new PauliZGate(new QubitIndex(0)))))
+                .addStep(new CircuitStep(List.of(new PauliXGate(new QubitIndex(0)))))
+                .build();
+
+        QuantumCircuit optimized = optimizer.optimize(circuit);
+
+        assertThat(optimized.getSteps()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("긴 회로도 한 번의 순회로 최적화한다")
+    void optimizeLongCircuitInSinglePass() {
+        CircuitOptimizer optimizer = new RuleBasedOptimizer(
+                List.of(new ConsecutiveSameGateRule()),
+                "Test Optimizer"
+        );
+        QuantumCircuitBuilder builder = new QuantumCircuitBuilder().withQubits(1);
+        for (int i = 0; i < 100_000; i++) {
+            builder.addStep(new CircuitStep(List.of(new HadamardGate(new QubitIndex(0)))));
+        }
+        builder.addStep(new CircuitStep(List.of(new PauliXGate(new QubitIndex(0)))));
+
+        QuantumCircuit optimized = optimizer.optimize(builder.build());
+
+        assertThat(optimized.getSteps()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("자기 역원이 아닌 융합 게이트는 제거하지 않는다")
+    void keepFusedGatePairs() {
+        CircuitOptimizer optimizer = new RuleBasedOptimizer(
+                List.of(new ConsecutiveSameGateRule()),
+                "Test Optimizer"
+        );
+        FusedGate fused = new FusedGate(List.of(
+                new HadamardGate(new QubitIndex(0)), new PauliZGate(new QubitIndex(0))));
+        QuantumCircuit circuit = new QuantumCircuitBuilder()
+                .withQubits(1)
+                .addStep(new CircuitStep(List.of(fused)))
+                .addStep(new CircuitStep(List.of(fused)))
+                .build();
+
+        QuantumCircuit optimized = optimizer.optimize(circuit);
+
+        assertThat(optimized.getSteps()).hasSize(2);
+    }
+
     @Test
     @DisplayName("빈 회로는 빈 회로로 반환한다")
     void emptyCircuitRemainsEmpty() {
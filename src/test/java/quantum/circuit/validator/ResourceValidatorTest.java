@@ -12,6 +12,7 @@ import quantum.circuit.domain.circuit.QubitIndex;
 import quantum.circuit.domain.circuit.QuantumCircuit;
 import quantum.circuit.domain.circuit.QuantumCircuitBuilder;
 import quantum.circuit.domain.gate.HadamardGate;
+import quantum.circuit.infrastructure.executor.ExecutorType;
 
 class ResourceValidatorTest {
 
@@ -113,4 +114,31 @@ class ResourceValidatorTest {
 
         assertThat(result.isValid()).isTrue();
     }
+
+    @Test
+    @DisplayName("메모리 제한 모드는 예상 메모리 사용량 이내의 회로를 통과시킨다")
+    void passWhenEstimatedMemoryWithinLimit() {
+        CircuitValidator validator = ResourceValidator.withMemoryLimit(16L << 20, ExecutorType.STATE_VECTOR);
+        QuantumCircuit circuit = new QuantumCircuitBuilder()
+                .withQubits(20)
+                .build();
+
+        ValidationResult result = validator.validate(circuit);
+
+        assertThat(result.isValid()).isTrue();
+    }
+
+    @Test
+    @DisplayName("메모리 제한 모드는 예상 메모리 사용량이 제한을 넘으면 실패한다")
+    void failWhenEstimatedMemoryExceedsLimit() {
+        CircuitValidator validator = ResourceValidator.withMemoryLimit(16L << 20, ExecutorType.STATE_VECTOR);
+        QuantumCircuit circuit = new QuantumCircuitBuilder()
+                .withQubits(21)
+                .build();
+
+        ValidationResult result = validator.validate(circuit);
+
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getMessage()).contains("리소스");
+    }
 }